@@ -0,0 +1,57 @@
+// src/jmh/java/com/bidwhist/benchmarks/DeckBenchmark.java
+
+package com.bidwhist.benchmarks;
+
+import com.bidwhist.model.Deck;
+import com.bidwhist.model.Player;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Shuffling and dealing the 54-card deck at the start of each hand */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+  private Deck deck;
+  private List<Player> players;
+
+  @Setup
+  public void setUp() {
+    deck = new Deck();
+    Collections.shuffle(deck.getCards(), new Random(EngineFixtures.SEED));
+    players = EngineFixtures.seatPlayers();
+  }
+
+  @Benchmark
+  public Deck shuffle() {
+    deck.shuffle();
+    return deck;
+  }
+
+  /* Includes clearing the previous deal, which is a handful of list clears */
+  @Benchmark
+  public List<Player> deal() {
+    for (Player player : players) {
+      player.getHand().getCards().clear();
+    }
+    deck.clearKitty();
+    deck.deal(players);
+    return players;
+  }
+}
@@ -0,0 +1,103 @@
+// src/jmh/java/com/bidwhist/benchmarks/EngineFixtures.java
+
+package com.bidwhist.benchmarks;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.Hand;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Suit;
+import com.bidwhist.model.Team;
+import com.bidwhist.testUtils.TestHands;
+import com.bidwhist.utils.HandUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Deterministic inputs shared by the benchmarks, so runs on different builds measure
+ * the same work. Every deal comes from a fixed seed; bidding hands come from TestHands.
+ */
+final class EngineFixtures {
+
+  static final long SEED = 20240601L;
+
+  private EngineFixtures() {}
+
+  /* A TestHands hand by its fixture name, held by a fresh player */
+  static Player playerWith(String handName) {
+    TestHands hands = new TestHands();
+    Hand hand =
+        switch (handName) {
+          case "noTrumpHigh" -> hands.getNoTrumpHighHand();
+          case "noTrumpLow" -> hands.getNoTrumpLowHand();
+          case "strongUptown" -> hands.getStrongUptownHand();
+          case "strongDowntown" -> hands.getStrongDowntownHand();
+          case "ambiguous" -> hands.getAmbiguousUptownDowntownHand();
+          case "unbridgeableGaps" -> hands.getUnbridgeableGapsHand();
+          default -> throw new IllegalArgumentException("Unknown TestHands fixture: " + handName);
+        };
+
+    Player player = new Player("Bench", true, PlayerPos.P1, Team.A);
+    player.getHand().addCards(new ArrayList<>(hand.getCards()));
+    return player;
+  }
+
+  /* Four players seated P1..P4, as GameService creates them */
+  static List<Player> seatPlayers() {
+    List<Player> players = new ArrayList<>();
+    players.add(new Player("P1", false, PlayerPos.P1, Team.A));
+    players.add(new Player("P2", true, PlayerPos.P2, Team.B));
+    players.add(new Player("P3", true, PlayerPos.P3, Team.A));
+    players.add(new Player("P4", true, PlayerPos.P4, Team.B));
+    return players;
+  }
+
+  /*
+   * A seeded deal in the PLAY phase of an Uptown spades contract, with P1 and P2
+   * already on the table so P3 is choosing a card mid-trick.
+   */
+  static GameState midTrickGame() {
+    GameState game = new GameState("bench");
+    Collections.shuffle(game.getDeck().getCards(), new Random(SEED));
+    game.setShuffledDeck(game.getDeck().getCards());
+    game.getPlayers().addAll(seatPlayers());
+    game.getDeck().deal(game.getPlayers());
+
+    FinalBid bid = new FinalBid(PlayerPos.P1, 5, false, false, BidType.UPTOWN, Suit.SPADES);
+    game.setWinningBid(bid);
+    game.setBidWinnerPos(PlayerPos.P1);
+    game.setBidType(BidType.UPTOWN);
+    game.setTrumpSuit(Suit.SPADES);
+    game.getDeck().assignTrumpSuitToJokers(Suit.SPADES);
+    game.setPhase(GamePhase.PLAY);
+
+    List<PlayedCard> trick = new ArrayList<>();
+    for (PlayerPos seat : List.of(PlayerPos.P1, PlayerPos.P2)) {
+      List<Card> hand = game.getPlayers().get(seat.ordinal()).getHand().getCards();
+      Card card = HandUtils.getPlayableHand(game, trick, hand).get(0);
+      hand.remove(card);
+      trick.add(new PlayedCard(seat, card));
+      game.addPlayedCard(card);
+    }
+    game.setCurrentTrick(trick);
+    game.setCurrentTurnIndex(PlayerPos.P3.ordinal());
+    return game;
+  }
+
+  /* A full four-card trick from the seeded deal, for trick winner evaluation */
+  static List<PlayedCard> fullTrick(GameState game) {
+    List<PlayedCard> trick = new ArrayList<>(game.getCurrentTrick());
+    for (PlayerPos seat : List.of(PlayerPos.P3, PlayerPos.P4)) {
+      List<Card> hand = game.getPlayers().get(seat.ordinal()).getHand().getCards();
+      trick.add(new PlayedCard(seat, HandUtils.getPlayableHand(game, trick, hand).get(0)));
+    }
+    return trick;
+  }
+}
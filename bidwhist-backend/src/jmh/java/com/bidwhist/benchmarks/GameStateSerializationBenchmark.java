@@ -0,0 +1,52 @@
+// src/jmh/java/com/bidwhist/benchmarks/GameStateSerializationBenchmark.java
+
+package com.bidwhist.benchmarks;
+
+import com.bidwhist.dto.GameStateResponse;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.service.DeckService;
+import com.bidwhist.service.GameService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Building a player's view of the game and writing it as the JSON the client receives */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateSerializationBenchmark {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private GameService service;
+  private GameState game;
+
+  @Setup
+  public void setUp() {
+    service = new GameService(new DeckService());
+    game = EngineFixtures.midTrickGame();
+  }
+
+  @Benchmark
+  public GameStateResponse getGameStateForPlayer() {
+    return service.getGameStateForPlayer(game, PlayerPos.P1);
+  }
+
+  @Benchmark
+  public String getGameStateForPlayerJson() throws JsonProcessingException {
+    return mapper.writeValueAsString(service.getGameStateForPlayer(game, PlayerPos.P1));
+  }
+}
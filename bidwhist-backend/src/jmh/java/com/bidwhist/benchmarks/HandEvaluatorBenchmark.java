@@ -0,0 +1,56 @@
+// src/jmh/java/com/bidwhist/benchmarks/HandEvaluatorBenchmark.java
+
+package com.bidwhist.benchmarks;
+
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.bidding.HandEvaluator;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Bid evaluation of a 12-card hand, as run for every AI bid */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluatorBenchmark {
+
+  @Param({"strongUptown", "strongDowntown", "noTrumpHigh", "ambiguous", "unbridgeableGaps"})
+  public String hand;
+
+  private Player player;
+  private HandEvaluator evaluated;
+
+  @Setup
+  public void setUp() {
+    player = EngineFixtures.playerWith(hand);
+    evaluated = new HandEvaluator(player);
+    evaluated.evaluateHand();
+  }
+
+  @Benchmark
+  public HandEvaluator evaluateHand() {
+    HandEvaluator evaluator = new HandEvaluator(player);
+    evaluator.evaluateHand();
+    return evaluator;
+  }
+
+  @Benchmark
+  public List<FinalBid> evaluateAll() {
+    return evaluated.evaluateAll(PlayerPos.P1);
+  }
+}
@@ -0,0 +1,60 @@
+// src/jmh/java/com/bidwhist/benchmarks/TrickPlayBenchmark.java
+
+package com.bidwhist.benchmarks;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.utils.AIUtils;
+import com.bidwhist.utils.HandUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/* Per-card work during the PLAY phase on a seeded mid-trick position */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrickPlayBenchmark {
+
+  private GameState game;
+  private List<PlayedCard> trick;
+  private List<PlayedCard> fullTrick;
+  private List<Card> hand;
+
+  @Setup
+  public void setUp() {
+    game = EngineFixtures.midTrickGame();
+    trick = game.getCurrentTrick();
+    fullTrick = EngineFixtures.fullTrick(game);
+    hand = game.getPlayers().get(PlayerPos.P3.ordinal()).getHand().getCards();
+  }
+
+  @Benchmark
+  public PlayedCard determineTrickWinner() {
+    return HandUtils.determineTrickWinner(game, fullTrick);
+  }
+
+  @Benchmark
+  public List<Card> getPlayableHand() {
+    return HandUtils.getPlayableHand(game, trick, hand);
+  }
+
+  @Benchmark
+  public Card getHardAIMove() {
+    return AIUtils.getHardAIMove(game, PlayerPos.P3, hand, trick);
+  }
+}
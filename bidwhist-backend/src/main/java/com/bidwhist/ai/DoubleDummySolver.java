@@ -0,0 +1,432 @@
+// src/main/java/com/bidwhist/ai/DoubleDummySolver.java
+
+package com.bidwhist.ai;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.utils.CardMask;
+import com.bidwhist.utils.CardOrdering;
+import com.bidwhist.utils.TrickEvaluator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * Perfect-information ("double dummy") trick solver: given all four hands as CardMask
+ * bitmasks, the bid and the lead, returns how many tricks each side takes with best play.
+ *
+ * - Alpha-beta search over "tricks for team A (P1/P3)"; A maximizes, B minimizes.
+ * - Transposition table at trick boundaries. Because the starting hands are fixed for a
+ *   solve, the set of cards still unplayed plus the leader identifies the position, so the
+ *   key is just that 54-bit mask with the leader in the top bits.
+ * - Equivalent cards: touching cards of one suit in the same hand (no unplayed card of
+ *   another hand between them) always produce the same result, so only one is searched.
+ *
+ * Reuse one instance per thread; it is not thread-safe. Solving a fresh deal only bumps a
+ * generation counter, so the table never needs clearing.
+ */
+public final class DoubleDummySolver {
+
+  /* Table entries (a power of two) */
+  private static final int TABLE_SIZE = 1 << 18;
+
+  private static final int MAX_PLIES = CardMask.DECK_SIZE + 4;
+  private static final int LEADER_SHIFT = 56;
+  private static final int WINNING_BONUS = 1 << 16;
+
+  private final Suit trumpSuit;
+  private final int mode;
+
+  /* Cards of each "effective suit", strongest first (jokers join trump in suited bids) */
+  private final long[] groupMasks;
+  private final int[][] groupOrder;
+
+  private final long[] tableKeys = new long[TABLE_SIZE];
+  private final int[] tableGeneration = new int[TABLE_SIZE];
+  private final byte[] tableLower = new byte[TABLE_SIZE];
+  private final byte[] tableUpper = new byte[TABLE_SIZE];
+  private int generation;
+
+  private final long[] hands = new long[4];
+  private final int[] trickIds = new int[4];
+  private final int[] trickSeats = new int[4];
+  private final int[][] moveBuffer = new int[MAX_PLIES][CardMask.DECK_SIZE];
+  private final int[] scoreBuffer = new int[CardMask.DECK_SIZE];
+  private int trickSize;
+  private int turn;
+  private Suit leadSuit;
+  private long nodes;
+
+  /* Side totals for a solved position */
+  public record Result(int teamATricks, int teamBTricks) {}
+
+  /*
+   * trumpSuit is ignored for No bids. Bid type picks uptown/downtown rank order as in Rank.
+   */
+  public DoubleDummySolver(Suit trumpSuit, BidType bidType, boolean isNo) {
+    this(isNo ? null : trumpSuit, Rank.modeIndex(bidType, isNo));
+  }
+
+  DoubleDummySolver(Suit trumpSuit, int mode) {
+    this.trumpSuit = trumpSuit;
+    this.mode = mode;
+
+    List<List<Integer>> groups = new ArrayList<>();
+    for (Suit suit : Suit.values()) {
+      groups.add(idsOf(CardMask.effectiveSuitMask(suit, trumpSuit)));
+    }
+    if (trumpSuit == null) {
+      groups.add(idsOf(CardMask.JOKERS));
+    }
+
+    this.groupMasks = new long[groups.size()];
+    this.groupOrder = new int[groups.size()][];
+    for (int g = 0; g < groups.size(); g++) {
+      List<Integer> ids = groups.get(g);
+      Suit suit = g < Suit.values().length ? Suit.values()[g] : null;
+      ids.sort(Comparator.comparingInt((Integer id) -> strength(id, suit)).reversed());
+      groupOrder[g] = ids.stream().mapToInt(Integer::intValue).toArray();
+      for (int id : groupOrder[g]) {
+        groupMasks[g] |= 1L << id;
+      }
+    }
+  }
+
+  /*
+   * Solves a deal from the start of a trick. All hands must hold the same number of cards.
+   */
+  public Result solve(long[] startingHands, PlayerPos leader) {
+    int size = Long.bitCount(startingHands[0]);
+    for (long hand : startingHands) {
+      if (Long.bitCount(hand) != size) {
+        throw new IllegalArgumentException("All hands must hold the same number of cards");
+      }
+    }
+    System.arraycopy(startingHands, 0, hands, 0, 4);
+    trickSize = 0;
+    turn = leader.ordinal();
+    leadSuit = null;
+
+    int teamA = searchRoot();
+    return new Result(teamA, size - teamA);
+  }
+
+  /*
+   * Solves the position held in a playout (possibly mid-trick) and returns the tricks
+   * team A takes from here on, counting the trick in progress.
+   */
+  int solveTeamA(PlayoutState state) {
+    System.arraycopy(state.hands, 0, hands, 0, 4);
+    System.arraycopy(state.trickIds, 0, trickIds, 0, 4);
+    System.arraycopy(state.trickSeats, 0, trickSeats, 0, 4);
+    trickSize = state.trickSize;
+    turn = state.turn;
+    leadSuit = state.leadSuit;
+    return searchRoot();
+  }
+
+  /* Whether this solver was built for the given bid, so a thread can keep reusing it */
+  boolean solves(Suit trump, int bidMode) {
+    return trumpSuit == trump && mode == bidMode;
+  }
+
+  /* Positions visited by the last solve, for benchmarking */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /*
+   * Finds the exact value with a binary search of null-window probes ("can team A take
+   * at least k tricks?"). Narrow windows cut far more than one full-window search, and
+   * the bounds each probe leaves in the table speed up the next one.
+   */
+  private int searchRoot() {
+    generation++;
+    nodes = 0;
+    int low = 0;
+    int high = (Long.bitCount(hands[0] | hands[1] | hands[2] | hands[3]) + trickSize) / 4;
+    while (low < high) {
+      int target = (low + high + 1) / 2;
+      if (search(0, target - 1, target) >= target) {
+        low = target;
+      } else {
+        high = target - 1;
+      }
+    }
+    return low;
+  }
+
+  /*
+   * Returns team A's tricks from this position (including the trick in progress),
+   * with fail-soft alpha-beta bounds.
+   */
+  private int search(int ply, int alpha, int beta) {
+    nodes++;
+    long key = 0;
+
+    if (trickSize == 0) {
+      long remaining = hands[0] | hands[1] | hands[2] | hands[3];
+      if (remaining == 0) {
+        return 0;
+      }
+
+      key = remaining | ((long) turn << LEADER_SHIFT);
+      int slot = slotOf(key);
+      if (tableGeneration[slot] == generation && tableKeys[slot] == key) {
+        int lower = tableLower[slot];
+        int upper = tableUpper[slot];
+        if (lower >= beta || lower == upper) {
+          return lower;
+        }
+        if (upper <= alpha) {
+          return upper;
+        }
+        alpha = Math.max(alpha, lower);
+        beta = Math.min(beta, upper);
+      }
+
+      // Quick tricks: cards the leader can cash without losing the lead
+      int tricksLeft = Long.bitCount(remaining) / 4;
+      int sure = quickTricks(remaining);
+      if (turn % 2 == 0) {
+        if (sure >= beta) {
+          return sure;
+        }
+      } else if (tricksLeft - sure <= alpha) {
+        return tricksLeft - sure;
+      }
+    }
+    int windowAlpha = alpha;
+    int windowBeta = beta;
+
+    boolean maximizing = turn % 2 == 0;
+    int[] moves = moveBuffer[ply];
+    int moveCount = generateMoves(moves);
+    if (moveCount == 0) {
+      return 0; // uneven hands: nothing left for this seat to play
+    }
+    int best = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+    for (int i = 0; i < moveCount; i++) {
+      int value = playAndSearch(ply, moves[i], alpha, beta);
+      if (maximizing) {
+        best = Math.max(best, value);
+        alpha = Math.max(alpha, value);
+      } else {
+        best = Math.min(best, value);
+        beta = Math.min(beta, value);
+      }
+      if (alpha >= beta) {
+        break;
+      }
+    }
+
+    if (key != 0) {
+      store(key, best, windowAlpha, windowBeta);
+    }
+    return best;
+  }
+
+  /*
+   * Leading from the top of a group wins while the leader still holds the next highest
+   * unplayed card. Only trump is safe in suited bids; every suit is in No bids.
+   */
+  private int quickTricks(long remaining) {
+    long hand = hands[turn];
+    int sure = 0;
+    for (int g = 0; g < Suit.values().length; g++) {
+      if (trumpSuit != null && Suit.values()[g] != trumpSuit) {
+        continue;
+      }
+      for (int id : groupOrder[g]) {
+        long bit = 1L << id;
+        if ((remaining & bit) == 0) {
+          continue;
+        }
+        if ((hand & bit) == 0) {
+          break;
+        }
+        sure++;
+      }
+    }
+    return sure;
+  }
+
+  private int playAndSearch(int ply, int id, int alpha, int beta) {
+    int seat = turn;
+    Suit savedLead = leadSuit;
+
+    hands[seat] &= ~(1L << id);
+    trickIds[trickSize] = id;
+    trickSeats[trickSize] = seat;
+    trickSize++;
+    if (leadSuit == null) {
+      leadSuit = suitWhenLed(id);
+    }
+
+    int value;
+    if (trickSize < 4) {
+      turn = (seat + 1) % 4;
+      value = search(ply + 1, alpha, beta);
+    } else {
+      int winner = TrickEvaluator.winnerIndex(trickIds, 4, leadSuit, trumpSuit, mode);
+      int winnerSeat = trickSeats[Math.max(winner, 0)];
+      int won = winnerSeat % 2 == 0 ? 1 : 0;
+
+      int id0 = trickIds[0], id1 = trickIds[1], id2 = trickIds[2];
+      int s0 = trickSeats[0], s1 = trickSeats[1], s2 = trickSeats[2];
+      Suit trickLead = leadSuit;
+
+      trickSize = 0;
+      leadSuit = null;
+      turn = winnerSeat;
+      value = won + search(ply + 1, alpha - won, beta - won);
+
+      trickIds[0] = id0;
+      trickIds[1] = id1;
+      trickIds[2] = id2;
+      trickSeats[0] = s0;
+      trickSeats[1] = s1;
+      trickSeats[2] = s2;
+      trickSize = 4;
+      leadSuit = trickLead;
+    }
+
+    trickSize--;
+    leadSuit = savedLead;
+    turn = seat;
+    hands[seat] |= 1L << id;
+    return value;
+  }
+
+  /*
+   * Writes the legal moves of the seat to play, one per run of equivalent cards,
+   * strongest first. Cards on the table in the current trick break a run.
+   */
+  private int generateMoves(int[] moves) {
+    long legal = CardMask.legalMoves(hands[turn], leadSuit, trumpSuit);
+    long live = hands[0] | hands[1] | hands[2] | hands[3];
+    for (int i = 0; i < trickSize; i++) {
+      live |= 1L << trickIds[i];
+    }
+
+    int count = 0;
+    for (int g = 0; g < groupOrder.length; g++) {
+      if ((legal & groupMasks[g]) == 0) {
+        continue;
+      }
+      boolean previousWasMine = false;
+      for (int id : groupOrder[g]) {
+        long bit = 1L << id;
+        if ((live & bit) == 0) {
+          continue; // already played in an earlier trick: does not separate cards
+        }
+        boolean mine = (legal & bit) != 0;
+        if (mine && !previousWasMine) {
+          moves[count++] = id;
+        }
+        previousWasMine = mine;
+      }
+    }
+    orderMoves(moves, count);
+    return count;
+  }
+
+  /*
+   * Orders moves so cutoffs come early: leads strongest first; when following, the
+   * cheapest card that takes the trick first unless partner is already winning,
+   * then the cheapest losing cards.
+   */
+  private void orderMoves(int[] moves, int count) {
+    int bestKey = CardOrdering.INELIGIBLE;
+    int winningSeat = -1;
+    for (int i = 0; i < trickSize; i++) {
+      int key = keyOf(trickIds[i]);
+      if (key > bestKey) {
+        bestKey = key;
+        winningSeat = trickSeats[i];
+      }
+    }
+    boolean partnerWinning = winningSeat >= 0 && winningSeat % 2 == turn % 2;
+
+    int[] scores = scoreBuffer;
+    for (int i = 0; i < count; i++) {
+      int key = keyOf(moves[i]);
+      int score;
+      if (trickSize == 0) {
+        score = key;
+      } else if (!partnerWinning && key > bestKey) {
+        score = WINNING_BONUS - key;
+      } else {
+        score = -key;
+      }
+
+      // Insertion sort, highest score first
+      int pos = i;
+      int id = moves[i];
+      while (pos > 0 && scores[pos - 1] < score) {
+        scores[pos] = scores[pos - 1];
+        moves[pos] = moves[pos - 1];
+        pos--;
+      }
+      scores[pos] = score;
+      moves[pos] = id;
+    }
+  }
+
+  private int keyOf(int id) {
+    Suit lead = leadSuit != null ? leadSuit : suitWhenLed(id);
+    return CardOrdering.trickKey(id, lead, trumpSuit, mode);
+  }
+
+  private void store(long key, int value, int alpha, int beta) {
+    int slot = slotOf(key);
+    int lower = 0;
+    int upper = Byte.MAX_VALUE;
+    if (tableGeneration[slot] == generation && tableKeys[slot] == key) {
+      lower = tableLower[slot];
+      upper = tableUpper[slot];
+    }
+    if (value <= alpha) {
+      upper = Math.min(upper, value);
+      lower = Math.min(lower, upper);
+    } else if (value >= beta) {
+      lower = Math.max(lower, value);
+      upper = Math.max(upper, lower);
+    } else {
+      lower = value;
+      upper = value;
+    }
+    tableKeys[slot] = key;
+    tableGeneration[slot] = generation;
+    tableLower[slot] = (byte) lower;
+    tableUpper[slot] = (byte) upper;
+  }
+
+  private static int slotOf(long key) {
+    long mixed = key * 0x9E3779B97F4A7C15L;
+    return (int) (mixed >>> 48) & (TABLE_SIZE - 1);
+  }
+
+  /* Strength of a card inside its effective suit group, for ordering runs */
+  private int strength(int id, Suit groupSuit) {
+    Suit lead = groupSuit != null ? groupSuit : suitWhenLed(id);
+    int key = CardOrdering.trickKey(id, lead, trumpSuit, mode);
+    return key == CardOrdering.INELIGIBLE ? CardOrdering.rankKey(CardMask.rankOf(id), mode) : key;
+  }
+
+  private Suit suitWhenLed(int id) {
+    Suit suit = CardMask.suitOf(id);
+    return suit != null ? suit : trumpSuit;
+  }
+
+  private static List<Integer> idsOf(long mask) {
+    List<Integer> ids = new ArrayList<>();
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      ids.add(Long.numberOfTrailingZeros(rest));
+    }
+    return ids;
+  }
+}
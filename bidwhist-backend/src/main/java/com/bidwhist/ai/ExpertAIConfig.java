@@ -0,0 +1,25 @@
+// src/main/java/com/bidwhist/ai/ExpertAIConfig.java
+
+package com.bidwhist.ai;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Applies the EXPERT search settings from application properties at startup.
+ */
+@Configuration
+public class ExpertAIConfig {
+
+  @Value("${bidwhist.ai.expert.samples:" + MonteCarloAI.DEFAULT_SAMPLES + "}")
+  private int samples;
+
+  @Value("${bidwhist.ai.expert.time-budget-ms:" + MonteCarloAI.DEFAULT_TIME_BUDGET_MS + "}")
+  private long timeBudgetMillis;
+
+  @PostConstruct
+  public void apply() {
+    MonteCarloAI.configure(samples, timeBudgetMillis);
+  }
+}
@@ -0,0 +1,115 @@
+// src/main/java/com/bidwhist/ai/HandSampler.java
+
+package com.bidwhist.ai;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/*
+ * Deals the cards a player cannot see into hidden hands of the right sizes
+ * (one "determinization" of the game). Each seat only receives cards it is allowed
+ * to hold, e.g. no cards of a suit it has shown out of. Cards left over after the
+ * hidden hands are full are the discarded kitty.
+ *
+ * Not thread-safe: use one sampler per worker thread.
+ */
+final class HandSampler {
+
+  /* Constrained deals attempted before void information is ignored */
+  private static final int MAX_ATTEMPTS = 20;
+
+  private static final int KITTY_SLOT = 4;
+
+  private final int[] pool;
+  private final int[] shuffled;
+  private final int[] capacity = new int[5];
+  private final int[] remaining = new int[5];
+  private final long[] allowed = new long[5];
+  private final long[] dealt = new long[5];
+
+  /*
+   * unknown: every card not visible to the searching player.
+   * need: number of hidden cards each seat holds (0 for the searching seat).
+   * allowedPerSeat: cards each seat may hold.
+   */
+  HandSampler(long unknown, int[] need, long[] allowedPerSeat) {
+    this.pool = new int[Long.bitCount(unknown)];
+    int index = 0;
+    for (long rest = unknown; rest != 0; rest &= rest - 1) {
+      pool[index++] = Long.numberOfTrailingZeros(rest);
+    }
+    this.shuffled = new int[pool.length];
+
+    int total = 0;
+    for (int seat = 0; seat < 4; seat++) {
+      capacity[seat] = need[seat];
+      allowed[seat] = allowedPerSeat[seat];
+      total += need[seat];
+    }
+    if (total > pool.length) {
+      throw new IllegalArgumentException(
+          "Hidden hands need " + total + " cards but only " + pool.length + " are unknown");
+    }
+    capacity[KITTY_SLOT] = pool.length - total;
+    allowed[KITTY_SLOT] = unknown;
+  }
+
+  /*
+   * Writes a random deal into out[seat] for every seat with hidden cards.
+   * Falls back to ignoring voids if no consistent deal is found quickly.
+   */
+  void sample(SplittableRandom rng, long[] out) {
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      if (tryDeal(rng, out, true)) {
+        return;
+      }
+    }
+    tryDeal(rng, out, false);
+  }
+
+  private boolean tryDeal(SplittableRandom rng, long[] out, boolean respectVoids) {
+    System.arraycopy(pool, 0, shuffled, 0, pool.length);
+    for (int i = shuffled.length - 1; i > 0; i--) {
+      int j = rng.nextInt(i + 1);
+      int swap = shuffled[i];
+      shuffled[i] = shuffled[j];
+      shuffled[j] = swap;
+    }
+
+    System.arraycopy(capacity, 0, remaining, 0, remaining.length);
+    Arrays.fill(dealt, 0L);
+
+    for (int id : shuffled) {
+      long bit = 1L << id;
+      int total = 0;
+      for (int slot = 0; slot < 5; slot++) {
+        if (remaining[slot] > 0 && (!respectVoids || (allowed[slot] & bit) != 0)) {
+          total += remaining[slot];
+        }
+      }
+      if (total == 0) {
+        return false;
+      }
+
+      // Pick a slot with probability proportional to its free space
+      int pick = rng.nextInt(total);
+      for (int slot = 0; slot < 5; slot++) {
+        if (remaining[slot] > 0 && (!respectVoids || (allowed[slot] & bit) != 0)) {
+          pick -= remaining[slot];
+          if (pick < 0) {
+            dealt[slot] |= bit;
+            remaining[slot]--;
+            break;
+          }
+        }
+      }
+    }
+
+    for (int seat = 0; seat < 4; seat++) {
+      if (capacity[seat] > 0) {
+        out[seat] = dealt[seat];
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,389 @@
+// src/main/java/com/bidwhist/ai/MonteCarloAI.java
+
+package com.bidwhist.ai;
+
+import com.bidwhist.model.Book;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Suit;
+import com.bidwhist.utils.AIUtils;
+import com.bidwhist.utils.CardMask;
+import com.bidwhist.utils.CardOrdering;
+import com.bidwhist.utils.HandUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * EXPERT play: determinized Monte Carlo search.
+ *
+ * Each sample deals the unseen cards into the other hands, consistent with the cards
+ * already played and the suits each player is known to be void in. Every legal card is
+ * then played out to the end of the hand with a fast rollout policy on that same deal,
+ * and the card with the most expected tricks for the AI's team is chosen.
+ *
+ * The position is captured from the game first (see capture), so the search itself
+ * never reads GameState and can run on another thread while the game moves on.
+ * Samples are split between the calling thread and helper tasks on a shared pool, one
+ * share per core, and stop at the per-move time budget. Interrupting the calling
+ * thread cancels the helpers too, so an abandoned decision stops sampling at once.
+ * Once few enough cards remain, each sample is solved exactly with the double-dummy
+ * solver instead of the rollout policy.
+ */
+public class MonteCarloAI {
+
+  public static final int DEFAULT_SAMPLES = 200;
+  public static final long DEFAULT_TIME_BUDGET_MS = 50;
+
+  private static volatile int samples = DEFAULT_SAMPLES;
+  private static volatile long timeBudgetMillis = DEFAULT_TIME_BUDGET_MS;
+
+  /* Cards left in the AI's hand at or below which samples are solved exactly */
+  static final int ENDGAME_CARDS = 6;
+
+  private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+  private static final ExecutorService HELPERS = createHelpers();
+  private static final ThreadLocal<DoubleDummySolver> SOLVERS = new ThreadLocal<>();
+
+  /*
+   * Everything the search needs to know about one seat's turn, copied out of the game.
+   * Holds no reference to GameState or its mutable lists.
+   */
+  public static final class Position {
+    private final int seat;
+    private final List<Card> hand;
+    private final Suit trumpSuit;
+    private final int mode;
+    private final int[] trickIds;
+    private final int[] trickSeats;
+    private final long played;
+    private final int[] handSizes;
+    private final int[] voidMasks;
+
+    private Position(
+        int seat,
+        List<Card> hand,
+        Suit trumpSuit,
+        int mode,
+        int[] trickIds,
+        int[] trickSeats,
+        long played,
+        int[] handSizes,
+        int[] voidMasks) {
+      this.seat = seat;
+      this.hand = hand;
+      this.trumpSuit = trumpSuit;
+      this.mode = mode;
+      this.trickIds = trickIds;
+      this.trickSeats = trickSeats;
+      this.played = played;
+      this.handSizes = handSizes;
+      this.voidMasks = voidMasks;
+    }
+  }
+
+  /*
+   * Sets the number of samples per move and the per-move time budget.
+   * Called once at startup from configuration.
+   */
+  public static void configure(int sampleCount, long budgetMillis) {
+    if (sampleCount < 1 || budgetMillis < 1) {
+      throw new IllegalArgumentException("Samples and time budget must be positive");
+    }
+    samples = sampleCount;
+    timeBudgetMillis = budgetMillis;
+  }
+
+  public static int getSamples() {
+    return samples;
+  }
+
+  public static long getTimeBudgetMillis() {
+    return timeBudgetMillis;
+  }
+
+  /*
+   * Chooses the card to play for the given seat. Falls back to the HARD heuristic
+   * if the game state cannot be sampled (e.g. inconsistent hand sizes).
+   */
+  public static Card chooseCard(
+      GameState game, PlayerPos seat, List<Card> hand, List<PlayedCard> trick) {
+    Position position = capture(game, seat, hand, trick);
+    return position != null ? chooseCard(position) : AIUtils.getHardAIMove(game, seat, hand, trick);
+  }
+
+  public static Card chooseCard(
+      GameState game,
+      PlayerPos seat,
+      List<Card> hand,
+      List<PlayedCard> trick,
+      int sampleCount,
+      long budgetMillis,
+      long seed) {
+    Position position = capture(game, seat, hand, trick);
+    return position != null
+        ? chooseCard(position, sampleCount, budgetMillis, seed)
+        : AIUtils.getHardAIMove(game, seat, hand, trick);
+  }
+
+  /*
+   * Copies the seat's turn out of the game: its hand, the cards already played, the
+   * trick in progress, every other seat's hand size and known voids, and the bid.
+   * Returns null if the hidden hands cannot be sampled (e.g. inconsistent hand sizes).
+   */
+  public static Position capture(
+      GameState game, PlayerPos seat, List<Card> hand, List<PlayedCard> trick) {
+    long played = 0L;
+    for (Book book : game.getCompletedTricks()) {
+      for (PlayedCard pc : book.getPlayedCards()) {
+        played |= CardMask.bitOf(pc.getCard());
+      }
+    }
+
+    int[] trickIds = new int[trick.size()];
+    int[] trickSeats = new int[trick.size()];
+    for (int i = 0; i < trick.size(); i++) {
+      PlayedCard pc = trick.get(i);
+      trickIds[i] = CardMask.idOf(pc.getCard());
+      trickSeats[i] = pc.getPlayer().ordinal();
+      played |= CardMask.bitOf(pc.getCard());
+    }
+
+    int[] handSizes = new int[4];
+    int[] voidMasks = new int[4];
+    for (Player p : game.getPlayers()) {
+      int s = p.getPosition().ordinal();
+      if (s != seat.ordinal()) {
+        handSizes[s] = p.getHand().getCards().size();
+        voidMasks[s] = HandUtils.getVoidMask(game, p.getPosition());
+      }
+    }
+
+    long unknown = CardMask.FULL_DECK & ~CardMask.maskOf(hand) & ~played;
+    if (handSizes[0] + handSizes[1] + handSizes[2] + handSizes[3] > Long.bitCount(unknown)) {
+      return null;
+    }
+    return new Position(
+        seat.ordinal(),
+        List.copyOf(hand),
+        CardOrdering.trumpOf(game),
+        CardOrdering.modeOf(game),
+        trickIds,
+        trickSeats,
+        played,
+        handSizes,
+        voidMasks);
+  }
+
+  /* Chooses the card for a captured position with the configured samples and budget */
+  public static Card chooseCard(Position position) {
+    return chooseCard(position, samples, timeBudgetMillis, ThreadLocalRandom.current().nextLong());
+  }
+
+  public static Card chooseCard(Position position, int sampleCount, long budgetMillis, long seed) {
+    PlayoutState base = new PlayoutState(position.trumpSuit, position.mode);
+    for (int i = 0; i < position.trickIds.length; i++) {
+      base.addTrickCard(position.trickSeats[i], position.trickIds[i]);
+    }
+
+    long myHand = CardMask.maskOf(position.hand);
+    base.turn = position.seat;
+    base.hands[position.seat] = myHand;
+
+    long legal = base.legalMoves();
+    if (Long.bitCount(legal) <= 1) {
+      return toHandCard(position.hand, CardMask.firstId(legal));
+    }
+
+    long unknown = CardMask.FULL_DECK & ~myHand & ~position.played;
+    int[] need = position.handSizes.clone();
+    long[] allowed = new long[4];
+    for (int s = 0; s < 4; s++) {
+      if (s != position.seat) {
+        allowed[s] = CardMask.excludeVoids(unknown, position.voidMasks[s], position.trumpSuit);
+      }
+    }
+
+    int[] candidates = candidatesCheapestFirst(base, legal);
+    double[] tricks =
+        search(base, candidates, unknown, need, allowed, sampleCount, budgetMillis, seed);
+
+    int best = 0;
+    for (int i = 1; i < candidates.length; i++) {
+      if (tricks[i] > tricks[best]) {
+        best = i;
+      }
+    }
+    return toHandCard(position.hand, candidates[best]);
+  }
+
+  /*
+   * Runs one share of the samples on the calling thread and the others on the helper
+   * pool, and returns total tricks per candidate. If the caller is interrupted, the
+   * helpers are cancelled and the totals gathered so far are returned.
+   */
+  private static double[] search(
+      PlayoutState base,
+      int[] candidates,
+      long unknown,
+      int[] need,
+      long[] allowed,
+      int sampleCount,
+      long budgetMillis,
+      long seed) {
+    long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+    int shares = Math.min(PARALLELISM, sampleCount);
+    int perShare = (sampleCount + shares - 1) / shares;
+
+    List<Future<double[]>> helpers = new ArrayList<>(shares - 1);
+    for (int w = 1; w < shares; w++) {
+      SplittableRandom rng = new SplittableRandom(seed + w);
+      helpers.add(
+          HELPERS.submit(
+              () ->
+                  runSamples(
+                      base, candidates, unknown, need, allowed, perShare, deadline, rng, false)));
+    }
+
+    try {
+      double[] totals =
+          runSamples(
+              base,
+              candidates,
+              unknown,
+              need,
+              allowed,
+              perShare,
+              deadline,
+              new SplittableRandom(seed),
+              true);
+      for (Future<double[]> helper : helpers) {
+        double[] tricks = helper.get();
+        for (int i = 0; i < totals.length; i++) {
+          totals[i] += tricks[i];
+        }
+      }
+      return totals;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new double[candidates.length];
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Expert AI search failed", e.getCause());
+    } finally {
+      for (Future<double[]> helper : helpers) {
+        helper.cancel(true);
+      }
+    }
+  }
+
+  /*
+   * Total tricks per candidate over one share of the samples, until the quota or the
+   * deadline; the caller's share always takes at least one sample. An interrupt (the
+   * decision was abandoned) stops the loop at once.
+   */
+  private static double[] runSamples(
+      PlayoutState base,
+      int[] candidates,
+      long unknown,
+      int[] need,
+      long[] allowed,
+      int quota,
+      long deadline,
+      SplittableRandom rng,
+      boolean atLeastOne) {
+    HandSampler sampler = new HandSampler(unknown, need, allowed);
+    PlayoutState work = base.copy();
+    long[] deal = base.hands.clone();
+    double[] tricks = new double[candidates.length];
+    int team = base.turn % 2;
+    DoubleDummySolver solver =
+        Long.bitCount(base.hands[base.turn]) <= ENDGAME_CARDS ? solverFor(base) : null;
+
+    int done = 0;
+    while (done < quota
+        && ((atLeastOne && done == 0) || System.nanoTime() < deadline)
+        && !Thread.currentThread().isInterrupted()) {
+      sampler.sample(rng, deal);
+      for (int i = 0; i < candidates.length; i++) {
+        work.copyFrom(base);
+        for (int s = 0; s < 4; s++) {
+          if (need[s] > 0) {
+            work.hands[s] = deal[s];
+          }
+        }
+        work.play(candidates[i]);
+        if (solver != null) {
+          int teamA = solver.solveTeamA(work);
+          int rest =
+              (Long.bitCount(work.hands[0] | work.hands[1] | work.hands[2] | work.hands[3])
+                      + work.trickSize)
+                  / 4;
+          tricks[i] += work.teamTricks[team] + (team == 0 ? teamA : rest - teamA);
+        } else {
+          work.rollout();
+          tricks[i] += work.teamTricks[team];
+        }
+      }
+      done++;
+    }
+    return tricks;
+  }
+
+  /* The worker thread's solver, rebuilt only when the bid changes */
+  private static DoubleDummySolver solverFor(PlayoutState base) {
+    DoubleDummySolver solver = SOLVERS.get();
+    if (solver == null || !solver.solves(base.trumpSuit, base.mode)) {
+      solver = new DoubleDummySolver(base.trumpSuit, base.mode);
+      SOLVERS.set(solver);
+    }
+    return solver;
+  }
+
+  /* Legal cards ordered cheapest first, so ties favour keeping stronger cards */
+  private static int[] candidatesCheapestFirst(PlayoutState base, long legal) {
+    int[] ids = new int[Long.bitCount(legal)];
+    int count = 0;
+    for (long rest = legal; rest != 0; rest &= rest - 1) {
+      int id = Long.numberOfTrailingZeros(rest);
+      int key = base.keyOf(id);
+      int pos = count++;
+      while (pos > 0 && base.keyOf(ids[pos - 1]) > key) {
+        ids[pos] = ids[pos - 1];
+        pos--;
+      }
+      ids[pos] = id;
+    }
+    return ids;
+  }
+
+  /* Maps a card id back to the actual Card object held in the hand */
+  private static Card toHandCard(List<Card> hand, int id) {
+    for (Card card : hand) {
+      if (CardMask.idOf(card) == id) {
+        return card;
+      }
+    }
+    throw new IllegalStateException(
+        "Expert AI chose card id " + id + " not found in hand: " + hand);
+  }
+
+  private static ExecutorService createHelpers() {
+    AtomicInteger counter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        PARALLELISM,
+        runnable -> {
+          Thread thread = new Thread(runnable, "expert-ai-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+}
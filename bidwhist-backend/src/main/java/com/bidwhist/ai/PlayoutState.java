@@ -0,0 +1,190 @@
+// src/main/java/com/bidwhist/ai/PlayoutState.java
+
+package com.bidwhist.ai;
+
+import com.bidwhist.model.Suit;
+import com.bidwhist.utils.CardMask;
+import com.bidwhist.utils.CardOrdering;
+import com.bidwhist.utils.TrickEvaluator;
+
+/*
+ * Primitive, mutable model of the rest of a hand for AI search.
+ * Hands are CardMask bitmasks indexed by PlayerPos ordinal; the trick in progress
+ * is held in small int arrays. Copying and playing a card never touch GameState.
+ *
+ * Seats 0/2 (P1/P3) are team 0 and seats 1/3 (P2/P4) are team 1.
+ */
+final class PlayoutState {
+
+  final long[] hands = new long[4];
+  final int[] trickIds = new int[4];
+  final int[] trickSeats = new int[4];
+  final int[] teamTricks = new int[2];
+  final Suit trumpSuit;
+  final int mode;
+
+  int trickSize;
+  int turn;
+  Suit leadSuit;
+
+  PlayoutState(Suit trumpSuit, int mode) {
+    this.trumpSuit = trumpSuit;
+    this.mode = mode;
+  }
+
+  PlayoutState copy() {
+    PlayoutState copy = new PlayoutState(trumpSuit, mode);
+    copy.copyFrom(this);
+    return copy;
+  }
+
+  /* Overwrites this state with another one of the same bid, without allocating */
+  void copyFrom(PlayoutState other) {
+    System.arraycopy(other.hands, 0, hands, 0, 4);
+    System.arraycopy(other.trickIds, 0, trickIds, 0, 4);
+    System.arraycopy(other.trickSeats, 0, trickSeats, 0, 4);
+    teamTricks[0] = other.teamTricks[0];
+    teamTricks[1] = other.teamTricks[1];
+    trickSize = other.trickSize;
+    turn = other.turn;
+    leadSuit = other.leadSuit;
+  }
+
+  /* Adds a card already on the table (from the real trick) */
+  void addTrickCard(int seat, int id) {
+    trickIds[trickSize] = id;
+    trickSeats[trickSize] = seat;
+    trickSize++;
+    updateLeadSuit(id);
+  }
+
+  boolean isFinished() {
+    return (hands[0] | hands[1] | hands[2] | hands[3]) == 0 && trickSize == 0;
+  }
+
+  long legalMoves() {
+    return CardMask.legalMoves(hands[turn], leadSuit, trumpSuit);
+  }
+
+  /*
+   * Plays a card for the seat to move. Completes the trick after the fourth card,
+   * crediting the winning team and handing the lead to the winner.
+   */
+  void play(int id) {
+    hands[turn] &= ~(1L << id);
+    trickIds[trickSize] = id;
+    trickSeats[trickSize] = turn;
+    trickSize++;
+    updateLeadSuit(id);
+
+    if (trickSize < 4) {
+      turn = (turn + 1) % 4;
+      return;
+    }
+
+    int winner = TrickEvaluator.winnerIndex(trickIds, 4, leadSuit, trumpSuit, mode);
+    int winnerSeat = trickSeats[Math.max(winner, 0)];
+    teamTricks[winnerSeat % 2]++;
+    turn = winnerSeat;
+    trickSize = 0;
+    leadSuit = null;
+  }
+
+  /* Seat currently winning the trick in progress, or -1 if no card has been played */
+  int winningSeat() {
+    int winner = TrickEvaluator.winnerIndex(trickIds, trickSize, leadSuit, trumpSuit, mode);
+    return winner < 0 ? -1 : trickSeats[winner];
+  }
+
+  int keyOf(int id) {
+    return CardOrdering.trickKey(id, leadSuitIfLed(id), trumpSuit, mode);
+  }
+
+  /*
+   * Fast rollout policy: lead the highest card; follow by winning as cheaply as
+   * possible unless partner already holds the trick, otherwise play the cheapest card.
+   */
+  int rolloutMove() {
+    long legal = legalMoves();
+    if (trickSize == 0) {
+      return highest(legal);
+    }
+
+    int bestKey = CardOrdering.INELIGIBLE;
+    for (int i = 0; i < trickSize; i++) {
+      bestKey = Math.max(bestKey, keyOf(trickIds[i]));
+    }
+    int winner = winningSeat();
+    if (winner >= 0 && winner % 2 == turn % 2) {
+      return lowest(legal);
+    }
+
+    int cheapestWinner = -1;
+    int cheapestKey = Integer.MAX_VALUE;
+    for (long rest = legal; rest != 0; rest &= rest - 1) {
+      int id = Long.numberOfTrailingZeros(rest);
+      int key = keyOf(id);
+      if (key > bestKey && key < cheapestKey) {
+        cheapestKey = key;
+        cheapestWinner = id;
+      }
+    }
+    return cheapestWinner >= 0 ? cheapestWinner : lowest(legal);
+  }
+
+  int lowest(long cards) {
+    int lowestId = -1;
+    int lowestKey = Integer.MAX_VALUE;
+    for (long rest = cards; rest != 0; rest &= rest - 1) {
+      int id = Long.numberOfTrailingZeros(rest);
+      int key = keyOf(id);
+      if (key < lowestKey) {
+        lowestKey = key;
+        lowestId = id;
+      }
+    }
+    return lowestId;
+  }
+
+  int highest(long cards) {
+    int highestId = -1;
+    int highestKey = Integer.MIN_VALUE;
+    for (long rest = cards; rest != 0; rest &= rest - 1) {
+      int id = Long.numberOfTrailingZeros(rest);
+      int key = keyOf(id);
+      if (key > highestKey) {
+        highestKey = key;
+        highestId = id;
+      }
+    }
+    return highestId;
+  }
+
+  /* Plays the rollout policy until every hand is empty (or a seat has no card left to play) */
+  void rollout() {
+    while (!isFinished()) {
+      int id = rolloutMove();
+      if (id < 0) {
+        return;
+      }
+      play(id);
+    }
+  }
+
+  /* Lead suit the trick would have after this card (a No-bid joker lead leaves it open) */
+  private Suit leadSuitIfLed(int id) {
+    return leadSuit != null ? leadSuit : suitWhenLed(id);
+  }
+
+  private void updateLeadSuit(int id) {
+    if (leadSuit == null) {
+      leadSuit = suitWhenLed(id);
+    }
+  }
+
+  /* Jokers carry the trump suit in suited bids and no suit in No bids */
+  private Suit suitWhenLed(int id) {
+    Suit suit = CardMask.suitOf(id);
+    return suit != null ? suit : trumpSuit;
+  }
+}
@@ -0,0 +1,280 @@
+// src/main/java/com/bidwhist/bidding/BidEstimator.java
+
+package com.bidwhist.bidding;
+
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Expected tricks for a suited contract, looked up by the shape of the bidder's hand.
+ *
+ * A hand is reduced to five features for each trump suit and direction: the direction,
+ * jokers held, trump length, the unbroken run from the top of trump, and the sum of the
+ * unbroken top runs in the three side suits. Each combination is one cell of a small
+ * table holding the average number of tricks the bidder's team took when that hand
+ * declared that contract in simulation (see BidTableBuilder), partner and opponents
+ * dealt at random.
+ *
+ * The table ships as the bid-estimates.tsv resource and is read once when this class
+ * loads. Cells the simulation never reached hold NaN and have no estimate.
+ */
+public final class BidEstimator {
+
+  private static final Logger log = LoggerFactory.getLogger(BidEstimator.class);
+
+  public static final String RESOURCE = "/bidding/bid-estimates.tsv";
+
+  /* Feature caps: longer trump, runs and side tops all fall in the top bucket */
+  public static final int MAX_TRUMP_LENGTH = 8;
+  public static final int MAX_TOP_RUN = 6;
+  public static final int MAX_SIDE_TOPS = 4;
+  public static final int MAX_JOKERS = 2;
+
+  private static final List<BidType> DIRECTIONS = List.of(BidType.UPTOWN, BidType.DOWNTOWN);
+
+  public static final int CELLS =
+      DIRECTIONS.size()
+          * (MAX_JOKERS + 1)
+          * (MAX_TRUMP_LENGTH + 1)
+          * (MAX_TOP_RUN + 1)
+          * (MAX_SIDE_TOPS + 1);
+
+  /* Tricks needed on top of the bid value to make a contract */
+  private static final int BOOK = 5;
+
+  private static final Suit[] SUITS = Suit.values();
+
+  /* Unbroken top run of every 13-bit rank mask, per direction */
+  private static final byte[] UPTOWN_TOP_RUNS = topRuns(HandEvaluator.UPTOWN_ORDER);
+  private static final byte[] DOWNTOWN_TOP_RUNS = topRuns(HandEvaluator.DOWNTOWN_ORDER);
+
+  private static final BidEstimator DEFAULT = loadDefault();
+
+  private final float[] expectedTricks;
+  private final float[] dominatedTricks;
+
+  public BidEstimator(float[] expectedTricks) {
+    if (expectedTricks.length != CELLS) {
+      throw new IllegalArgumentException(
+          "Expected " + CELLS + " cells, got " + expectedTricks.length);
+    }
+    this.expectedTricks = expectedTricks.clone();
+    this.dominatedTricks = dominatedMaxima(expectedTricks);
+  }
+
+  /* The table bundled with the server, or an empty one if the resource is missing */
+  public static BidEstimator getDefault() {
+    return DEFAULT;
+  }
+
+  /*
+   * Cell for a trump suit and direction. suitRankMasks holds one mask per suit (by
+   * ordinal) with bit (rank value - 2) set for each rank held, as in HandEvaluator.
+   */
+  public static int cellOf(int[] suitRankMasks, int jokers, Suit trump, BidType direction) {
+    int trumpMask = suitRankMasks[trump.ordinal()];
+    int trumpLength = Math.min(Integer.bitCount(trumpMask), MAX_TRUMP_LENGTH);
+    int topRun = Math.min(topRun(trumpMask, direction), MAX_TOP_RUN);
+    int sideTops = 0;
+    for (Suit suit : SUITS) {
+      if (suit != trump) {
+        sideTops += topRun(suitRankMasks[suit.ordinal()], direction);
+      }
+    }
+    return cellIndex(
+        direction,
+        Math.min(jokers, MAX_JOKERS),
+        trumpLength,
+        topRun,
+        Math.min(sideTops, MAX_SIDE_TOPS));
+  }
+
+  /* Cards held in an unbroken run from the top of a suit (ace down, or ace then two up) */
+  public static int topRun(int rankMask, BidType direction) {
+    return (direction == BidType.UPTOWN ? UPTOWN_TOP_RUNS : DOWNTOWN_TOP_RUNS)[rankMask];
+  }
+
+  private static byte[] topRuns(List<Rank> order) {
+    byte[] runs = new byte[1 << 13];
+    for (int rankMask = 0; rankMask < runs.length; rankMask++) {
+      int run = 0;
+      for (Rank rank : order) {
+        if ((rankMask & HandEvaluator.rankBit(rank)) == 0) {
+          break;
+        }
+        run++;
+      }
+      runs[rankMask] = (byte) run;
+    }
+    return runs;
+  }
+
+  /* Average tricks for the bidder's team, or NaN if the cell has no data */
+  public double expectedTricks(int cell) {
+    return expectedTricks[cell];
+  }
+
+  /*
+   * Best estimate among the cells this one dominates: same direction, and no more
+   * jokers, trump length, top run or side tops. A stronger shape never scores below a
+   * weaker one, even where its own cell is sparse or unseen. NaN if none has data.
+   */
+  public double dominatedExpectedTricks(int cell) {
+    return dominatedTricks[cell];
+  }
+
+  /*
+   * Highest bid value (4-7) the dominated expected tricks cover, 3 if none does, or -1
+   * if no dominated cell has an estimate. The raw cells are noisy where samples are few
+   * (a side top added can read lower), so a stronger hand never bids below a weaker one.
+   */
+  public int bidValue(int cell) {
+    float tricks = dominatedTricks[cell];
+    if (Float.isNaN(tricks)) {
+      return -1;
+    }
+    int value = Math.min((int) Math.floor(tricks) - BOOK, 7);
+    return value >= 4 ? value : 3;
+  }
+
+  /* Number of cells with an estimate */
+  public int size() {
+    int size = 0;
+    for (float tricks : expectedTricks) {
+      if (!Float.isNaN(tricks)) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /*
+   * Reads a table written by write(): tab-separated direction, jokers, trump length,
+   * top run, side tops and expected tricks, with # comment lines.
+   */
+  public static BidEstimator read(InputStream in) throws IOException {
+    float[] cells = new float[CELLS];
+    Arrays.fill(cells, Float.NaN);
+
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank() || line.startsWith("#")) {
+        continue;
+      }
+      String[] fields = line.split("\t");
+      if (fields.length < 6) {
+        throw new IOException("Malformed bid estimate line: " + line);
+      }
+      int cell =
+          cellIndex(
+              BidType.valueOf(fields[0]),
+              Integer.parseInt(fields[1]),
+              Integer.parseInt(fields[2]),
+              Integer.parseInt(fields[3]),
+              Integer.parseInt(fields[4]));
+      cells[cell] = Float.parseFloat(fields[5]);
+    }
+    return new BidEstimator(cells);
+  }
+
+  /* Writes expected tricks and sample counts in the format read() takes; NaN cells are left out */
+  public static void write(PrintWriter out, float[] expectedTricks, int[] samples) {
+    int cell = 0;
+    for (BidType direction : DIRECTIONS) {
+      for (int jokers = 0; jokers <= MAX_JOKERS; jokers++) {
+        for (int length = 0; length <= MAX_TRUMP_LENGTH; length++) {
+          for (int run = 0; run <= MAX_TOP_RUN; run++) {
+            for (int side = 0; side <= MAX_SIDE_TOPS; side++, cell++) {
+              if (!Float.isNaN(expectedTricks[cell])) {
+                out.printf(
+                    Locale.ROOT,
+                    "%s\t%d\t%d\t%d\t%d\t%.3f\t%d%n",
+                    direction,
+                    jokers,
+                    length,
+                    run,
+                    side,
+                    expectedTricks[cell],
+                    samples[cell]);
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static int cellIndex(
+      BidType direction, int jokers, int trumpLength, int topRun, int sideTops) {
+    if (!DIRECTIONS.contains(direction)
+        || jokers < 0
+        || jokers > MAX_JOKERS
+        || trumpLength < 0
+        || trumpLength > MAX_TRUMP_LENGTH
+        || topRun < 0
+        || topRun > MAX_TOP_RUN
+        || sideTops < 0
+        || sideTops > MAX_SIDE_TOPS) {
+      throw new IllegalArgumentException("Bid estimate cell out of range");
+    }
+    int cell = DIRECTIONS.indexOf(direction);
+    cell = cell * (MAX_JOKERS + 1) + jokers;
+    cell = cell * (MAX_TRUMP_LENGTH + 1) + trumpLength;
+    cell = cell * (MAX_TOP_RUN + 1) + topRun;
+    return cell * (MAX_SIDE_TOPS + 1) + sideTops;
+  }
+
+  /* Running maximum along each feature axis in turn, which covers every dominated cell */
+  private static float[] dominatedMaxima(float[] cells) {
+    float[] maxima = cells.clone();
+    int[] strides = {
+      (MAX_TRUMP_LENGTH + 1) * (MAX_TOP_RUN + 1) * (MAX_SIDE_TOPS + 1),
+      (MAX_TOP_RUN + 1) * (MAX_SIDE_TOPS + 1),
+      MAX_SIDE_TOPS + 1,
+      1
+    };
+    int[] sizes = {MAX_JOKERS + 1, MAX_TRUMP_LENGTH + 1, MAX_TOP_RUN + 1, MAX_SIDE_TOPS + 1};
+    for (int axis = 0; axis < strides.length; axis++) {
+      int stride = strides[axis];
+      for (int cell = 0; cell < CELLS; cell++) {
+        int position = (cell / stride) % sizes[axis];
+        if (position > 0) {
+          float below = maxima[cell - stride];
+          if (Float.isNaN(maxima[cell]) || below > maxima[cell]) {
+            maxima[cell] = below;
+          }
+        }
+      }
+    }
+    return maxima;
+  }
+
+  private static BidEstimator loadDefault() {
+    float[] empty = new float[CELLS];
+    Arrays.fill(empty, Float.NaN);
+    try (InputStream in = BidEstimator.class.getResourceAsStream(RESOURCE)) {
+      if (in == null) {
+        log.warn("No {} on the classpath; AI bids use the run rules", RESOURCE);
+        return new BidEstimator(empty);
+      }
+      BidEstimator estimator = read(in);
+      log.info("Loaded {} bid estimates", estimator.size());
+      return estimator;
+    } catch (IOException | IllegalArgumentException e) {
+      log.warn("Unreadable {}; AI bids use the run rules", RESOURCE, e);
+      return new BidEstimator(empty);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.bidwhist.bidding;
 
 import com.bidwhist.model.PlayerPos;
 import com.bidwhist.model.Suit;
+import java.util.Objects;
 
 /**
  * Represents a finalized bid in the game. Includes bid value (4–7), type (Uptown or Downtown),
@@ -67,6 +68,24 @@ public class FinalBid {
     return player + " bids " + value + (isNo ? " No" : "") + " " + type + " in " + suit;
   }
 
+  /** Two finalized bids are equal when every bid attribute matches. */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    FinalBid other = (FinalBid) o;
+    return value == other.value
+        && isNo == other.isNo
+        && player == other.player
+        && type == other.type
+        && suit == other.suit;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(player, value, isNo, type, suit);
+  }
+
   // Getters
   public PlayerPos getPlayer() {
     return player;
@@ -12,10 +12,13 @@ package com.bidwhist.bidding;
  */
 
 import com.bidwhist.model.*;
+import com.bidwhist.utils.CardMask;
 import com.bidwhist.utils.JokerUtils;
 import com.bidwhist.utils.PlayerUtils;
 import java.util.*;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Evaluates a player's hand for possible bids. Handles per-suit evaluation (Uptown/Downtown) and
@@ -23,9 +26,12 @@ import java.util.stream.Collectors;
  */
 public class HandEvaluator {
 
+  private static final Logger log = LoggerFactory.getLogger(HandEvaluator.class);
+
   private final List<Card> cards;
   private final int jokerCount;
   private final Map<Suit, List<Card>> suits;
+  private final int[] suitRankMasks = new int[Suit.values().length];
 
   private List<SuitEvaluation> suitEvals;
   private int noUptown;
@@ -64,24 +70,85 @@ public class HandEvaluator {
           Rank.QUEEN,
           Rank.KING);
 
+  /*
+   * Bid tier (3-7) of every suit holding, for each direction: indexed by
+   * jokers << 13 | rank mask, where bit (rank value - 2) is set for each rank held,
+   * as in CardMask. 3 x 8192 entries per direction, so a suit evaluation is one load.
+   */
+  private static final int RANK_BITS = 13;
+  private static final int MAX_JOKERS = 2;
+  private static final byte[] UPTOWN_STRENGTH = buildStrengthTable(UPTOWN_ORDER);
+  private static final byte[] DOWNTOWN_STRENGTH = buildStrengthTable(DOWNTOWN_ORDER);
+
   /** Binds this evaluator to a specific player's hand. */
   public HandEvaluator(Player player) {
-    this.cards = player.getHand().getCards();
-    this.jokerCount = JokerUtils.countJokers(player.getHand());
+    this(player.getHand().getCards());
+  }
+
+  /** Binds this evaluator to a copy of the given cards. */
+  public HandEvaluator(List<Card> hand) {
+    this.cards = List.copyOf(hand);
+    this.jokerCount =
+        (int) cards.stream().filter(card -> JokerUtils.isJokerRank(card.getRank())).count();
 
     List<Card> nonJokers =
         cards.stream().filter(card -> !card.getRank().name().contains("JOKER")).toList();
 
     this.suits = splitBySuit(nonJokers);
+    for (Card card : nonJokers) {
+      if (card.getSuit() != null) {
+        suitRankMasks[card.getSuit().ordinal()] |= rankBit(card.getRank());
+      }
+    }
+  }
+
+  /**
+   * Returns the evaluated hand for these cards from the game's per-deal cache, evaluating it on
+   * first use. The key is the card set (CardMask), so the bid, the forced bid and kitty analysis of
+   * the same cards share one evaluation. Must run on the game's lane.
+   */
+  public static HandEvaluator cached(GameState game, List<Card> hand) {
+    return game.getHandEvaluations()
+        .computeIfAbsent(
+            CardMask.maskOf(hand),
+            signature -> {
+              HandEvaluator evaluator = new HandEvaluator(hand);
+              evaluator.evaluateHand();
+              return evaluator;
+            });
   }
 
   /** Performs all evaluations (suit strength + No Trump potential). */
   public void evaluateHand() {
-    this.suitEvals = evaluateAllSuits(suits, jokerCount);
+    this.suitEvals = estimateSuits(evaluateAllSuits(suits, jokerCount));
     this.noUptown = evaluateNoBidHigh(suits);
     this.noDowntown = evaluateNoBidLow(suits);
   }
 
+  /*
+   * Swaps each suit's run-rule strengths for the bid the simulated expected tricks
+   * support (BidEstimator), wherever the table has an estimate for the hand's shape.
+   */
+  private List<SuitEvaluation> estimateSuits(List<SuitEvaluation> evaluations) {
+    BidEstimator estimator = BidEstimator.getDefault();
+    List<SuitEvaluation> estimated = new ArrayList<>(evaluations.size());
+    for (SuitEvaluation eval : evaluations) {
+      int high =
+          estimator.bidValue(
+              BidEstimator.cellOf(suitRankMasks, jokerCount, eval.getSuit(), BidType.UPTOWN));
+      int low =
+          estimator.bidValue(
+              BidEstimator.cellOf(suitRankMasks, jokerCount, eval.getSuit(), BidType.DOWNTOWN));
+      estimated.add(
+          new SuitEvaluation(
+              eval.getSuit(),
+              high < 0 ? eval.getUptownStrength() : high,
+              low < 0 ? eval.getDowntownStrength() : low,
+              eval.getCardCount()));
+    }
+    return estimated;
+  }
+
   /**
    * Returns all valid bids the hand could support. Includes suit-based Uptown/Downtown bids and No
    * Trump bids.
@@ -108,9 +175,7 @@ public class HandEvaluator {
       }
     }
 
-    for (FinalBid bid : bidOptions) {
-      System.out.println(bid.toString());
-    }
+    log.debug("Bid options for {}: {}", player, bidOptions);
     return bidOptions;
   }
 
@@ -129,10 +194,13 @@ public class HandEvaluator {
     List<SuitEvaluation> results = new ArrayList<>();
     for (Suit suit : suits.keySet()) {
       List<Card> cards = suits.get(suit);
-      List<Rank> ranks = cards.stream().map(Card::getRank).toList();
+      int rankMask = 0;
+      for (Card card : cards) {
+        rankMask |= rankBit(card.getRank());
+      }
 
-      int high = evaluateRun(ranks, jokerCount, UPTOWN_ORDER);
-      int low = evaluateRun(ranks, jokerCount, DOWNTOWN_ORDER);
+      int high = evaluateRun(rankMask, jokerCount, UPTOWN_ORDER);
+      int low = evaluateRun(rankMask, jokerCount, DOWNTOWN_ORDER);
 
       results.add(new SuitEvaluation(suit, high, low, cards.size()));
     }
@@ -150,32 +218,63 @@ public class HandEvaluator {
    * @return Recommended bid value (4–7). Returns 3 if hand is not bid-worthy.
    */
   public static int evaluateRun(List<Rank> ranksInSuit, int jokers, List<Rank> order) {
-    List<Rank> workingList = new ArrayList<>(order);
-    List<Rank> kept = new ArrayList<>();
+    int rankMask = 0;
+    for (Rank rank : ranksInSuit) {
+      rankMask |= rankBit(rank);
+    }
+    return evaluateRun(rankMask, jokers, order);
+  }
+
+  /**
+   * Same as {@link #evaluateRun(List, int, List)} for a suit given as a rank mask (bit rank value
+   * - 2 set per rank held). Uptown and Downtown are answered from the precomputed tables.
+   */
+  public static int evaluateRun(int rankMask, int jokers, List<Rank> order) {
+    if (jokers >= 0 && jokers <= MAX_JOKERS && rankMask >>> RANK_BITS == 0) {
+      if (order == UPTOWN_ORDER) {
+        return UPTOWN_STRENGTH[jokers << RANK_BITS | rankMask];
+      }
+      if (order == DOWNTOWN_ORDER) {
+        return DOWNTOWN_STRENGTH[jokers << RANK_BITS | rankMask];
+      }
+    }
+    return computeRun(rankMask, jokers, order);
+  }
 
-    int jokersMissing = 2 - jokers;
-    for (int i = 0; i < jokersMissing && !workingList.isEmpty(); i++) {
-      workingList.remove(workingList.size() - 1);
+  private static byte[] buildStrengthTable(List<Rank> order) {
+    byte[] table = new byte[(MAX_JOKERS + 1) << RANK_BITS];
+    for (int jokers = 0; jokers <= MAX_JOKERS; jokers++) {
+      for (int rankMask = 0; rankMask < 1 << RANK_BITS; rankMask++) {
+        table[jokers << RANK_BITS | rankMask] = (byte) computeRun(rankMask, jokers, order);
+      }
     }
+    return table;
+  }
 
-    for (int i = 0, j = 0; i < workingList.size(); i++) {
-      Rank rank = workingList.get(i);
-      if (ranksInSuit.contains(rank)) {
-        kept.add(rank);
-      } else if (i < workingList.size() - 1) {
-        j++;
-        if (j == 2) {
-          workingList.remove(workingList.size() - 1);
+  /*
+   * Walks the order from the top, counting held ranks. Every second gap drops the
+   * lowest rank from the order and re-checks the current one; each missing joker
+   * drops one rank up front.
+   */
+  private static int computeRun(int rankMask, int jokers, List<Rank> order) {
+    int length = order.size() - Math.min(Math.max(MAX_JOKERS - jokers, 0), order.size());
+    int kept = 0;
+
+    for (int i = 0, gaps = 0; i < length; i++) {
+      if ((rankMask & rankBit(order.get(i))) != 0) {
+        kept++;
+      } else if (i < length - 1) {
+        gaps++;
+        if (gaps == 2) {
+          length--;
           i--; // retry shortened list
-          j = 0;
+          gaps = 0;
         }
       } else break;
     }
 
-    int runScore = kept.size() + jokers;
-    int suitCount = ranksInSuit.size(); // excludes jokers by design
-
-    System.out.println(runScore + "/" + suitCount);
+    int runScore = kept + jokers;
+    int suitCount = Integer.bitCount(rankMask); // excludes jokers by design
 
     // Convert run + suit count + jokers into a bid
     if (jokers == 2 && runScore >= 6 && suitCount >= 7) return 7;
@@ -188,6 +287,10 @@ public class HandEvaluator {
     return 3; // pass tier — not bid-worthy
   }
 
+  static int rankBit(Rank rank) {
+    return 1 << (rank.getValue() - 2);
+  }
+
   /** Calculates continuous high-card run across all suits (used for No bids). */
   public static int evaluatePureRun(List<Card> cards, List<Rank> order) {
     Set<Rank> ranksInHand = cards.stream().map(Card::getRank).collect(Collectors.toSet());
@@ -204,7 +307,7 @@ public class HandEvaluator {
   public static int evaluateNoBidHigh(Map<Suit, List<Card>> suits) {
     int run = suits.values().stream().mapToInt(cards -> evaluatePureRun(cards, UPTOWN_ORDER)).sum();
 
-    System.out.println("No-Up: " + run);
+    log.trace("No-Up: {}", run);
     return run;
   }
 
@@ -213,7 +316,7 @@ public class HandEvaluator {
     int run =
         suits.values().stream().mapToInt(cards -> evaluatePureRun(cards, DOWNTOWN_ORDER)).sum();
 
-    System.out.println("No-Down: " + run);
+    log.trace("No-Down: {}", run);
     return run;
   }
 
@@ -222,7 +325,9 @@ public class HandEvaluator {
    * available.
    */
   public FinalBid getForcedMinimumBid(GameState game, PlayerPos player) {
-    evaluateHand(); // Ensure hand is evaluated
+    if (suitEvals == null) {
+      evaluateHand();
+    }
 
     FinalBid bestBid = null;
     int bestStrength = -1;
@@ -2,6 +2,7 @@
 package com.bidwhist.bidding;
 
 import com.bidwhist.model.PlayerPos;
+import java.util.Objects;
 
 /*
  * Represents an initial bid during the bidding phase.
@@ -65,6 +66,23 @@ public class InitialBid implements Comparable<InitialBid> {
     return 0;
   }
 
+  /* Two bids are equal when made by the same player with the same value, No flag and pass flag */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    InitialBid other = (InitialBid) o;
+    return value == other.value
+        && isNo == other.isNo
+        && isPassed == other.isPassed
+        && player == other.player;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(player, value, isNo, isPassed);
+  }
+
   @Override
   public String toString() {
     if (isPassed) {
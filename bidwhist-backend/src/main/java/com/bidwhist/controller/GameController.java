@@ -2,8 +2,12 @@
 
 package com.bidwhist.controller;
 
+import com.bidwhist.dto.AckAnimationsRequest;
+import com.bidwhist.dto.BatchRequest;
+import com.bidwhist.dto.BatchResponse;
 import com.bidwhist.dto.BidRequest;
 import com.bidwhist.dto.FinalBidRequest;
+import com.bidwhist.dto.GameStateDelta;
 import com.bidwhist.dto.GameStateResponse;
 import com.bidwhist.dto.HandRequest;
 import com.bidwhist.dto.HandResponse;
@@ -14,12 +18,19 @@ import com.bidwhist.dto.PollRequest;
 import com.bidwhist.dto.PopAnimationRequest;
 import com.bidwhist.dto.QuitGameRequest;
 import com.bidwhist.dto.StartGameRequest;
+import com.bidwhist.model.PlayerPos;
 import com.bidwhist.service.GameService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /*
  * REST Controller for all game-related endpoints.
@@ -92,15 +103,47 @@ public class GameController {
     gameService.popAnimation(request);
   }
 
+  /* Removes every animation up to the given ID from the queue */
+  @PostMapping("/ack-animations")
+  public void ackAnimations(@RequestBody AckAnimationsRequest request) {
+    gameService.ackAnimations(request);
+  }
+
+  /* Runs several commands (play, ack animations, fetch cards) in one round-trip */
+  @PostMapping("/batch")
+  public BatchResponse runBatch(@RequestBody BatchRequest request) {
+    return gameService.runBatch(request);
+  }
+
   /* Sends updated hand and kitty views to clients */
   @PostMapping("/update-cards")
   public HandResponse postMethodName(@RequestBody HandRequest request) {
     return gameService.provideUpdatedCards(request);
   }
 
-  /* Fetches the latest game state for polling clients */
+  /* Fetches the latest game state for polling clients (304 if the sent version is current) */
   @PostMapping("/state")
-  public GameStateResponse getGameStateForPlayer(@RequestBody PollRequest request) {
-    return gameService.updateState(request);
+  public ResponseEntity<GameStateResponse> getGameStateForPlayer(
+      @RequestBody PollRequest request) {
+    return gameService
+        .updateState(request)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+  }
+
+  /* Fetches only the state fields changed since the sent version (304 if current) */
+  @PostMapping("/state-delta")
+  public ResponseEntity<GameStateDelta> getGameStateDelta(@RequestBody PollRequest request) {
+    return gameService
+        .stateDelta(request)
+        .map(ResponseEntity::ok)
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+  }
+
+  /* Opens a server-push stream of animations and state for one player seat */
+  @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeToEvents(
+      @RequestParam String gameId, @RequestParam PlayerPos player) {
+    return gameService.subscribeToEvents(gameId, player);
   }
 }
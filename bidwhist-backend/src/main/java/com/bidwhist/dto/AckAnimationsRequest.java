@@ -0,0 +1,49 @@
+// src/main/java/com/bidwhist/dto/AckAnimationsRequest.java
+
+package com.bidwhist.dto;
+
+import com.bidwhist.model.PlayerPos;
+
+/**
+ * DTO for cumulative animation acknowledgements.
+ *
+ * <p>Sent once the client has shown every animation up to and including {@code upTo}. The server
+ * drops all of them from the player's queue at once, so repeating or reordering acks is harmless.
+ */
+public class AckAnimationsRequest {
+  private String gameId;
+  private PlayerPos player;
+  private long upTo;
+
+  public AckAnimationsRequest() {}
+
+  public AckAnimationsRequest(String gameId, PlayerPos player, long upTo) {
+    this.gameId = gameId;
+    this.player = player;
+    this.upTo = upTo;
+  }
+
+  public String getGameId() {
+    return gameId;
+  }
+
+  public PlayerPos getPlayer() {
+    return player;
+  }
+
+  public long getUpTo() {
+    return upTo;
+  }
+
+  public void setGameId(String gameId) {
+    this.gameId = gameId;
+  }
+
+  public void setPlayer(PlayerPos player) {
+    this.player = player;
+  }
+
+  public void setUpTo(long upTo) {
+    this.upTo = upTo;
+  }
+}
@@ -13,16 +13,17 @@ import com.bidwhist.model.Suit;
 import com.bidwhist.model.Team;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
-import java.util.UUID;
 
 /*
  * Represents a game animation event to be queued for players' frontends.
  * Supports animations like play, deal, collect, and card updates.
- * Each instance has a unique ID and a defined AnimationType.
+ * Each instance has a defined AnimationType and, once queued, an ID that increases
+ * monotonically within its game, so clients acknowledge "everything up to N".
  */
 public class Animation {
 
-  private final String id = UUID.randomUUID().toString();
+  /* Position in the game's animation stream, assigned when the animation is queued */
+  @JsonProperty private long id;
 
   @JsonProperty private AnimationType type;
   @JsonProperty private PlayerPos player;
@@ -54,7 +55,7 @@ public class Animation {
       int sessionKey,
       GameState game) {
     this.type = AnimationType.PLAY;
-    this.card = playedCard.getCard();
+    this.card = playedCard.getCard().copy();
     this.player = playedCard.getPlayer();
     this.leadSuit = leadSuit;
     this.currentTurnIndex = currentTurnIndex;
@@ -70,7 +71,7 @@ public class Animation {
    */
   public Animation(List<Card> deck, int currentTurnIndex, int sessionKey) {
     this.type = AnimationType.DEAL;
-    this.cardList = deck;
+    this.cardList = Card.copyAll(deck);
     this.currentTurnIndex = currentTurnIndex;
     this.sessionKey = sessionKey;
   }
@@ -80,7 +81,7 @@ public class Animation {
    */
   public Animation(Book trick, int currentTurnIndex, GamePhase currentPhase, int sessionKey) {
     this.type = AnimationType.COLLECT;
-    this.cardList = trick.getCards();
+    this.cardList = Card.copyAll(trick.getCards());
     this.winningTeam = trick.getWinningTeam();
     this.currentTurnIndex = currentTurnIndex;
     this.currentPhase = currentPhase;
@@ -115,10 +116,14 @@ public class Animation {
     this.sessionKey = sessionKey;
   }
 
-  public String getId() {
+  public long getId() {
     return id;
   }
 
+  public void setId(long id) {
+    this.id = id;
+  }
+
   public AnimationType getType() {
     return type;
   }
@@ -0,0 +1,50 @@
+// src/main/java/com/bidwhist/dto/BatchRequest.java
+
+package com.bidwhist.dto;
+
+import com.bidwhist.model.PlayerPos;
+import java.util.List;
+
+/**
+ * DTO for running several commands for one player in a single round-trip.
+ *
+ * <p>Replaces the play / ack / update-cards sequence the client would otherwise send as separate
+ * requests. Commands run in order, with no other request on the same game in between.
+ */
+public class BatchRequest {
+  private String gameId;
+  private PlayerPos player;
+  private List<GameCommand> commands;
+
+  public BatchRequest() {}
+
+  public BatchRequest(String gameId, PlayerPos player, List<GameCommand> commands) {
+    this.gameId = gameId;
+    this.player = player;
+    this.commands = commands;
+  }
+
+  public String getGameId() {
+    return gameId;
+  }
+
+  public PlayerPos getPlayer() {
+    return player;
+  }
+
+  public List<GameCommand> getCommands() {
+    return commands;
+  }
+
+  public void setGameId(String gameId) {
+    this.gameId = gameId;
+  }
+
+  public void setPlayer(PlayerPos player) {
+    this.player = player;
+  }
+
+  public void setCommands(List<GameCommand> commands) {
+    this.commands = commands;
+  }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/bidwhist/dto/BatchResponse.java
+
+package com.bidwhist.dto;
+
+/*
+ * Combined reply to a batch: the player's state after every command, plus the hand
+ * and kitty view when the batch asked for cards (null otherwise).
+ */
+public class BatchResponse {
+
+  private final GameStateResponse state;
+  private final HandResponse hand;
+
+  public BatchResponse(GameStateResponse state, HandResponse hand) {
+    this.state = state;
+    this.hand = hand;
+  }
+
+  public GameStateResponse getState() {
+    return state;
+  }
+
+  public HandResponse getHand() {
+    return hand;
+  }
+}
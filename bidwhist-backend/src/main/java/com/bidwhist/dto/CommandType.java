@@ -0,0 +1,9 @@
+// src/main/java/com/bidwhist/dto/CommandType.java
+
+package com.bidwhist.dto;
+
+public enum CommandType {
+  PLAY,
+  ACK_ANIMATIONS,
+  FETCH_CARDS
+}
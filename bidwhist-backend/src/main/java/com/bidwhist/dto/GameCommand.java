@@ -0,0 +1,63 @@
+// src/main/java/com/bidwhist/dto/GameCommand.java
+
+package com.bidwhist.dto;
+
+import com.bidwhist.model.Card;
+
+/**
+ * One action inside a {@link BatchRequest}.
+ *
+ * <p>PLAY uses {@code card}, ACK_ANIMATIONS uses {@code upTo} (as in /ack-animations), and
+ * FETCH_CARDS takes no arguments.
+ */
+public class GameCommand {
+  private CommandType type;
+  private Card card;
+  private long upTo;
+
+  public GameCommand() {}
+
+  public static GameCommand play(Card card) {
+    GameCommand command = new GameCommand();
+    command.type = CommandType.PLAY;
+    command.card = card;
+    return command;
+  }
+
+  public static GameCommand ackAnimations(long upTo) {
+    GameCommand command = new GameCommand();
+    command.type = CommandType.ACK_ANIMATIONS;
+    command.upTo = upTo;
+    return command;
+  }
+
+  public static GameCommand fetchCards() {
+    GameCommand command = new GameCommand();
+    command.type = CommandType.FETCH_CARDS;
+    return command;
+  }
+
+  public CommandType getType() {
+    return type;
+  }
+
+  public Card getCard() {
+    return card;
+  }
+
+  public long getUpTo() {
+    return upTo;
+  }
+
+  public void setType(CommandType type) {
+    this.type = type;
+  }
+
+  public void setCard(Card card) {
+    this.card = card;
+  }
+
+  public void setUpTo(long upTo) {
+    this.upTo = upTo;
+  }
+}
@@ -0,0 +1,415 @@
+// src/main/java/com/bidwhist/dto/GameStateDelta.java
+
+package com.bidwhist.dto;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.bidding.InitialBid;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Suit;
+import com.bidwhist.model.Team;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/*
+ * DTO carrying only the fields of a player's GameStateResponse that changed since
+ * the version the client last saw. Unchanged fields are left null and omitted from JSON.
+ *
+ * A field that changed back to null (e.g. trumpSuit at a new hand) is listed in "cleared".
+ * Bids that were only appended to are sent as "newBids"; any other change to the bid list
+ * sends the whole list as "bids". When the client's version is unknown, "full" is true
+ * and every non-null field is present.
+ *
+ * Cards are compared by rank, suit and visibility, so a joker taking the trump suit or
+ * a kitty being revealed is a change. While the seats themselves stay the same, only
+ * the hands that changed are sent, keyed by seat, as "hands"; "players" is sent only
+ * when a seat's name, team or AI flag changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameStateDelta {
+  private long version;
+  private Long baseVersion;
+  private boolean full;
+  private List<String> cleared;
+
+  private String gameId;
+  private List<PlayerView> players;
+  private Map<PlayerPos, List<Card>> hands;
+  private List<Card> kitty;
+  private Integer currentTurnIndex;
+  private GamePhase phase;
+  private Suit trumpSuit;
+  private BidType bidType;
+  private String winningPlayerName;
+  private InitialBid highestBid;
+  private List<Card> shuffledDeck;
+  private PlayerPos playerPosition;
+  private Team playerTeam;
+  private String viewerName;
+  private PlayerPos firstBidder;
+  private Integer bidTurnIndex;
+  private List<InitialBid> bids;
+  private List<InitialBid> newBids;
+  private FinalBid winningBid;
+  private Integer lobbySize;
+  private List<Animation> animationQueue;
+  private PlayerPos bidWinnerPos;
+  private Integer teamAScore;
+  private Integer teamBScore;
+  private Integer teamATricksWon;
+  private Integer teamBTricksWon;
+
+  private GameStateDelta() {}
+
+  /*
+   * Builds the delta that takes a client from base to current.
+   * Pass a null base to get a full state (used when the client's cursor is too old).
+   */
+  public static GameStateDelta between(GameStateResponse base, GameStateResponse current) {
+    GameStateDelta delta = new GameStateDelta();
+    delta.version = current.getVersion();
+    delta.full = base == null;
+    delta.baseVersion = base == null ? null : base.getVersion();
+    List<String> cleared = new ArrayList<>();
+
+    delta.gameId = delta.pick(base, current, GameStateResponse::getGameId, "gameId", cleared);
+    delta.diffPlayers(base == null ? null : base.getPlayers(), current.getPlayers(), cleared);
+    delta.kitty = delta.pickCards(base, current, GameStateResponse::getKitty, "kitty", cleared);
+    delta.phase = delta.pick(base, current, GameStateResponse::getPhase, "phase", cleared);
+    delta.trumpSuit =
+        delta.pick(base, current, GameStateResponse::getTrumpSuit, "trumpSuit", cleared);
+    delta.bidType = delta.pick(base, current, GameStateResponse::getBidType, "bidType", cleared);
+    delta.winningPlayerName =
+        delta.pick(
+            base, current, GameStateResponse::getWinningPlayerName, "winningPlayerName", cleared);
+    delta.highestBid =
+        delta.pick(base, current, GameStateResponse::getHighestBid, "highestBid", cleared);
+    delta.shuffledDeck =
+        delta.pickCards(base, current, GameStateResponse::getShuffledDeck, "shuffledDeck", cleared);
+    delta.playerPosition =
+        delta.pick(base, current, GameStateResponse::getPlayerPosition, "playerPosition", cleared);
+    delta.playerTeam =
+        delta.pick(base, current, GameStateResponse::getPlayerTeam, "playerTeam", cleared);
+    delta.viewerName =
+        delta.pick(base, current, GameStateResponse::getViewerName, "viewerName", cleared);
+    delta.firstBidder =
+        delta.pick(base, current, GameStateResponse::getFirstBidder, "firstBidder", cleared);
+    delta.winningBid =
+        delta.pick(base, current, GameStateResponse::getWinningBid, "winningBid", cleared);
+    delta.bidWinnerPos =
+        delta.pick(base, current, GameStateResponse::getBidWinnerPos, "bidWinnerPos", cleared);
+
+    delta.currentTurnIndex = delta.pickInt(base, current, GameStateResponse::getCurrentTurnIndex);
+    delta.bidTurnIndex = delta.pickInt(base, current, GameStateResponse::getBidTurnIndex);
+    delta.lobbySize = delta.pickInt(base, current, GameStateResponse::getLobbySize);
+    delta.teamAScore = delta.pickInt(base, current, GameStateResponse::getTeamAScore);
+    delta.teamBScore = delta.pickInt(base, current, GameStateResponse::getTeamBScore);
+    delta.teamATricksWon = delta.pickInt(base, current, GameStateResponse::getTeamATricksWon);
+    delta.teamBTricksWon = delta.pickInt(base, current, GameStateResponse::getTeamBTricksWon);
+
+    delta.diffBids(base == null ? null : base.getBids(), current.getBids(), cleared);
+    delta.diffAnimations(
+        base == null ? null : base.getAnimationQueue(), current.getAnimationQueue(), cleared);
+
+    delta.cleared = cleared.isEmpty() ? null : cleared;
+    return delta;
+  }
+
+  /* True when nothing but the version numbers differ */
+  public boolean isEmpty() {
+    return !full
+        && cleared == null
+        && gameId == null
+        && players == null
+        && hands == null
+        && kitty == null
+        && currentTurnIndex == null
+        && phase == null
+        && trumpSuit == null
+        && bidType == null
+        && winningPlayerName == null
+        && highestBid == null
+        && shuffledDeck == null
+        && playerPosition == null
+        && playerTeam == null
+        && viewerName == null
+        && firstBidder == null
+        && bidTurnIndex == null
+        && bids == null
+        && newBids == null
+        && winningBid == null
+        && lobbySize == null
+        && animationQueue == null
+        && bidWinnerPos == null
+        && teamAScore == null
+        && teamBScore == null
+        && teamATricksWon == null
+        && teamBTricksWon == null;
+  }
+
+  /* Returns the current value if it differs from base; records fields that became null */
+  private <T> T pick(
+      GameStateResponse base,
+      GameStateResponse current,
+      Function<GameStateResponse, T> field,
+      String name,
+      List<String> cleared) {
+    T after = field.apply(current);
+    if (full) {
+      return after;
+    }
+    if (Objects.equals(field.apply(base), after)) {
+      return null;
+    }
+    if (after == null) {
+      cleared.add(name);
+    }
+    return after;
+  }
+
+  /* Like pick, for card lists, comparing each card's visibility as well */
+  private List<Card> pickCards(
+      GameStateResponse base,
+      GameStateResponse current,
+      Function<GameStateResponse, List<Card>> field,
+      String name,
+      List<String> cleared) {
+    List<Card> after = field.apply(current);
+    if (full) {
+      return after;
+    }
+    if (sameCards(field.apply(base), after)) {
+      return null;
+    }
+    if (after == null) {
+      cleared.add(name);
+    }
+    return after;
+  }
+
+  private Integer pickInt(
+      GameStateResponse base, GameStateResponse current, ToIntFunction<GameStateResponse> field) {
+    int after = field.applyAsInt(current);
+    return (!full && field.applyAsInt(base) == after) ? null : after;
+  }
+
+  /*
+   * Sends the whole player list when the seating changed, otherwise only the hands
+   * that differ, so one card played resends one hand rather than four.
+   */
+  private void diffPlayers(List<PlayerView> before, List<PlayerView> after, List<String> cleared) {
+    if (full || before == null) {
+      players = after;
+      return;
+    }
+    if (after == null) {
+      cleared.add("players");
+      return;
+    }
+    if (before.size() != after.size()) {
+      players = after;
+      return;
+    }
+    Map<PlayerPos, List<Card>> changed = new EnumMap<>(PlayerPos.class);
+    for (int i = 0; i < after.size(); i++) {
+      PlayerView was = before.get(i);
+      PlayerView now = after.get(i);
+      if (was.getPosition() != now.getPosition()
+          || was.getTeam() != now.getTeam()
+          || was.isAI() != now.isAI()
+          || !Objects.equals(was.getName(), now.getName())) {
+        players = after;
+        return;
+      }
+      if (!sameCards(was.getHand(), now.getHand())) {
+        changed.put(now.getPosition(), now.getHand());
+      }
+    }
+    hands = changed.isEmpty() ? null : changed;
+  }
+
+  /* Card lists are equal when every card matches in rank, suit and visibility */
+  private static boolean sameCards(List<Card> before, List<Card> after) {
+    if (before == after) {
+      return true;
+    }
+    if (before == null || after == null || before.size() != after.size()) {
+      return false;
+    }
+    for (int i = 0; i < after.size(); i++) {
+      Card was = before.get(i);
+      Card now = after.get(i);
+      if (!Objects.equals(was, now) || was.getVisibility() != now.getVisibility()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void diffBids(List<InitialBid> before, List<InitialBid> after, List<String> cleared) {
+    if (full || before == null) {
+      bids = after;
+      return;
+    }
+    if (Objects.equals(before, after)) {
+      return;
+    }
+    if (after == null) {
+      cleared.add("bids");
+    } else if (after.size() > before.size() && after.subList(0, before.size()).equals(before)) {
+      newBids = List.copyOf(after.subList(before.size(), after.size()));
+    } else {
+      bids = after;
+    }
+  }
+
+  /* Animation queues are compared by animation id; any difference resends the queue */
+  private void diffAnimations(List<Animation> before, List<Animation> after, List<String> cleared) {
+    if (full || before == null) {
+      animationQueue = after;
+      return;
+    }
+    if (after == null) {
+      cleared.add("animationQueue");
+      return;
+    }
+    if (before.size() != after.size()) {
+      animationQueue = after;
+      return;
+    }
+    for (int i = 0; i < after.size(); i++) {
+      if (before.get(i).getId() != after.get(i).getId()) {
+        animationQueue = after;
+        return;
+      }
+    }
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public Long getBaseVersion() {
+    return baseVersion;
+  }
+
+  public boolean isFull() {
+    return full;
+  }
+
+  public List<String> getCleared() {
+    return cleared;
+  }
+
+  public String getGameId() {
+    return gameId;
+  }
+
+  public List<PlayerView> getPlayers() {
+    return players;
+  }
+
+  public Map<PlayerPos, List<Card>> getHands() {
+    return hands;
+  }
+
+  public List<Card> getKitty() {
+    return kitty;
+  }
+
+  public Integer getCurrentTurnIndex() {
+    return currentTurnIndex;
+  }
+
+  public GamePhase getPhase() {
+    return phase;
+  }
+
+  public Suit getTrumpSuit() {
+    return trumpSuit;
+  }
+
+  public BidType getBidType() {
+    return bidType;
+  }
+
+  public String getWinningPlayerName() {
+    return winningPlayerName;
+  }
+
+  public InitialBid getHighestBid() {
+    return highestBid;
+  }
+
+  public List<Card> getShuffledDeck() {
+    return shuffledDeck;
+  }
+
+  public PlayerPos getPlayerPosition() {
+    return playerPosition;
+  }
+
+  public Team getPlayerTeam() {
+    return playerTeam;
+  }
+
+  public String getViewerName() {
+    return viewerName;
+  }
+
+  public PlayerPos getFirstBidder() {
+    return firstBidder;
+  }
+
+  public Integer getBidTurnIndex() {
+    return bidTurnIndex;
+  }
+
+  public List<InitialBid> getBids() {
+    return bids;
+  }
+
+  public List<InitialBid> getNewBids() {
+    return newBids;
+  }
+
+  public FinalBid getWinningBid() {
+    return winningBid;
+  }
+
+  public Integer getLobbySize() {
+    return lobbySize;
+  }
+
+  public List<Animation> getAnimationQueue() {
+    return animationQueue;
+  }
+
+  public PlayerPos getBidWinnerPos() {
+    return bidWinnerPos;
+  }
+
+  public Integer getTeamAScore() {
+    return teamAScore;
+  }
+
+  public Integer getTeamBScore() {
+    return teamBScore;
+  }
+
+  public Integer getTeamATricksWon() {
+    return teamATricksWon;
+  }
+
+  public Integer getTeamBTricksWon() {
+    return teamBTricksWon;
+  }
+}
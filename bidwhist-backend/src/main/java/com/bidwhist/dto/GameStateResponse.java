@@ -20,6 +20,7 @@ import java.util.List;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class GameStateResponse {
+  private long version;
   private String gameId;
   private List<PlayerView> players;
   private List<Card> kitty;
@@ -253,4 +254,12 @@ public class GameStateResponse {
   public void setGameId(String id) {
     this.gameId = id;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
 }
@@ -16,6 +16,14 @@ public class PlayRequest {
   private PlayerPos player;
   private Card card;
 
+  public PlayRequest() {}
+
+  public PlayRequest(String gameId, PlayerPos player, Card card) {
+    this.gameId = gameId;
+    this.player = player;
+    this.card = card;
+  }
+
   public PlayerPos getPlayer() {
     return player;
   }
@@ -6,6 +6,7 @@ import com.bidwhist.model.Card;
 import com.bidwhist.model.PlayerPos;
 import com.bidwhist.model.Team;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents the public-facing view of a player used for UI or client display.
@@ -48,4 +49,21 @@ public class PlayerView {
   public List<Card> getHand() {
     return hand;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PlayerView other = (PlayerView) o;
+    return isAI == other.isAI
+        && Objects.equals(name, other.name)
+        && position == other.position
+        && team == other.team
+        && Objects.equals(hand, other.hand);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, position, team, isAI, hand);
+  }
 }
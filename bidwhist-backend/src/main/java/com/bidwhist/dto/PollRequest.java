@@ -9,10 +9,22 @@ import com.bidwhist.model.PlayerPos;
  *
  * <p>Typically used by the frontend to ask the server for updates based on the player's position
  * and associated game ID. Helps keep client state synchronized during multiplayer sessions.
+ *
+ * <p>Clients may send the version of the last state they received; if nothing has changed for
+ * their seat since then the server answers with an empty "not modified" reply.
  */
 public class PollRequest {
   private PlayerPos player;
   private String gameId;
+  private Long version;
+
+  public PollRequest() {}
+
+  public PollRequest(String gameId, PlayerPos player, Long version) {
+    this.gameId = gameId;
+    this.player = player;
+    this.version = version;
+  }
 
   public PlayerPos getPlayer() {
     return player;
@@ -21,4 +33,8 @@ public class PollRequest {
   public String getGameId() {
     return gameId;
   }
+
+  public Long getVersion() {
+    return version;
+  }
 }
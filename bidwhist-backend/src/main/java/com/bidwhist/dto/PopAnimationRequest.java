@@ -14,14 +14,14 @@ import com.bidwhist.model.PlayerPos;
  */
 public class PopAnimationRequest {
   private String gameId;
-  private String animationId;
+  private long animationId;
   private PlayerPos player;
 
   public String getGameId() {
     return gameId;
   }
 
-  public String getAnimationId() {
+  public long getAnimationId() {
     return animationId;
   }
 
@@ -33,7 +33,7 @@ public class PopAnimationRequest {
     this.gameId = id;
   }
 
-  public void setAnimationId(String id) {
+  public void setAnimationId(long id) {
     this.animationId = id;
   }
 
@@ -11,6 +11,14 @@ public class QuitGameRequest {
   private String mode;
   private int sessionKey;
 
+  public QuitGameRequest() {}
+
+  public QuitGameRequest(String gameId, PlayerPos player, String mode) {
+    this.gameId = gameId;
+    this.player = player;
+    this.mode = mode;
+  }
+
   public PlayerPos getPlayer() {
     return player;
   }
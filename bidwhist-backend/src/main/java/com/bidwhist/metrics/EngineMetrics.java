@@ -0,0 +1,91 @@
+// src/main/java/com/bidwhist/metrics/EngineMetrics.java
+
+package com.bidwhist.metrics;
+
+import com.bidwhist.model.Difficulty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Meters recorded from inside the game engine (static utils, simulator included)
+ * and from the game lifecycle in the service layer.
+ *
+ * They live on Micrometer's global registry, which Spring Boot links to the
+ * Prometheus registry, so engine code needs no injected dependencies. Outside Spring
+ * (tests, the simulator) the global registry has no backends and recording is a no-op.
+ * Meters are created once and cached, so recording never touches the registry.
+ */
+public final class EngineMetrics {
+
+  public static final String AI_DECISION = "bidwhist.ai.decision";
+  public static final String AI_FALLBACKS = "bidwhist.ai.fallbacks";
+  public static final String TRICKS = "bidwhist.tricks";
+  public static final String HANDS = "bidwhist.hands";
+  public static final String GAMES_EVICTED = "bidwhist.games.evicted";
+  public static final String GAMES_REJECTED = "bidwhist.games.rejected";
+
+  private static final Map<Difficulty, Timer> AI_DECISION_TIMERS = new EnumMap<>(Difficulty.class);
+
+  private static final Counter AI_FALLBACK_COUNTER =
+      Counter.builder(AI_FALLBACKS)
+          .description("AI card choices that missed their deadline and fell back to HARD")
+          .register(Metrics.globalRegistry);
+
+  private static final Counter TRICK_COUNTER =
+      Counter.builder(TRICKS).description("Tricks completed").register(Metrics.globalRegistry);
+
+  private static final Counter HAND_COUNTER =
+      Counter.builder(HANDS).description("Hands scored").register(Metrics.globalRegistry);
+
+  private static final Counter EVICTION_COUNTER =
+      Counter.builder(GAMES_EVICTED)
+          .description("Games evicted after sitting idle past the TTL")
+          .register(Metrics.globalRegistry);
+
+  private static final Counter REJECTION_COUNTER =
+      Counter.builder(GAMES_REJECTED)
+          .description("New games refused because the registry was full")
+          .register(Metrics.globalRegistry);
+
+  static {
+    for (Difficulty difficulty : Difficulty.values()) {
+      AI_DECISION_TIMERS.put(
+          difficulty,
+          Timer.builder(AI_DECISION)
+              .description("Time for an AI seat to choose a card")
+              .tag("difficulty", difficulty.name())
+              .publishPercentileHistogram()
+              .register(Metrics.globalRegistry));
+    }
+  }
+
+  private EngineMetrics() {}
+
+  public static void recordAIDecision(Difficulty difficulty, long nanos) {
+    AI_DECISION_TIMERS.get(difficulty).record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public static void recordAIFallback() {
+    AI_FALLBACK_COUNTER.increment();
+  }
+
+  public static void recordTrick() {
+    TRICK_COUNTER.increment();
+  }
+
+  public static void recordHand() {
+    HAND_COUNTER.increment();
+  }
+
+  public static void recordEviction() {
+    EVICTION_COUNTER.increment();
+  }
+
+  public static void recordRejectedGame() {
+    REJECTION_COUNTER.increment();
+  }
+}
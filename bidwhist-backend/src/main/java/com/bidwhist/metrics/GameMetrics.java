@@ -0,0 +1,93 @@
+// src/main/java/com/bidwhist/metrics/GameMetrics.java
+
+package com.bidwhist.metrics;
+
+import com.bidwhist.dto.GameStateResponse;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.service.GameService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/*
+ * Gauges over the live games, evaluated when Prometheus scrapes.
+ *
+ * Phases and animation queues are read from each game's published snapshot
+ * (a volatile read of immutable views), so scraping never races the game lanes.
+ * Gauges hold their targets strongly; Micrometer's default weak reference would let
+ * them read NaN once nothing else refers to the service.
+ */
+@Component
+public class GameMetrics implements MeterBinder {
+
+  public static final String ACTIVE_GAMES = "bidwhist.games.active";
+  public static final String GAMES_BY_PHASE = "bidwhist.games";
+  public static final String ANIMATION_QUEUE = "bidwhist.animations.queued";
+  public static final String ANIMATION_QUEUE_MAX = "bidwhist.animations.queued.max";
+
+  private final GameService gameService;
+
+  public GameMetrics(GameService gameService) {
+    this.gameService = gameService;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(ACTIVE_GAMES, gameService, service -> service.getGames().size())
+        .description("Games held in memory")
+        .strongReference(true)
+        .register(registry);
+
+    for (GamePhase phase : GamePhase.values()) {
+      Gauge.builder(GAMES_BY_PHASE, this, metrics -> metrics.countInPhase(phase))
+          .description("Games currently in each phase")
+          .tag("phase", phase.name())
+          .strongReference(true)
+          .register(registry);
+    }
+
+    for (PlayerPos seat : PlayerPos.values()) {
+      Gauge.builder(ANIMATION_QUEUE, this, metrics -> metrics.queuedAnimations(seat, false))
+          .description("Animations waiting for a seat, summed over all games")
+          .tag("seat", seat.name())
+          .strongReference(true)
+          .register(registry);
+      Gauge.builder(ANIMATION_QUEUE_MAX, this, metrics -> metrics.queuedAnimations(seat, true))
+          .description("Longest animation queue for a seat in any game")
+          .tag("seat", seat.name())
+          .strongReference(true)
+          .register(registry);
+    }
+  }
+
+  private double countInPhase(GamePhase phase) {
+    int count = 0;
+    for (GameState game : gameService.getGames()) {
+      if (phaseOf(game) == phase) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private double queuedAnimations(PlayerPos seat, boolean max) {
+    int result = 0;
+    for (GameState game : gameService.getGames()) {
+      GameStateResponse view = game.getSnapshot().stateFor(seat);
+      if (view == null || view.getAnimationQueue() == null) {
+        continue;
+      }
+      int depth = view.getAnimationQueue().size();
+      result = max ? Math.max(result, depth) : result + depth;
+    }
+    return result;
+  }
+
+  /* Phase as last published; games with no snapshot yet are still being created */
+  private static GamePhase phaseOf(GameState game) {
+    return game.getSnapshot().phase();
+  }
+}
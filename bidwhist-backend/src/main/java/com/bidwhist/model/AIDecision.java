@@ -0,0 +1,44 @@
+// src/main/java/com/bidwhist/model/AIDecision.java
+
+package com.bidwhist.model;
+
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.bidding.InitialBid;
+import java.util.List;
+
+/*
+ * One decision an AI seat made and the game applied: a bid (with the final bid the
+ * seat names if it wins the auction), the six cards discarded from the kitty, or a
+ * card played. Only the fields of its kind are set. Holds copies of the cards, so
+ * later moves never change a decision waiting to be logged.
+ */
+public record AIDecision(
+    Kind kind, PlayerPos seat, InitialBid bid, FinalBid finalBid, List<Card> cards) {
+
+  public enum Kind {
+    BID,
+    KITTY,
+    PLAY
+  }
+
+  public AIDecision {
+    cards = cards == null ? null : Card.copyAll(cards);
+  }
+
+  public static AIDecision bid(InitialBid bid, FinalBid finalBid) {
+    return new AIDecision(Kind.BID, bid.getPlayer(), bid, finalBid, null);
+  }
+
+  public static AIDecision kitty(PlayerPos seat, List<Card> discards) {
+    return new AIDecision(Kind.KITTY, seat, null, null, discards);
+  }
+
+  public static AIDecision play(PlayerPos seat, Card card) {
+    return new AIDecision(Kind.PLAY, seat, null, null, List.of(card));
+  }
+
+  /* The card played, for a PLAY decision */
+  public Card card() {
+    return cards.get(0);
+  }
+}
@@ -0,0 +1,68 @@
+// src/main/java/com/bidwhist/model/AIDecisions.java
+
+package com.bidwhist.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/*
+ * The AI decisions of one game. Every decision the game applies is recorded until
+ * the service layer takes it for the command log. A game being restored is handed
+ * the decisions logged after each command; the AI then takes those, in order, in
+ * place of deciding again, so a replay ends exactly where the live game did.
+ *
+ * Confined to the game's lane like the rest of GameState.
+ */
+public class AIDecisions {
+
+  private final List<AIDecision> recorded = new ArrayList<>();
+  private final Deque<AIDecision> replaying = new ArrayDeque<>();
+
+  public void record(AIDecision decision) {
+    recorded.add(decision);
+  }
+
+  /* Returns the decisions recorded since the last call and forgets them */
+  public List<AIDecision> takeRecorded() {
+    List<AIDecision> taken = List.copyOf(recorded);
+    recorded.clear();
+    return taken;
+  }
+
+  /* Queues logged decisions for the AI to take instead of deciding */
+  public void replay(List<AIDecision> logged) {
+    replaying.addAll(logged);
+  }
+
+  public boolean isReplaying() {
+    return !replaying.isEmpty();
+  }
+
+  /*
+   * Takes the next logged decision, or returns null if none is left and the AI must
+   * decide. A logged decision of another kind or seat means the replay has diverged.
+   */
+  public AIDecision nextReplayed(AIDecision.Kind kind, PlayerPos seat) {
+    AIDecision next = replaying.peek();
+    if (next == null) {
+      return null;
+    }
+    if (next.kind() != kind || next.seat() != seat) {
+      throw new IllegalStateException(
+          "Logged AI " + next.kind() + " by " + next.seat() + " where " + seat + " must " + kind);
+    }
+    return replaying.poll();
+  }
+
+  /*
+   * Stops replaying and returns how many logged decisions were left unused; any left
+   * means the replay has diverged.
+   */
+  public int endReplay() {
+    int unused = replaying.size();
+    replaying.clear();
+    return unused;
+  }
+}
@@ -0,0 +1,168 @@
+// src/main/java/com/bidwhist/model/AnimationQueue.java
+
+package com.bidwhist.model;
+
+import com.bidwhist.dto.Animation;
+import com.bidwhist.dto.AnimationType;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * One seat's animations not yet acknowledged by its client, held in a fixed-size ring.
+ *
+ * Entries are kept in increasing id order, so the usual acknowledgement (the
+ * oldest entry) is a single head pop. A client that stops acknowledging loses its
+ * oldest entries once the ring is full rather than growing the game without bound;
+ * the full state it polls still carries everything those animations would have shown.
+ *
+ * A card refresh queued directly behind another pending one is dropped, since the
+ * client re-reads the current hands either way. The head is never coalesced into,
+ * because the client may already be playing it.
+ */
+public class AnimationQueue {
+
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private final Animation[] ring;
+  private final int mask;
+  private int head;
+  private int size;
+
+  public AnimationQueue() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /* Capacity is rounded up to a power of two */
+  public AnimationQueue(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    int slots = Integer.highestOneBit(capacity);
+    if (slots < capacity) {
+      slots <<= 1;
+    }
+    this.ring = new Animation[slots];
+    this.mask = slots - 1;
+  }
+
+  /*
+   * Appends an animation, returning false if it was coalesced into the pending tail.
+   * When the ring is full the oldest entry is discarded to make room.
+   */
+  public boolean offer(Animation animation) {
+    if (size > 1
+        && animation.getType() == AnimationType.UPDATE_CARDS
+        && at(size - 1).getType() == AnimationType.UPDATE_CARDS) {
+      return false;
+    }
+    if (size == ring.length) {
+      poll();
+    }
+    ring[(head + size) & mask] = animation;
+    size++;
+    return true;
+  }
+
+  /* Removes and returns the oldest entry, or null if the queue is empty */
+  public Animation poll() {
+    if (size == 0) {
+      return null;
+    }
+    Animation oldest = ring[head];
+    ring[head] = null;
+    head = (head + 1) & mask;
+    size--;
+    return oldest;
+  }
+
+  /*
+   * Removes the entry with the given id, returning whether it was queued.
+   * Acknowledging the oldest entry is O(1); any other entry is found by binary search.
+   */
+  public boolean ack(long id) {
+    if (size == 0) {
+      return false;
+    }
+    if (ring[head].getId() == id) {
+      poll();
+      return true;
+    }
+    int index = countThrough(id) - 1;
+    if (index < 1 || at(index).getId() != id) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  /*
+   * Removes every entry with an id up to and including the given one, returning how
+   * many were removed. Advancing the head is O(1) after an O(log n) search; each
+   * dropped slot is cleared once, so the cost per acknowledged entry stays constant.
+   */
+  public int ackThrough(long id) {
+    int count = countThrough(id);
+    for (int i = 0; i < count; i++) {
+      ring[(head + i) & mask] = null;
+    }
+    head = (head + count) & mask;
+    size -= count;
+    return count;
+  }
+
+  /* Number of leading entries whose id is at most the given one */
+  private int countThrough(long id) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (at(mid).getId() <= id) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /* Pending animations, oldest first */
+  public List<Animation> toList() {
+    List<Animation> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(at(i));
+    }
+    return list;
+  }
+
+  public void clear() {
+    while (size > 0) {
+      poll();
+    }
+    head = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int capacity() {
+    return ring.length;
+  }
+
+  private Animation at(int index) {
+    return ring[(head + index) & mask];
+  }
+
+  /* Closes the gap left by an entry behind the head by shifting later entries down */
+  private void removeAt(int index) {
+    for (int i = index; i < size - 1; i++) {
+      ring[(head + i) & mask] = ring[(head + i + 1) & mask];
+    }
+    ring[(head + size - 1) & mask] = null;
+    size--;
+  }
+}
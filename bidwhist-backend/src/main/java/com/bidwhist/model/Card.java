@@ -5,6 +5,10 @@ package com.bidwhist.model;
 import com.bidwhist.dto.CardVisibility;
 import com.bidwhist.utils.JokerUtils;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 @JsonPropertyOrder({"rank", "suit"})
 public class Card implements Comparable<Card> {
@@ -55,6 +59,28 @@ public class Card implements Comparable<Card> {
     this.suit = suit;
   }
 
+  /*
+   * Returns an independent copy of this card, including its visibility.
+   * Views hold copies so that later joker suit assignments or reveals on the live
+   * card never change a view that has already been published.
+   */
+  public Card copy() {
+    Card copy = new Card(suit, rank);
+    copy.visibility = visibility;
+    return copy;
+  }
+
+  /*
+   * Copies every card of a list into a new read-only list.
+   */
+  public static List<Card> copyAll(List<Card> cards) {
+    List<Card> copies = new ArrayList<>(cards.size());
+    for (Card card : cards) {
+      copies.add(card.copy());
+    }
+    return Collections.unmodifiableList(copies);
+  }
+
   /*
    * Compares cards by suit and rank for sorting.
    * Jokers are always sorted after non-jokers.
@@ -82,6 +108,15 @@ public class Card implements Comparable<Card> {
     return rank == card.rank && suit == card.suit;
   }
 
+  /*
+   * Hash code consistent with equals, over the rank alone: a joker's suit changes
+   * when trump is named, and a card must not move buckets while it sits in a set.
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(rank);
+  }
+
   /*
    * Returns the suit of this card.
    */
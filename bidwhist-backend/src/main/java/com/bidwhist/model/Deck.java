@@ -2,13 +2,20 @@
 
 package com.bidwhist.model;
 
+import com.bidwhist.utils.CardMask;
 import com.bidwhist.utils.JokerUtils;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.SplittableRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Deck {
 
+  private static final Logger log = LoggerFactory.getLogger(Deck.class);
+
   private final List<Card> cards;
   private Kitty kitty;
 
@@ -46,6 +53,17 @@ public class Deck {
     Collections.shuffle(cards);
   }
 
+  /*
+   * Fisher-Yates shuffle drawn from the given generator. Starts from the standard
+   * card order, so the same seeded generator always produces the same deal.
+   */
+  public void shuffle(SplittableRandom random) {
+    cards.sort(Comparator.comparingInt(CardMask::idOf));
+    for (int i = cards.size() - 1; i > 0; i--) {
+      Collections.swap(cards, i, random.nextInt(i + 1));
+    }
+  }
+
   /*
    * Deals the first 48 cards evenly to 4 players,
    * then places the remaining 6 cards in the kitty.
@@ -60,22 +78,17 @@ public class Deck {
       kitty.addCard(cards.get(i));
     }
 
-    for (Player player : players) {
-      for (Card c : player.getHand().getCards()) {
-        if (JokerUtils.isJokerRank(c.getRank())) {
-          System.out.println("[Deal] Dealt joker to " + player.getName()
-              + " | card=" + c
-              + " | id=" + System.identityHashCode(c));
+    // Joker identity tracing walks every hand, so only do it when it will be logged
+    if (log.isTraceEnabled()) {
+      for (Player player : players) {
+        for (Card c : player.getHand().getCards()) {
+          if (JokerUtils.isJokerRank(c.getRank())) {
+            log.trace("[Deal] Dealt joker to {} | card={} | id={}",
+                player.getName(), c, System.identityHashCode(c));
+          }
         }
       }
     }
-
-    for (Card c : cards) {
-      if (JokerUtils.isJokerRank(c.getRank())) {
-        System.out.println("[Deck] Joker in deck: " + c + " | id=" + System.identityHashCode(c));
-      }
-    }
-
   }
 
   /*
@@ -95,17 +108,16 @@ public class Deck {
       card.assignSuit(trump);
 
       if (JokerUtils.isJokerRank(card.getRank())) {
-        System.out.println("[AssignTrump] Joker=" + card + " | id=" + System.identityHashCode(card));
+        log.trace("[AssignTrump] Joker={} | id={}", card, System.identityHashCode(card));
       }
 
     }
   }
 
   /*
-   * Empties the kitty and logs the operation to console.
+   * Empties the kitty.
    */
   public void clearKitty() {
-    System.out.println("[clearKitty]");
     kitty.clear();
   }
 
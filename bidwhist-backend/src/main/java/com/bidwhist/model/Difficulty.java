@@ -5,5 +5,6 @@ package com.bidwhist.model;
 public enum Difficulty {
   EASY,
   MEDIUM,
-  HARD
+  HARD,
+  EXPERT
 }
@@ -0,0 +1,15 @@
+// src/main/java/com/bidwhist/model/GameEventListener.java
+
+package com.bidwhist.model;
+
+import com.bidwhist.dto.Animation;
+
+/*
+ * Receives events raised by a GameState as it changes.
+ * Registered by the service layer so the model never needs to know who is listening.
+ */
+public interface GameEventListener {
+
+  /* Called each time an animation is queued for the game's players */
+  void onAnimation(GameState game, Animation animation);
+}
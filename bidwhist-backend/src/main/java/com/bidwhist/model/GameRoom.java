@@ -4,8 +4,12 @@ package com.bidwhist.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GameRoom {
+
+  private static final Logger log = LoggerFactory.getLogger(GameRoom.class);
   private String roomId; // Unique ID for the room
   private List<Player> players; // Players in this room
   private RoomStatus status; // WAITING, READY, IN_PROGRESS, etc.
@@ -47,7 +51,7 @@ public class GameRoom {
     Player newPlayer = new Player(name, isAI, position, team);
     this.players.add(newPlayer);
 
-    System.out.println("✅ Added player: " + name + " as " + position + " (" + team + ")");
+    log.debug("Added player: {} as {} ({})", name, position, team);
 
     if (players.size() == 4) {
       this.status = RoomStatus.READY;
@@ -0,0 +1,42 @@
+// src/main/java/com/bidwhist/model/GameSnapshot.java
+
+package com.bidwhist.model;
+
+import com.bidwhist.dto.GameStateResponse;
+import com.bidwhist.dto.HandResponse;
+import java.util.Map;
+
+/*
+ * Immutable, versioned read view of a game, published after every completed mutation.
+ * Holds the prebuilt per-seat responses so polling endpoints never touch the live
+ * GameState; readers pick up the latest snapshot with a single volatile read. Views
+ * are built from copies of the game's cards, so later moves never show through them.
+ *
+ * Each seat's GameStateResponse carries the version at which that seat's view was
+ * last rebuilt, so a seat whose view did not change keeps its older version.
+ * Only human seats get views; AI seats are never polled, so their reads build on the
+ * game's lane instead. The phase is kept alongside so it can be read with no seat.
+ */
+public record GameSnapshot(
+    long version,
+    GamePhase phase,
+    Map<PlayerPos, GameStateResponse> states,
+    Map<PlayerPos, HandResponse> hands) {
+
+  public static final GameSnapshot EMPTY = new GameSnapshot(0, null, Map.of(), Map.of());
+
+  public GameSnapshot {
+    states = Map.copyOf(states);
+    hands = Map.copyOf(hands);
+  }
+
+  /* Returns the state view for a seat, or null if the seat was not part of this snapshot */
+  public GameStateResponse stateFor(PlayerPos player) {
+    return player == null ? null : states.get(player);
+  }
+
+  /* Returns the hand/kitty view for a seat, or null if the seat was not part of this snapshot */
+  public HandResponse handFor(PlayerPos player) {
+    return player == null ? null : hands.get(player);
+  }
+}
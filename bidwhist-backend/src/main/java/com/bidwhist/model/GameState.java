@@ -3,8 +3,10 @@ package com.bidwhist.model;
 
 import com.bidwhist.bidding.BidType;
 import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.bidding.HandEvaluator;
 import com.bidwhist.bidding.InitialBid;
 import com.bidwhist.dto.Animation;
+import com.bidwhist.dto.GameStateResponse;
 import com.bidwhist.service.DeckService;
 import com.bidwhist.utils.PlayerUtils;
 import java.util.ArrayList;
@@ -12,9 +14,18 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GameState {
 
+  private static final Logger log = LoggerFactory.getLogger(GameState.class);
+
+  /* Snapshots kept so clients can be sent a delta from a recent version */
+  private static final int SNAPSHOT_HISTORY = 32;
+
   private final String gameId;
   private final List<Player> players;
   private final Deck deck;
@@ -27,16 +38,25 @@ public class GameState {
   private InitialBid highestBid;
   private BidType bidType;
   private Map<PlayerPos, FinalBid> finalBidCache = new HashMap<>();
+  private final Map<Long, HandEvaluator> handEvaluations = new HashMap<>();
   private FinalBid winningBid;
   private String winningPlayerName;
   private List<Card> shuffledDeck;
   private PlayerPos firstBidder;
   private Difficulty difficulty;
   private GameRoom room;
-  private Map<PlayerPos, List<Animation>> animationList = new EnumMap<>(PlayerPos.class);
+  private final Map<PlayerPos, AnimationQueue> animationQueues = new EnumMap<>(PlayerPos.class);
+  private long lastAnimationId;
   private PlayerPos bidWinnerPos;
   private int sessionKey;
   private Map<PlayerPos, Map<Suit, Boolean>> suitVoidMap = new EnumMap<>(PlayerPos.class);
+  private GameEventListener eventListener;
+  private AIDecisions aiDecisions;
+  private boolean headless;
+  private long shuffleSeed;
+  private SplittableRandom shuffleRandom;
+  private volatile GameSnapshot snapshot = GameSnapshot.EMPTY;
+  private volatile List<GameSnapshot> snapshotHistory = List.of();
 
   private List<PlayedCard> currentTrick = new ArrayList<>();
   private List<Book> completedTricks = new ArrayList<>();
@@ -57,6 +77,7 @@ public class GameState {
     this.gameId = gameId;
     this.players = new ArrayList<>();
     this.deck = DeckService.createNewDeck();
+    setShuffleSeed(ThreadLocalRandom.current().nextLong());
     this.kitty = new ArrayList<>();
     this.currentTurnIndex = 0;
     this.phase = GamePhase.DEAL;
@@ -68,7 +89,7 @@ public class GameState {
     this.shuffledDeck = deck.getCards();
 
     for (PlayerPos pos : PlayerPos.values()) {
-      animationList.put(pos, new ArrayList<>());
+      animationQueues.put(pos, new AnimationQueue());
     }
     for (PlayerPos pos : PlayerPos.values()) {
       Map<Suit, Boolean> suitMap = new EnumMap<>(Suit.class);
@@ -79,26 +100,48 @@ public class GameState {
     }
   }
 
+  /*
+   * Numbers the animation and queues it for every seat a client can acknowledge from.
+   * AI seats never acknowledge, so nothing is queued for them; the event listener
+   * still sees every animation.
+   */
   public void addAnimation(Animation animation) {
-    if (animationList == null) {
+    if (headless) {
       return;
     }
-    for (List<Animation> queue : animationList.values()) {
-      queue.add(animation);
+    animation.setId(++lastAnimationId);
+    for (Map.Entry<PlayerPos, AnimationQueue> entry : animationQueues.entrySet()) {
+      if (!isAISeat(entry.getKey())) {
+        entry.getValue().offer(animation);
+      }
+    }
+    log.trace("{} animation added", animation.getType());
+
+    if (eventListener != null) {
+      eventListener.onAnimation(this, animation);
     }
-    System.out.println(animation.getType().toString() + " animation added.");
   }
 
-  public boolean removeAnimationById(PlayerPos player, String animationId) {
-    List<Animation> animations = animationList.get(player);
-    if (animations == null) {
-      return false;
+  /* Drops the seat's animation with the given id once its client has shown it */
+  public boolean ackAnimation(PlayerPos player, long animationId) {
+    AnimationQueue queue = animationQueues.get(player);
+    return queue != null && queue.ack(animationId);
+  }
+
+  /* Drops every animation of the seat up to and including the given id */
+  public int ackAnimationsThrough(PlayerPos player, long animationId) {
+    AnimationQueue queue = animationQueues.get(player);
+    return queue == null ? 0 : queue.ackThrough(animationId);
+  }
+
+  /* Seats not yet taken are queued for, so a joining player sees the deal */
+  private boolean isAISeat(PlayerPos pos) {
+    for (Player player : players) {
+      if (player.getPosition() == pos) {
+        return player.isAI();
+      }
     }
-    return animations.removeIf(
-        animation ->
-            animationId != null
-                && animation.getId() != null
-                && animationId.trim().equalsIgnoreCase(animation.getId().trim()));
+    return false;
   }
 
   public void addPlayedCard(Card card) {
@@ -271,13 +314,20 @@ public class GameState {
     return finalBidCache;
   }
 
+  // Hand evaluations for the current deal, keyed by CardMask of the hand
+  public Map<Long, HandEvaluator> getHandEvaluations() {
+    return handEvaluations;
+  }
+
   // Animations
-  public Map<PlayerPos, List<Animation>> getAnimationList() {
-    return animationList;
+  public AnimationQueue getAnimationQueue(PlayerPos player) {
+    return animationQueues.get(player);
   }
 
-  public void setAnimationList(Map<PlayerPos, List<Animation>> animationList) {
-    this.animationList = animationList;
+  public void clearAnimations() {
+    for (AnimationQueue queue : animationQueues.values()) {
+      queue.clear();
+    }
   }
 
   // Trick and Book
@@ -394,4 +444,78 @@ public class GameState {
   public Map<PlayerPos, Map<Suit, Boolean>> getSuitVoidMap() {
     return suitVoidMap;
   }
+
+  // Published read snapshot
+  public GameSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /*
+   * Publishes a new snapshot and keeps it in a short history so clients
+   * holding an older version can be sent a delta instead of the full state.
+   */
+  public void setSnapshot(GameSnapshot snapshot) {
+    List<GameSnapshot> history = new ArrayList<>(snapshotHistory);
+    history.add(snapshot);
+    if (history.size() > SNAPSHOT_HISTORY) {
+      history.remove(0);
+    }
+    this.snapshotHistory = List.copyOf(history);
+    this.snapshot = snapshot;
+  }
+
+  /*
+   * Returns the state a seat was sent at the given version, if it is still in the history.
+   */
+  public GameStateResponse findPublishedState(PlayerPos seat, long version) {
+    List<GameSnapshot> history = snapshotHistory;
+    for (int i = history.size() - 1; i >= 0; i--) {
+      GameStateResponse state = history.get(i).stateFor(seat);
+      if (state != null && state.getVersion() == version) {
+        return state;
+      }
+    }
+    return null;
+  }
+
+  // Event push
+  public GameEventListener getEventListener() {
+    return eventListener;
+  }
+
+  public void setEventListener(GameEventListener eventListener) {
+    this.eventListener = eventListener;
+  }
+
+  // AI decisions kept for the command log; null for games nobody logs (simulation)
+  public AIDecisions getAIDecisions() {
+    return aiDecisions;
+  }
+
+  public void setAIDecisions(AIDecisions aiDecisions) {
+    this.aiDecisions = aiDecisions;
+  }
+
+  // Headless games (simulation) record no animations for clients
+  public boolean isHeadless() {
+    return headless;
+  }
+
+  public void setHeadless(boolean headless) {
+    this.headless = headless;
+  }
+
+  // Seed every hand's shuffle is drawn from; the seed plus the game's commands replay it
+  public long getShuffleSeed() {
+    return shuffleSeed;
+  }
+
+  public void setShuffleSeed(long shuffleSeed) {
+    this.shuffleSeed = shuffleSeed;
+    this.shuffleRandom = new SplittableRandom(shuffleSeed);
+  }
+
+  public SplittableRandom getShuffleRandom() {
+    return shuffleRandom;
+  }
 }
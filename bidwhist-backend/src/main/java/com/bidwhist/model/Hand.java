@@ -2,6 +2,7 @@
 
 package com.bidwhist.model;
 
+import com.bidwhist.utils.CardMask;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -48,4 +49,9 @@ public class Hand {
   public List<Card> getCards() {
     return cards;
   }
+
+  /* Returns this hand as a CardMask bitmask (one bit per card id) */
+  public long toMask() {
+    return CardMask.maskOf(cards);
+  }
 }
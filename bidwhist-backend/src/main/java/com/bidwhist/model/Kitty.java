@@ -37,7 +37,6 @@ public class Kitty {
   }
 
   public void clear() {
-    System.out.println("[Kitty: clear]");
     cards.clear();
   }
 
@@ -9,6 +9,7 @@ public class Player {
   private boolean isDealer;
   private final PlayerPos position;
   private final Team team;
+  private Difficulty difficulty;
 
   public Player(String name, boolean isAI, PlayerPos position, Team team) {
     this.name = name;
@@ -59,4 +60,13 @@ public class Player {
   public void setName(String name) {
     this.name = name;
   }
+
+  /* AI difficulty for this seat only; null plays at the game's difficulty */
+  public Difficulty getDifficulty() {
+    return difficulty;
+  }
+
+  public void setDifficulty(Difficulty difficulty) {
+    this.difficulty = difficulty;
+  }
 }
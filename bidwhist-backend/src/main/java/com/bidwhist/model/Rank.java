@@ -3,6 +3,7 @@
 package com.bidwhist.model;
 
 import com.bidwhist.bidding.BidType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -27,6 +28,38 @@ public enum Rank {
 
   private final int value;
 
+  /*
+   * Bid modes used to index the precomputed tables:
+   * suited uptown, suited downtown, No uptown, No downtown.
+   */
+  public static final int MODE_COUNT = 4;
+
+  private static final Rank[] VALUES = values();
+  private static final List<Rank> ORDERED_RANKS =
+      Arrays.stream(VALUES)
+          .sorted(Comparator.comparingInt(Rank::getValue))
+          .collect(Collectors.toUnmodifiableList());
+
+  /* RANK_WEIGHTS[mode][rank.ordinal()], built once from getRankWeight */
+  private static final int[][] RANK_WEIGHTS = new int[MODE_COUNT][VALUES.length];
+
+  /* One shared comparator per mode; comparisons are two array reads */
+  private static final List<Comparator<Rank>> COMPARATORS;
+
+  static {
+    List<Comparator<Rank>> comparators = new ArrayList<>(MODE_COUNT);
+    for (int mode = 0; mode < MODE_COUNT; mode++) {
+      boolean isNo = mode >= 2;
+      BidType type = (mode % 2 == 0) ? BidType.UPTOWN : BidType.DOWNTOWN;
+      int[] weights = RANK_WEIGHTS[mode];
+      for (Rank r : VALUES) {
+        weights[r.ordinal()] = getRankWeight(r, type, isNo);
+      }
+      comparators.add((r1, r2) -> Integer.compare(weights[r1.ordinal()], weights[r2.ordinal()]));
+    }
+    COMPARATORS = List.copyOf(comparators);
+  }
+
   Rank(int value) {
     this.value = value;
   }
@@ -35,19 +68,31 @@ public enum Rank {
     return value;
   }
 
+  /* Ranks ordered by face value (shared, unmodifiable) */
   public static List<Rank> getOrderedRanks() {
-    return Arrays.stream(Rank.values())
-        .sorted(Comparator.comparingInt(Rank::getValue))
-        .collect(Collectors.toList());
+    return ORDERED_RANKS;
+  }
+
+  /*
+   * Returns the table index for a bid: anything other than UPTOWN
+   * (DOWNTOWN, NO_TRUMP or null) ranks like downtown, as getRankWeight does.
+   */
+  public static int modeIndex(BidType type, boolean isNo) {
+    return (isNo ? 2 : 0) + (type == BidType.UPTOWN ? 0 : 1);
+  }
+
+  /* Returns the precomputed weight of a rank for a bid mode (higher is stronger) */
+  public static int weight(Rank r, int mode) {
+    return RANK_WEIGHTS[mode][r.ordinal()];
+  }
+
+  public static int weight(Rank r, BidType type, boolean isNo) {
+    return RANK_WEIGHTS[modeIndex(type, isNo)][r.ordinal()];
   }
 
+  /* Returns the shared comparator for the bid; no allocation per call */
   public static Comparator<Rank> rankComparator(BidType type, boolean isNo) {
-    return (r1, r2) -> {
-      // Define weights per rank based on bid type
-      int w1 = getRankWeight(r1, type, isNo);
-      int w2 = getRankWeight(r2, type, isNo);
-      return Integer.compare(w1, w2);
-    };
+    return COMPARATORS.get(modeIndex(type, isNo));
   }
 
   private static int getRankWeight(Rank r, BidType type, boolean isNo) {
@@ -0,0 +1,401 @@
+// src/main/java/com/bidwhist/persistence/GameCommandLog.java
+
+package com.bidwhist.persistence;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Append-only, write-ahead log of the commands applied to each game.
+ *
+ * Game lanes only encode an entry and hand it to a queue, which costs microseconds.
+ * A single writer thread drains the queue in batches with one gathering FileChannel
+ * write per batch and forces the file to disk at most once per fsync interval, so a
+ * crash loses at most that interval of commands.
+ *
+ * Each entry is framed as [payload length][CRC32C][JSON payload]; reading stops at the
+ * first torn or corrupt frame. When the active segment outgrows its limit and has at
+ * least doubled since it was last compacted (and on every startup) the log is compacted: the history of every game still in memory is
+ * rewritten into a new segment that opens with a CHECKPOINT entry, and older segments
+ * are deleted. With seeded deals, a game's seed plus its commands is its snapshot.
+ */
+@Component
+public class GameCommandLog {
+
+  private static final Logger log = LoggerFactory.getLogger(GameCommandLog.class);
+
+  public static final long DEFAULT_FSYNC_INTERVAL_MS = 50;
+  public static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+  private static final String SEGMENT_PREFIX = "commands-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final int HEADER_BYTES = 8;
+  private static final int MAX_BATCH = 1024;
+
+  private static final ObjectMapper MAPPER =
+      JsonMapper.builder()
+          .addModule(new ParameterNamesModule())
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .build();
+
+  private final boolean enabled;
+  private final Path directory;
+  private final long fsyncIntervalNanos;
+  private final long segmentBytes;
+  private final BlockingQueue<ByteBuffer> pending = new LinkedBlockingQueue<>();
+
+  private FileChannel channel;
+  private long segmentNumber;
+  private long compactedBytes;
+  private Thread writer;
+  private volatile boolean running;
+
+  /* A log that records nothing and recovers nothing */
+  public static GameCommandLog disabled() {
+    return new GameCommandLog(
+        false, Path.of("."), DEFAULT_FSYNC_INTERVAL_MS, DEFAULT_SEGMENT_BYTES);
+  }
+
+  public GameCommandLog(Path directory, long fsyncIntervalMillis, long segmentBytes) {
+    this(true, directory, fsyncIntervalMillis, segmentBytes);
+  }
+
+  @Autowired
+  public GameCommandLog(
+      @Value("${bidwhist.persistence.enabled:false}") boolean enabled,
+      @Value("${bidwhist.persistence.directory:data/command-log}") Path directory,
+      @Value("${bidwhist.persistence.fsync-interval-ms:" + DEFAULT_FSYNC_INTERVAL_MS + "}")
+          long fsyncIntervalMillis,
+      @Value("${bidwhist.persistence.segment-bytes:" + DEFAULT_SEGMENT_BYTES + "}")
+          long segmentBytes) {
+    if (fsyncIntervalMillis < 1 || segmentBytes < 1) {
+      throw new IllegalArgumentException("Fsync interval and segment size must be positive");
+    }
+    this.enabled = enabled;
+    this.directory = directory;
+    this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    this.segmentBytes = segmentBytes;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /*
+   * Queues a command for the writer. Called on the game's lane once the command has
+   * been applied, so each game's entries are in the order they took effect.
+   */
+  public void append(LogEntryType type, String gameId, long seed, Object request) {
+    if (!enabled) {
+      return;
+    }
+    JsonNode body = request == null ? null : MAPPER.valueToTree(request);
+    pending.add(encode(new LogEntry(type, gameId, seed, body)));
+  }
+
+  public void append(LogEntryType type, String gameId, Object request) {
+    append(type, gameId, 0L, request);
+  }
+
+  /* Decodes the request stored in an entry */
+  public static <T> T requestOf(LogEntry entry, Class<T> type) {
+    try {
+      return MAPPER.treeToValue(entry.request(), type);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unreadable " + entry.type() + " entry", e);
+    }
+  }
+
+  /*
+   * Reads the logged history of every game that was still in memory, oldest command
+   * first. Must be called before open().
+   */
+  public Map<String, List<LogEntry>> readGames() {
+    if (!enabled) {
+      return Map.of();
+    }
+    try {
+      Files.createDirectories(directory);
+      List<LogEntry> entries = new ArrayList<>();
+      for (Path segment : segmentsFromLastCheckpoint()) {
+        entries.addAll(readSegment(segment));
+      }
+      return groupByGame(entries);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read command log in " + directory, e);
+    }
+  }
+
+  /*
+   * Replaces what is on disk with the given histories (the commands that were
+   * actually replayed) in a fresh segment and starts the writer thread. Entries
+   * appended before this call are written once the writer starts.
+   */
+  public synchronized void open(Map<String, List<LogEntry>> games) {
+    if (!enabled || running) {
+      return;
+    }
+    try {
+      Files.createDirectories(directory);
+      compact(games);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open command log in " + directory, e);
+    }
+    running = true;
+    writer = new Thread(this::runWriter, "command-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+    log.info("Command log open at {}", directory.toAbsolutePath());
+  }
+
+  /* Stops the writer after it has written and forced everything queued */
+  @PreDestroy
+  public synchronized void close() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /*
+   * Groups entries into per-game histories the way the games evolved in memory:
+   * a solo start replaces any game with its id, END drops the game, and entries
+   * for games not in memory are ignored.
+   */
+  static Map<String, List<LogEntry>> groupByGame(List<LogEntry> entries) {
+    Map<String, List<LogEntry>> games = new LinkedHashMap<>();
+    for (LogEntry entry : entries) {
+      if (entry.type() == LogEntryType.CHECKPOINT) {
+        continue;
+      }
+      if (entry.type() == LogEntryType.SOLO_START
+          || (entry.startsGame() && !games.containsKey(entry.gameId()))) {
+        games.remove(entry.gameId());
+        games.put(entry.gameId(), new ArrayList<>());
+      }
+      if (entry.type() == LogEntryType.END) {
+        games.remove(entry.gameId());
+        continue;
+      }
+      List<LogEntry> history = games.get(entry.gameId());
+      if (history != null) {
+        history.add(entry);
+      }
+    }
+    return games;
+  }
+
+  private void runWriter() {
+    List<ByteBuffer> batch = new ArrayList<>();
+    long lastForce = System.nanoTime();
+    boolean dirty = false;
+
+    while (running || !pending.isEmpty()) {
+      try {
+        ByteBuffer first = pending.poll(fsyncIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first != null) {
+          batch.add(first);
+          pending.drainTo(batch, MAX_BATCH - 1);
+          write(batch);
+          batch.clear();
+          dirty = true;
+        }
+        if (dirty && System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+          channel.force(false);
+          lastForce = System.nanoTime();
+          dirty = false;
+        }
+        // Live histories alone may exceed the limit; only growth since then rolls over
+        if (channel.size() >= Math.max(segmentBytes, 2 * compactedBytes)) {
+          channel.force(false);
+          dirty = false;
+          channel.close();
+          compact(readGames());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (IOException e) {
+        log.error("Command log write failed; {} entries dropped", batch.size(), e);
+        batch.clear();
+      }
+    }
+
+    try {
+      channel.force(false);
+      channel.close();
+    } catch (IOException e) {
+      log.error("Command log close failed", e);
+    }
+  }
+
+  private void write(List<ByteBuffer> batch) throws IOException {
+    ByteBuffer[] buffers = batch.toArray(new ByteBuffer[0]);
+    long remaining = 0;
+    for (ByteBuffer buffer : buffers) {
+      remaining += buffer.remaining();
+    }
+    while (remaining > 0) {
+      remaining -= channel.write(buffers);
+    }
+  }
+
+  /*
+   * Writes the live games' histories into a new segment behind a CHECKPOINT entry.
+   * The segment is written to a temporary file and renamed into place before older
+   * segments are deleted; recovery starts from the newest checkpoint it finds, so a
+   * crash at any point leaves exactly one copy of each history in use.
+   */
+  private void compact(Map<String, List<LogEntry>> games) throws IOException {
+    List<Path> previous = listSegments();
+
+    segmentNumber++;
+    Path segment = segmentPath(segmentNumber);
+    Path temp = segment.resolveSibling(segment.getFileName() + ".tmp");
+    try (FileChannel out =
+        FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      List<ByteBuffer> frames = new ArrayList<>();
+      frames.add(encode(new LogEntry(LogEntryType.CHECKPOINT, null, 0L, null)));
+      for (List<LogEntry> history : games.values()) {
+        for (LogEntry entry : history) {
+          frames.add(encode(entry));
+        }
+      }
+      for (ByteBuffer frame : frames) {
+        while (frame.hasRemaining()) {
+          out.write(frame);
+        }
+      }
+      out.force(true);
+    }
+    Files.move(temp, segment, StandardCopyOption.ATOMIC_MOVE);
+
+    for (Path old : previous) {
+      Files.deleteIfExists(old);
+    }
+    channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    compactedBytes = channel.size();
+    log.info("Command log compacted to {} games in {}", games.size(), segment.getFileName());
+  }
+
+  /* Segments in order, starting at the newest one that opens with a checkpoint */
+  private List<Path> segmentsFromLastCheckpoint() throws IOException {
+    List<Path> segments = listSegments();
+    int start = 0;
+    for (int i = segments.size() - 1; i >= 0; i--) {
+      List<LogEntry> head = readSegment(segments.get(i), 1);
+      if (!head.isEmpty() && head.get(0).type() == LogEntryType.CHECKPOINT) {
+        start = i;
+        break;
+      }
+    }
+    return segments.subList(start, segments.size());
+  }
+
+  private List<Path> listSegments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      List<Path> segments =
+          files
+              .filter(
+                  path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                  })
+              .sorted()
+              .toList();
+      if (!segments.isEmpty()) {
+        String last = segments.get(segments.size() - 1).getFileName().toString();
+        segmentNumber =
+            Math.max(
+                segmentNumber,
+                Long.parseLong(
+                    last.substring(
+                        SEGMENT_PREFIX.length(), last.length() - SEGMENT_SUFFIX.length())));
+      }
+      return segments;
+    }
+  }
+
+  private Path segmentPath(long number) {
+    return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+  }
+
+  static List<LogEntry> readSegment(Path segment) throws IOException {
+    return readSegment(segment, Integer.MAX_VALUE);
+  }
+
+  /* Decodes up to limit frames, stopping quietly at a torn or corrupt tail */
+  private static List<LogEntry> readSegment(Path segment, int limit) throws IOException {
+    ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segment));
+    List<LogEntry> entries = new ArrayList<>();
+    CRC32C crc = new CRC32C();
+
+    while (entries.size() < limit && data.remaining() >= HEADER_BYTES) {
+      int length = data.getInt();
+      int checksum = data.getInt();
+      if (length < 0 || length > data.remaining()) {
+        log.warn("Command log {} ends in a torn entry", segment.getFileName());
+        break;
+      }
+      byte[] payload = new byte[length];
+      data.get(payload);
+      crc.reset();
+      crc.update(payload);
+      if ((int) crc.getValue() != checksum) {
+        log.warn("Command log {} has a corrupt entry; ignoring the rest", segment.getFileName());
+        break;
+      }
+      entries.add(MAPPER.readValue(payload, LogEntry.class));
+    }
+    return entries;
+  }
+
+  private static ByteBuffer encode(LogEntry entry) {
+    byte[] payload;
+    try {
+      payload = MAPPER.writeValueAsBytes(entry);
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot encode " + entry.type() + " entry", e);
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(payload);
+    ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+    frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+    return frame;
+  }
+}
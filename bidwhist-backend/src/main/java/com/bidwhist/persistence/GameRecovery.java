@@ -0,0 +1,54 @@
+// src/main/java/com/bidwhist/persistence/GameRecovery.java
+
+package com.bidwhist.persistence;
+
+import com.bidwhist.service.GameService;
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/*
+ * Restores the games that were in memory when the server last stopped, by replaying
+ * the command log, then rewrites the log to the commands that replayed and opens it
+ * for new ones. Runs during context startup,
+ * before the web server accepts requests.
+ */
+@Component
+public class GameRecovery {
+
+  private static final Logger log = LoggerFactory.getLogger(GameRecovery.class);
+
+  private final GameCommandLog commandLog;
+  private final GameService gameService;
+
+  public GameRecovery(GameCommandLog commandLog, GameService gameService) {
+    this.commandLog = commandLog;
+    this.gameService = gameService;
+  }
+
+  @PostConstruct
+  public void recover() {
+    if (!commandLog.isEnabled()) {
+      return;
+    }
+    long start = System.nanoTime();
+    Map<String, List<LogEntry>> histories = commandLog.readGames();
+    Map<String, List<LogEntry>> restored = new LinkedHashMap<>();
+    for (Map.Entry<String, List<LogEntry>> history : histories.entrySet()) {
+      int applied = gameService.restore(history.getKey(), history.getValue());
+      if (applied > 0) {
+        restored.put(history.getKey(), history.getValue().subList(0, applied));
+      }
+    }
+    commandLog.open(restored);
+    log.info(
+        "Recovered {} of {} logged games in {} ms",
+        restored.size(),
+        histories.size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/bidwhist/persistence/LogEntry.java
+
+package com.bidwhist.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/*
+ * One command as written to the command log: the request that was applied to the game,
+ * plus the shuffle seed for commands that create a game. END marks a game removed from
+ * memory; CHECKPOINT opens a compacted segment and belongs to no game. AI_* entries hold
+ * the decisions AI seats made, written behind the command or AI step that made them.
+ */
+public record LogEntry(LogEntryType type, String gameId, long seed, JsonNode request) {
+
+  /* Whether this entry begins a game's history, replacing any earlier game with its id */
+  public boolean startsGame() {
+    return type == LogEntryType.SOLO_START || type == LogEntryType.MULTIPLAYER_CREATE;
+  }
+
+  /* Whether this entry is an AI decision rather than a command */
+  public boolean isAIDecision() {
+    return type == LogEntryType.AI_BID
+        || type == LogEntryType.AI_KITTY
+        || type == LogEntryType.AI_PLAY;
+  }
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/bidwhist/persistence/LogEntryType.java
+
+package com.bidwhist.persistence;
+
+public enum LogEntryType {
+  SOLO_START,
+  MULTIPLAYER_CREATE,
+  JOIN,
+  BID,
+  FINAL_BID,
+  KITTY,
+  PLAY,
+  NEW_GAME,
+  QUIT,
+  END,
+  CHECKPOINT,
+  AI_BID,
+  AI_KITTY,
+  AI_PLAY
+}
@@ -0,0 +1,159 @@
+// src/main/java/com/bidwhist/service/AIMoveService.java
+
+package com.bidwhist.service;
+
+import com.bidwhist.model.Card;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Runs AI card decisions on a dedicated, bounded pool, so a slow search never holds
+ * a request thread or a game lane.
+ *
+ * Each decision gets a deadline. A decision that misses it, fails, or cannot be
+ * queued because the pool is saturated completes with null, and the caller falls
+ * back to a cheap heuristic. A game has at most one decision in flight; cancelling
+ * it (the game was quit or evicted) interrupts the search and completes it as
+ * cancelled, so no result is ever applied.
+ *
+ * The inline service decides on the calling thread with no deadline, for tests and
+ * anything else that must stay synchronous.
+ */
+@Component
+public class AIMoveService {
+
+  private static final Logger log = LoggerFactory.getLogger(AIMoveService.class);
+
+  /* Comfortably above the EXPERT search budget, well below a human's patience */
+  public static final long DEFAULT_DEADLINE_MS = 250;
+  public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+  /* A decision in flight: its result and the pool task computing it */
+  private record Decision(CompletableFuture<Card> result, Future<?> task) {}
+
+  private final ThreadPoolExecutor pool;
+  private final long deadlineMillis;
+  private final Map<String, Decision> inFlight = new ConcurrentHashMap<>();
+
+  private AIMoveService() {
+    this.pool = null;
+    this.deadlineMillis = 0;
+  }
+
+  /* Threads 0 (the default) means one per available processor */
+  @Autowired
+  public AIMoveService(
+      @Value("${bidwhist.ai.threads:0}") int threads,
+      @Value("${bidwhist.ai.move-deadline-ms:" + DEFAULT_DEADLINE_MS + "}") long deadlineMillis,
+      @Value("${bidwhist.ai.queue-capacity:" + DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity) {
+    if (threads < 0 || deadlineMillis < 1 || queueCapacity < 1) {
+      throw new IllegalArgumentException("AI threads, deadline and queue size out of range");
+    }
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger counter = new AtomicInteger();
+    this.pool =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "ai-move-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.deadlineMillis = deadlineMillis;
+  }
+
+  /* Decides on the calling thread with no deadline */
+  public static AIMoveService inline() {
+    return new AIMoveService();
+  }
+
+  /*
+   * Starts a decision for a game. The future completes with the card, with null if
+   * the decision missed its deadline, failed or was refused, or as cancelled if
+   * cancel() is called for the game first. The decision must not touch the game: it
+   * runs on the pool while the lane moves on, so it works from a copy taken there.
+   */
+  public CompletableFuture<Card> decide(String gameId, Supplier<Card> decision) {
+    if (pool == null) {
+      return CompletableFuture.completedFuture(decision.get());
+    }
+
+    CompletableFuture<Card> result = new CompletableFuture<>();
+    Future<?> task;
+    try {
+      task =
+          pool.submit(
+              () -> {
+                try {
+                  result.complete(decision.get());
+                } catch (RuntimeException e) {
+                  log.warn("AI decision failed in game {}", gameId, e);
+                  result.complete(null);
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      log.warn("AI pool saturated; game {} falls back", gameId);
+      result.complete(null);
+      return result;
+    }
+
+    Decision inFlightDecision = new Decision(result, task);
+    Decision previous = inFlight.put(gameId, inFlightDecision);
+    if (previous != null) {
+      cancel(previous);
+    }
+    result.completeOnTimeout(null, deadlineMillis, TimeUnit.MILLISECONDS);
+    result.whenComplete(
+        (card, error) -> {
+          inFlight.remove(gameId, inFlightDecision);
+          if (card == null && !task.isDone()) {
+            // Past the deadline: stop the search rather than let it run on
+            task.cancel(true);
+          }
+        });
+    return result;
+  }
+
+  /* Abandons a game's decision in flight, if any */
+  public void cancel(String gameId) {
+    Decision decision = inFlight.remove(gameId);
+    if (decision != null) {
+      cancel(decision);
+    }
+  }
+
+  /* Number of games with a decision in flight */
+  public int inFlightGames() {
+    return inFlight.size();
+  }
+
+  private static void cancel(Decision decision) {
+    decision.result().cancel(false);
+    decision.task().cancel(true);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (pool != null) {
+      pool.shutdownNow();
+    }
+  }
+}
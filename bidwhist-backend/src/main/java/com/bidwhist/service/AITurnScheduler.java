@@ -0,0 +1,134 @@
+// src/main/java/com/bidwhist/service/AITurnScheduler.java
+
+package com.bidwhist.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Plays AI seats' turns off the request thread, one card per step.
+ *
+ * A request that hands the turn to an AI schedules a step and returns at once. Each
+ * step runs on the game's lane after the pacing delay, plays one AI card and says
+ * whether another AI is due; if so the next step is scheduled the same way. Nothing
+ * is carried between steps but the game itself, so a step always resumes from
+ * whatever the game looks like when it runs, and a game has at most one step
+ * pending at a time.
+ *
+ * The inline scheduler runs every step at once on the caller's lane instead, as a
+ * single request used to.
+ */
+@Component
+public class AITurnScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(AITurnScheduler.class);
+
+  /* About one card-play animation on the client */
+  public static final long DEFAULT_PACE_MS = 650;
+
+  private final GameLaneExecutor lanes;
+  private final long paceMillis;
+  private final ScheduledExecutorService timer;
+  private final Map<String, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+
+  private AITurnScheduler() {
+    this.lanes = null;
+    this.paceMillis = 0;
+    this.timer = null;
+  }
+
+  @Autowired
+  public AITurnScheduler(
+      GameLaneExecutor lanes,
+      @Value("${bidwhist.ai.turn-pace-ms:" + DEFAULT_PACE_MS + "}") long paceMillis) {
+    if (paceMillis < 0) {
+      throw new IllegalArgumentException("AI turn pace cannot be negative");
+    }
+    this.lanes = lanes;
+    this.paceMillis = paceMillis;
+    this.timer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "ai-turns");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /* Runs each game's AI turns to completion inside the scheduling call */
+  public static AITurnScheduler inline() {
+    return new AITurnScheduler();
+  }
+
+  /*
+   * Schedules AI turns for a game. The step plays one turn on the game's lane and
+   * returns true if another AI turn follows. Call on the game's lane; a game that
+   * already has a step pending keeps it.
+   */
+  public void schedule(String gameId, BooleanSupplier step) {
+    if (timer == null) {
+      while (step.getAsBoolean()) {
+        // Each pass plays one turn
+      }
+      return;
+    }
+    pending.computeIfAbsent(
+        gameId,
+        id -> timer.schedule(() -> submitStep(id, step), paceMillis, TimeUnit.MILLISECONDS));
+  }
+
+  /* True if steps run inside the scheduling call rather than as lane tasks of their own */
+  public boolean isInline() {
+    return timer == null;
+  }
+
+  /* Drops a game's pending step, e.g. when the game is removed */
+  public void cancel(String gameId) {
+    ScheduledFuture<?> step = pending.remove(gameId);
+    if (step != null) {
+      step.cancel(false);
+    }
+  }
+
+  /* Number of games with a step waiting */
+  public int pendingGames() {
+    return pending.size();
+  }
+
+  private void submitStep(String gameId, BooleanSupplier step) {
+    lanes
+        .submit(
+            gameId,
+            () -> {
+              pending.remove(gameId);
+              if (step.getAsBoolean()) {
+                schedule(gameId, step);
+              }
+              return null;
+            })
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                log.warn("AI turn failed in game {}; AI play stops", gameId, error);
+              }
+            });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (timer != null) {
+      timer.shutdownNow();
+    }
+  }
+}
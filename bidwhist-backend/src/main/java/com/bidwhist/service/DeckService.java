@@ -9,11 +9,10 @@ import org.springframework.stereotype.Service;
 public class DeckService {
 
   /*
-   * Creates a new shuffled deck and returns it.
+   * Creates a new deck in standard order. Games shuffle it from their own seed when
+   * a hand is dealt, so shuffling here would only be thrown away.
    */
   public static Deck createNewDeck() {
-    Deck deck = new Deck();
-    deck.shuffle();
-    return deck;
+    return new Deck();
   }
 }
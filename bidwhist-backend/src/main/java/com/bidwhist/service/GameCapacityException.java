@@ -0,0 +1,18 @@
+// src/main/java/com/bidwhist/service/GameCapacityException.java
+
+package com.bidwhist.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/*
+ * Thrown when a new game is requested while the server already holds the maximum
+ * number of live games. Clients see 503 and may retry once idle games are evicted.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class GameCapacityException extends RuntimeException {
+
+  public GameCapacityException(int maxGames) {
+    super("Server is at capacity (" + maxGames + " live games), try again later");
+  }
+}
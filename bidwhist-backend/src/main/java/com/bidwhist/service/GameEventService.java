@@ -0,0 +1,259 @@
+// src/main/java/com/bidwhist/service/GameEventService.java
+
+package com.bidwhist.service;
+
+import com.bidwhist.dto.Animation;
+import com.bidwhist.dto.GameStateResponse;
+import com.bidwhist.model.GameEventListener;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayerPos;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * Pushes game events to subscribed clients over Server-Sent Events.
+ * Clients subscribe per gameId + PlayerPos, receive one full "state" event on connect,
+ * then "animation" events as they are queued and "delta" events after each completed
+ * game action.
+ * Games with no subscribers cost nothing beyond a single map lookup.
+ *
+ * Publishing never writes to a socket. Each subscriber has its own outbox, drained
+ * in order by a sender thread, so a slow client delays only its own stream and never
+ * the game lane that published the event. A client that falls too far behind is
+ * dropped and reconnects to a fresh state.
+ */
+@Service
+public class GameEventService implements GameEventListener {
+
+  public static final String ANIMATION_EVENT = "animation";
+  public static final String STATE_EVENT = "state";
+  public static final String DELTA_EVENT = "delta";
+
+  private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+  /* Events a subscriber may have waiting before it is considered gone */
+  static final int MAX_PENDING_EVENTS = 256;
+
+  private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final ExecutorService senders;
+
+  public GameEventService() {
+    AtomicInteger counter = new AtomicInteger();
+    this.senders =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "sse-send-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /*
+   * Opens a new event stream for the given game and player and queues the
+   * initial state as its first event. The state is read after the stream is
+   * registered, so no event published in between is lost.
+   * The emitter removes itself once the client disconnects or times out.
+   */
+  public SseEmitter subscribe(
+      String gameId, PlayerPos player, Supplier<GameStateResponse> initialState) {
+    SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+    Subscriber subscriber = new Subscriber(gameId, player, emitter);
+
+    // Added under the map's lock so a concurrent removal cannot drop the list first
+    subscribers.compute(
+        gameId,
+        (id, list) -> {
+          List<Subscriber> target = list != null ? list : new CopyOnWriteArrayList<>();
+          target.add(subscriber);
+          return target;
+        });
+
+    emitter.onCompletion(() -> remove(gameId, subscriber));
+    emitter.onTimeout(() -> remove(gameId, subscriber));
+    emitter.onError(error -> remove(gameId, subscriber));
+
+    if (initialState != null) {
+      subscriber.offer(SseEmitter.event().name(STATE_EVENT).data(initialState.get()));
+    }
+    return emitter;
+  }
+
+  /* Returns true if at least one client is listening to this game */
+  public boolean hasSubscribers(String gameId) {
+    List<Subscriber> list = subscribers.get(gameId);
+    return list != null && !list.isEmpty();
+  }
+
+  /*
+   * Forwards a newly queued animation to every subscriber of the game.
+   */
+  @Override
+  public void onAnimation(GameState game, Animation animation) {
+    List<Subscriber> list = subscribers.get(game.getGameId());
+    if (list == null || list.isEmpty()) {
+      return;
+    }
+
+    for (Subscriber subscriber : list) {
+      subscriber.offer(SseEmitter.event().name(ANIMATION_EVENT).data(animation));
+    }
+  }
+
+  /*
+   * Publishes a per-player state view to every subscriber of the game.
+   * Views are only built for seats that actually have an open stream, once per seat.
+   */
+  public <T> void publishState(GameState game, Function<PlayerPos, T> viewForPlayer) {
+    publish(game, STATE_EVENT, viewForPlayer);
+  }
+
+  /*
+   * Publishes a per-player state delta to every subscriber of the game.
+   * Seats whose delta is null (nothing changed for them) are skipped.
+   */
+  public <T> void publishDelta(GameState game, Function<PlayerPos, T> deltaForPlayer) {
+    publish(game, DELTA_EVENT, deltaForPlayer);
+  }
+
+  /*
+   * Completes and drops every stream for a game that has ended or been removed.
+   */
+  public void closeGame(String gameId) {
+    List<Subscriber> list = subscribers.remove(gameId);
+    if (list == null) {
+      return;
+    }
+
+    for (Subscriber subscriber : list) {
+      subscriber.offerCompletion();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    senders.shutdownNow();
+  }
+
+  private <T> void publish(GameState game, String eventName, Function<PlayerPos, T> viewForPlayer) {
+    List<Subscriber> list = subscribers.get(game.getGameId());
+    if (list == null || list.isEmpty()) {
+      return;
+    }
+
+    Map<PlayerPos, T> views = new EnumMap<>(PlayerPos.class);
+    for (Subscriber subscriber : list) {
+      T view = views.computeIfAbsent(subscriber.player(), viewForPlayer);
+      if (view != null) {
+        subscriber.offer(SseEmitter.event().name(eventName).data(view));
+      }
+    }
+  }
+
+  private void remove(String gameId, Subscriber subscriber) {
+    subscribers.computeIfPresent(
+        gameId,
+        (id, list) -> {
+          list.remove(subscriber);
+          return list.isEmpty() ? null : list;
+        });
+  }
+
+  /*
+   * A single open event stream for one player seat, with its outbox of events not
+   * yet written. The sending flag guarantees one writer at a time, so events
+   * reach the client in the order they were published.
+   */
+  private final class Subscriber {
+    private final String gameId;
+    private final PlayerPos player;
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile boolean completing;
+    private volatile boolean closed;
+
+    Subscriber(String gameId, PlayerPos player, SseEmitter emitter) {
+      this.gameId = gameId;
+      this.player = player;
+      this.emitter = emitter;
+    }
+
+    PlayerPos player() {
+      return player;
+    }
+
+    /* Queues an event; a client this far behind is dropped instead */
+    void offer(SseEmitter.SseEventBuilder event) {
+      if (closed) {
+        return;
+      }
+      if (pending.incrementAndGet() > MAX_PENDING_EVENTS) {
+        fail(new IllegalStateException("Event stream fell too far behind"));
+        return;
+      }
+      outbox.add(event);
+      scheduleDrain();
+    }
+
+    /* Completes the stream once everything already queued has been sent */
+    void offerCompletion() {
+      completing = true;
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (sending.compareAndSet(false, true)) {
+        try {
+          senders.execute(this::drain);
+        } catch (RuntimeException e) {
+          sending.set(false);
+        }
+      }
+    }
+
+    private void drain() {
+      try {
+        SseEmitter.SseEventBuilder event;
+        while (!closed && (event = outbox.poll()) != null) {
+          pending.decrementAndGet();
+          emitter.send(event);
+        }
+        if (completing && !closed) {
+          closed = true;
+          emitter.complete();
+        }
+      } catch (IOException | IllegalStateException e) {
+        fail(e);
+      } finally {
+        sending.set(false);
+      }
+
+      if (!closed && (!outbox.isEmpty() || completing)) {
+        scheduleDrain();
+      }
+    }
+
+    private void fail(Exception e) {
+      closed = true;
+      outbox.clear();
+      remove(gameId, this);
+      emitter.completeWithError(e);
+    }
+  }
+}
@@ -0,0 +1,220 @@
+// src/main/java/com/bidwhist/service/GameLaneExecutor.java
+
+package com.bidwhist.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+/*
+ * Serializes all work on a single game through its own "lane" (a mailbox of tasks),
+ * while different games run in parallel on a shared worker pool.
+ *
+ * Only one thread ever executes tasks for a given gameId at a time, so GameState
+ * can keep its plain ArrayList/HashMap fields. There is no global lock: an idle
+ * lane is claimed with a single CAS, and the calling thread runs the work itself
+ * when nobody else is draining that lane.
+ *
+ * Tasks join a lane and a lane leaves the map under the same per-key map lock, so a
+ * removed lane can never hold work and a game never has two lanes at once. Removing
+ * a busy lane only marks it; it leaves once it is idle with an empty mailbox.
+ */
+@Service
+public class GameLaneExecutor {
+
+  /* Tasks a single drain pass runs before handing the lane back to the pool */
+  private static final int DRAIN_BATCH = 32;
+
+  private static final ThreadLocal<Lane> CURRENT_LANE = new ThreadLocal<>();
+
+  private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+  private final ExecutorService pool;
+
+  public GameLaneExecutor() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  public GameLaneExecutor(int threads) {
+    AtomicInteger counter = new AtomicInteger();
+    this.pool =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "game-lane-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /*
+   * Runs the action on the game's lane and waits for its result.
+   * Runtime exceptions thrown by the action are rethrown unchanged to the caller.
+   */
+  public <T> T execute(String gameId, Supplier<T> action) {
+    if (gameId == null) {
+      throw new IllegalArgumentException("Game ID cannot be null");
+    }
+
+    // Already running inside this lane (nested call): run inline to avoid self-deadlock
+    Lane current = CURRENT_LANE.get();
+    if (current != null && current.gameId.equals(gameId)) {
+      return action.get();
+    }
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Lane lane = enqueue(gameId, action, future);
+    if (lane.tryClaim()) {
+      lane.drain();
+    }
+
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /* Runs an action with no result on the game's lane and waits for it to finish */
+  public void run(String gameId, Runnable action) {
+    execute(
+        gameId,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /*
+   * Queues the action on the game's lane without waiting.
+   * The returned future completes once the action has run.
+   */
+  public <T> CompletableFuture<T> submit(String gameId, Supplier<T> action) {
+    if (gameId == null) {
+      throw new IllegalArgumentException("Game ID cannot be null");
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Lane lane = enqueue(gameId, action, future);
+    if (lane.tryClaim()) {
+      pool.execute(lane::drain);
+    }
+    return future;
+  }
+
+  /*
+   * Forgets the lane of a game that has been removed. Safe to call from inside the
+   * lane: the lane finishes its queued tasks and leaves the map once it is idle.
+   */
+  public void remove(String gameId) {
+    if (gameId == null) {
+      return;
+    }
+    Lane lane = lanes.get(gameId);
+    if (lane != null) {
+      lane.retiring = true;
+      lane.leaveIfIdle();
+    }
+  }
+
+  /* Number of games that currently have a lane */
+  int laneCount() {
+    return lanes.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdown();
+  }
+
+  /*
+   * Adds the action to the game's mailbox, creating the lane if needed. Runs under
+   * the map's lock for the key, so it cannot interleave with a lane leaving.
+   * Each task runs with the game's id in the logging context.
+   */
+  private <T> Lane enqueue(String gameId, Supplier<T> action, CompletableFuture<T> future) {
+    Runnable task =
+        () -> {
+          Map<String, String> logContext = LogContext.enter(gameId);
+          try {
+            future.complete(action.get());
+          } catch (Throwable t) {
+            future.completeExceptionally(t);
+          } finally {
+            LogContext.restore(logContext);
+          }
+        };
+    return lanes.compute(
+        gameId,
+        (id, lane) -> {
+          Lane target = lane != null ? lane : new Lane(id);
+          target.tasks.add(task);
+          return target;
+        });
+  }
+
+  /* A single game's mailbox. The running flag guarantees one drainer at a time. */
+  private final class Lane {
+    private final String gameId;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean retiring;
+
+    Lane(String gameId) {
+      this.gameId = gameId;
+    }
+
+    /* Drops a retiring lane from the map if nobody is draining it and it has no work */
+    void leaveIfIdle() {
+      lanes.computeIfPresent(
+          gameId, (id, lane) -> lane == this && !running.get() && tasks.isEmpty() ? null : lane);
+    }
+
+    boolean tryClaim() {
+      return running.compareAndSet(false, true);
+    }
+
+    /*
+     * Runs queued tasks in order. After a full batch the lane is handed to the
+     * pool so a busy game cannot monopolize a request thread.
+     */
+    void drain() {
+      // A caller already on another lane drains this one inline; keep its marker
+      Lane outer = CURRENT_LANE.get();
+      CURRENT_LANE.set(this);
+      try {
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+          Runnable task = tasks.poll();
+          if (task == null) {
+            break;
+          }
+          task.run();
+        }
+      } finally {
+        CURRENT_LANE.set(outer);
+        running.set(false);
+      }
+
+      if (!tasks.isEmpty() && tryClaim()) {
+        pool.execute(this::drain);
+      } else if (retiring) {
+        leaveIfIdle();
+      }
+    }
+  }
+}
@@ -0,0 +1,156 @@
+// src/main/java/com/bidwhist/service/GameRegistry.java
+
+package com.bidwhist.service;
+
+import com.bidwhist.metrics.EngineMetrics;
+import com.bidwhist.model.GameState;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Bounded store of the games held in memory.
+ *
+ * Every lookup stamps the game's last-access time, so a game nobody has touched for
+ * the idle TTL can be found and evicted. New games are refused once the registry
+ * holds the configured maximum. The bound is checked without a lock, so concurrent
+ * creates can overshoot it by at most the number of requests in flight.
+ */
+@Component
+public class GameRegistry {
+
+  public static final int DEFAULT_MAX_GAMES = 10_000;
+  public static final long DEFAULT_IDLE_TTL_MS = 30 * 60 * 1000L;
+
+  /* A game plus the time it was last looked up, on the registry's clock */
+  private static final class Entry {
+    private final GameState game;
+    private volatile long lastAccess;
+
+    private Entry(GameState game, long now) {
+      this.game = game;
+      this.lastAccess = now;
+    }
+  }
+
+  private final Map<String, Entry> games = new ConcurrentHashMap<>();
+  private final Collection<GameState> view = new GameView();
+  private final int maxGames;
+  private final long idleTtlNanos;
+  private final LongSupplier clock;
+
+  public GameRegistry() {
+    this(DEFAULT_MAX_GAMES, DEFAULT_IDLE_TTL_MS);
+  }
+
+  @Autowired
+  public GameRegistry(
+      @Value("${bidwhist.games.max:" + DEFAULT_MAX_GAMES + "}") int maxGames,
+      @Value("${bidwhist.games.idle-ttl-ms:" + DEFAULT_IDLE_TTL_MS + "}") long idleTtlMillis) {
+    this(maxGames, idleTtlMillis, System::nanoTime);
+  }
+
+  /* Clock in nanoseconds, replaceable so tests can age games without sleeping */
+  GameRegistry(int maxGames, long idleTtlMillis, LongSupplier clock) {
+    if (maxGames < 1 || idleTtlMillis < 1) {
+      throw new IllegalArgumentException("Max games and idle TTL must be positive");
+    }
+    this.maxGames = maxGames;
+    this.idleTtlNanos = TimeUnit.MILLISECONDS.toNanos(idleTtlMillis);
+    this.clock = clock;
+  }
+
+  /*
+   * Throws GameCapacityException if a new game could not be admitted.
+   * Replacing a game under an id already in use never counts against the limit.
+   */
+  public void checkCapacity(String gameId) {
+    if (games.size() >= maxGames && !games.containsKey(gameId)) {
+      EngineMetrics.recordRejectedGame();
+      throw new GameCapacityException(maxGames);
+    }
+  }
+
+  /* Stores a game, replacing any game already held under its id */
+  public void put(GameState game) {
+    games.put(game.getGameId(), new Entry(game, clock.getAsLong()));
+  }
+
+  /* Stores a game unless one is already held under its id */
+  public void putIfAbsent(GameState game) {
+    games.putIfAbsent(game.getGameId(), new Entry(game, clock.getAsLong()));
+  }
+
+  /* Returns the game and marks it as accessed, or null if there is none */
+  public GameState get(String gameId) {
+    Entry entry = games.get(gameId);
+    if (entry == null) {
+      return null;
+    }
+    entry.lastAccess = clock.getAsLong();
+    return entry.game;
+  }
+
+  public void remove(String gameId) {
+    games.remove(gameId);
+  }
+
+  /* Ids of games not accessed within the idle TTL */
+  public List<String> idleGameIds() {
+    long now = clock.getAsLong();
+    List<String> idle = new ArrayList<>();
+    for (Map.Entry<String, Entry> entry : games.entrySet()) {
+      if (now - entry.getValue().lastAccess >= idleTtlNanos) {
+        idle.add(entry.getKey());
+      }
+    }
+    return idle;
+  }
+
+  /*
+   * Removes the game if it is still idle, returning whether it was removed.
+   * A game looked up since idleGameIds() was taken is kept.
+   */
+  public boolean removeIfIdle(String gameId) {
+    Entry entry = games.get(gameId);
+    if (entry == null || clock.getAsLong() - entry.lastAccess < idleTtlNanos) {
+      return false;
+    }
+    return games.remove(gameId, entry);
+  }
+
+  /* Live, read-only view of the games; iterating it does not count as access */
+  public Collection<GameState> games() {
+    return view;
+  }
+
+  public int size() {
+    return games.size();
+  }
+
+  public int getMaxGames() {
+    return maxGames;
+  }
+
+  /* Read-only: AbstractCollection rejects add, and the stream iterator rejects remove */
+  private final class GameView extends AbstractCollection<GameState> {
+    @Override
+    public Iterator<GameState> iterator() {
+      return games.values().stream().map(entry -> entry.game).iterator();
+    }
+
+    @Override
+    public int size() {
+      return games.size();
+    }
+  }
+}
@@ -1,14 +1,19 @@
 // src/main/java/com/bidwhist/service/GameService.java
 package com.bidwhist.service;
 
-import com.bidwhist.bidding.BidType;
 import com.bidwhist.bidding.FinalBid;
 import com.bidwhist.bidding.InitialBid;
+import com.bidwhist.dto.AckAnimationsRequest;
 import com.bidwhist.dto.Animation;
 import com.bidwhist.dto.AnimationType;
+import com.bidwhist.dto.BatchRequest;
+import com.bidwhist.dto.BatchResponse;
 import com.bidwhist.dto.BidRequest;
 import com.bidwhist.dto.CardVisibility;
+import com.bidwhist.dto.CommandType;
 import com.bidwhist.dto.FinalBidRequest;
+import com.bidwhist.dto.GameCommand;
+import com.bidwhist.dto.GameStateDelta;
 import com.bidwhist.dto.GameStateResponse;
 import com.bidwhist.dto.HandRequest;
 import com.bidwhist.dto.HandResponse;
@@ -20,9 +25,13 @@ import com.bidwhist.dto.PollRequest;
 import com.bidwhist.dto.PopAnimationRequest;
 import com.bidwhist.dto.QuitGameRequest;
 import com.bidwhist.dto.StartGameRequest;
+import com.bidwhist.metrics.EngineMetrics;
+import com.bidwhist.model.AIDecision;
+import com.bidwhist.model.AIDecisions;
 import com.bidwhist.model.Book;
 import com.bidwhist.model.Card;
 import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.GameSnapshot;
 import com.bidwhist.model.GameState;
 import com.bidwhist.model.PlayedCard;
 import com.bidwhist.model.Player;
@@ -30,6 +39,9 @@ import com.bidwhist.model.PlayerPos;
 import com.bidwhist.model.RoomStatus;
 import com.bidwhist.model.Suit;
 import com.bidwhist.model.Team;
+import com.bidwhist.persistence.GameCommandLog;
+import com.bidwhist.persistence.LogEntry;
+import com.bidwhist.persistence.LogEntryType;
 import com.bidwhist.utils.AIUtils;
 import com.bidwhist.utils.CardUtils;
 import com.bidwhist.utils.GameplayUtils;
@@ -37,18 +49,75 @@ import com.bidwhist.utils.HandUtils;
 import com.bidwhist.utils.JokerUtils;
 import com.bidwhist.utils.PlayerUtils;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class GameService {
 
-  private final Map<String, GameState> games = new ConcurrentHashMap<>();
+  private static final Logger log = LoggerFactory.getLogger(GameService.class);
 
-  /* Constructor for GameService (DeckService currently unused) */
+  private static final Card HIDDEN_CARD = new Card(null, null);
+
+  static final long EVICTION_INTERVAL_MS = 60_000;
+
+  private final GameRegistry games;
+  private final GameEventService eventService;
+  private final GameLaneExecutor lanes;
+  private final GameCommandLog commandLog;
+  private final AITurnScheduler aiTurns;
+  private final AIMoveService aiMoves;
+
+  /* AI decisions read from the log for games being restored, keyed by game ID */
+  private final Map<String, AIDecisions> restoring = new ConcurrentHashMap<>();
+
+  /* Constructor for GameService (DeckService currently unused); AI turns run inline */
   public GameService(DeckService deckService) {
+    this(
+        deckService,
+        new GameEventService(),
+        new GameLaneExecutor(),
+        new GameRegistry(),
+        GameCommandLog.disabled(),
+        AITurnScheduler.inline(),
+        AIMoveService.inline());
+  }
+
+  /*
+   * Constructor used by Spring to wire in the event push channel, the per-game
+   * lanes that serialize every read and write of a GameState, the bounded
+   * registry the games are held in, the command log they are recovered from,
+   * the scheduler that plays AI turns after the request returns, and the pool
+   * the AI decides its cards on.
+   */
+  @Autowired
+  public GameService(
+      DeckService deckService,
+      GameEventService eventService,
+      GameLaneExecutor lanes,
+      GameRegistry games,
+      GameCommandLog commandLog,
+      AITurnScheduler aiTurns,
+      AIMoveService aiMoves) {
+    this.eventService = eventService;
+    this.lanes = lanes;
+    this.games = games;
+    this.commandLog = commandLog;
+    this.aiTurns = aiTurns;
+    this.aiMoves = aiMoves;
   }
 
   /*
@@ -57,14 +126,31 @@ public class GameService {
    * state.
    */
   public GameStateResponse startSoloGame(StartGameRequest request) {
+    games.checkCapacity(request.getGameId());
+    long seed = ThreadLocalRandom.current().nextLong();
+    return lanes.execute(
+        request.getGameId(),
+        () ->
+            logged(
+                LogEntryType.SOLO_START,
+                request.getGameId(),
+                seed,
+                request,
+                startSoloGameInLane(request, seed)));
+  }
+
+  private GameStateResponse startSoloGameInLane(StartGameRequest request, long seed) {
     String playerName = request.getPlayerName();
     GameState game = new GameState(request.getGameId());
     game.setSessionKey(request.getSessionKey());
+    game.setEventListener(eventService);
+    game.setAIDecisions(restoring.getOrDefault(request.getGameId(), new AIDecisions()));
+    LogContext.bind(game);
 
     game.setFirstBidder(PlayerPos.P1);
     game.setDifficulty(request.getDifficulty());
 
-    System.out.println("Staring new game for player: " + playerName);
+    log.info("Starting new solo game for player: {} (seed {})", playerName, seed);
 
     PlayerPos[] positions = PlayerPos.values();
     List<Player> players = new ArrayList<>();
@@ -76,12 +162,8 @@ public class GameService {
     players.add(new Player("AI 2", true, positions[2], Team.A));
     players.add(new Player("AI 3", true, positions[3], Team.B));
 
-    for (Player p : players) {
-      System.out.println("Created player: " + p.getName() + " (" + p.getPosition() + ")");
-    }
-
-    game.getDeck().shuffle();
-    game.setShuffledDeck(game.getDeck().getCards());
+    game.setShuffleSeed(seed);
+    GameplayUtils.shuffleDeck(game);
 
     game.getPlayers().addAll(players);
     game.setPhase(GamePhase.SHUFFLE);
@@ -90,11 +172,9 @@ public class GameService {
     response.setPlayerPosition(PlayerUtils.getPositionByName(playerName, players));
     response.setViewerName(playerName);
 
-    System.out.println("Current phase: " + game.getPhase());
-
-    games.put(game.getGameId(), game);
-    System.out.println(game.getGameId());
+    games.put(game);
     GameplayUtils.dealToPlayers(game);
+    publishSnapshot(game);
 
     return response;
   }
@@ -104,21 +184,29 @@ public class GameService {
    */
 
   public GameStateResponse startNewGame(QuitGameRequest request) {
+    return lanes.execute(
+        request.getGameId(),
+        () ->
+            logged(
+                LogEntryType.NEW_GAME, request.getGameId(), request, startNewGameInLane(request)));
+  }
+
+  private GameStateResponse startNewGameInLane(QuitGameRequest request) {
     GameState game = getGameById(request.getGameId());
     game.setSessionKey(request.getSessionKey());
+    LogContext.bind(game);
 
-    System.out.println("Restarting game " + request.getGameId());
+    log.info("Restarting game");
 
     if (request.getMode() == "multiplayer" && game.getPhase() != GamePhase.END) {
       throw new IllegalStateException("Game has not ended");
     } else {
-      for (List<Animation> queue : game.getAnimationList().values()) {
-        queue.clear();
-      }
+      game.clearAnimations();
 
       GameplayUtils.startNewGame(game);
     }
 
+    publishSnapshot(game);
     return getGameStateForPlayer(game, request.getPlayer());
   }
 
@@ -127,31 +215,46 @@ public class GameService {
    * Sets game status to waiting for additional players.
    */
   public GameStateResponse createMutliplayerGame(StartGameRequest request) {
-    System.out.println("Staring new game for player: " + request.getPlayerName());
+    games.checkCapacity(request.getGameId());
+    long seed = ThreadLocalRandom.current().nextLong();
+    return lanes.execute(
+        request.getGameId(),
+        () ->
+            logged(
+                LogEntryType.MULTIPLAYER_CREATE,
+                request.getGameId(),
+                seed,
+                request,
+                createMutliplayerGameInLane(request, seed)));
+  }
 
+  private GameStateResponse createMutliplayerGameInLane(StartGameRequest request, long seed) {
     GameState game = new GameState(request.getGameId());
     game.setSessionKey(request.getSessionKey());
+    game.setEventListener(eventService);
+    game.setAIDecisions(restoring.getOrDefault(request.getGameId(), new AIDecisions()));
+    LogContext.bind(game);
+    log.info(
+        "Starting new multiplayer game for player: {} (seed {})", request.getPlayerName(), seed);
 
     Player player = new Player(request.getPlayerName(), false, PlayerPos.values()[0], Team.A);
     game.getRoom().addPlayer(player);
     game.getPlayers().add(player);
 
-    game.getDeck().shuffle();
-    game.setShuffledDeck(game.getDeck().getCards());
+    game.setShuffleSeed(seed);
+    GameplayUtils.shuffleDeck(game);
 
     game.getRoom().setStatus(RoomStatus.WAITING_FOR_PLAYERS);
     game.setPhase(GamePhase.INITIATED);
 
-    games.putIfAbsent(request.getGameId(), game);
-    games.putIfAbsent(game.getGameId(), game);
+    games.putIfAbsent(game);
 
     GameStateResponse response = getGameStateForPlayer(game, player.getPosition());
     response.setPlayerPosition(player.getPosition());
     response.setViewerName(player.getName());
     response.setLobbySize(game.getRoom().getPlayers().size());
 
-    System.out.println("Current phase: " + game.getPhase());
-
+    publishSnapshot(game);
     return response;
   }
 
@@ -160,6 +263,12 @@ public class GameService {
    * If room is ready, triggers shuffle and deals cards.
    */
   public GameStateResponse joinGame(JoinGameRequest request) {
+    return lanes.execute(
+        request.getGameId(),
+        () -> logged(LogEntryType.JOIN, request.getGameId(), request, joinGameInLane(request)));
+  }
+
+  private GameStateResponse joinGameInLane(JoinGameRequest request) {
     GameState game = getGameById(request.getGameId());
     game.getRoom().addPlayer(request.getPlayerName());
 
@@ -171,11 +280,12 @@ public class GameService {
 
     if (game.getRoom().getStatus() == RoomStatus.READY) {
       game.setPhase(GamePhase.SHUFFLE);
-      System.out.println("Current phase: " + game.getPhase());
       GameplayUtils.dealToPlayers(game);
       game.getRoom().setStatus(RoomStatus.IN_PROGRESS);
     }
 
+    publishSnapshot(game);
+
     GameStateResponse response = getGameStateForPlayer(game, position);
     response.setPlayerPosition(position);
     response.setViewerName(request.getPlayerName());
@@ -194,9 +304,13 @@ public class GameService {
     List<Player> players = game.getPlayers();
     Team myTeam = game.getTeamByPlayerPos(players, playerPosition);
     List<Card> shuffledDeck = getMyShuffledDeck(game, playerPosition);
+    List<Animation> animations =
+        playerPosition == null
+            ? new ArrayList<>()
+            : game.getAnimationQueue(playerPosition).toList();
 
     GameStateResponse response = new GameStateResponse(
-        game.getAnimationList().getOrDefault(playerPosition, new ArrayList<>()),
+        animations,
         playerViews,
         myKittyView,
         game.getCurrentTurnIndex(),
@@ -212,7 +326,7 @@ public class GameService {
     response.setLobbySize(game.getRoom().getPlayers().size());
     response.setTrumpSuit(game.getTrumpSuit());
     response.setBidType(game.getFinalBidType());
-    response.setBids(game.getBids());
+    response.setBids(List.copyOf(game.getBids()));
     response.setWinningBid(game.getWinningBid());
     response.setPlayerTeam(myTeam);
     response.setBidWinnerPos(game.getBidWinnerPos());
@@ -227,6 +341,12 @@ public class GameService {
    * Also triggers AI bidding logic and resolves winner if 4 bids exist.
    */
   public GameStateResponse submitBid(BidRequest request) {
+    return lanes.execute(
+        request.getGameId(),
+        () -> logged(LogEntryType.BID, request.getGameId(), request, submitBidInLane(request)));
+  }
+
+  private GameStateResponse submitBidInLane(BidRequest request) {
     GameState game = getGameById(request.getGameId());
 
     if (game == null) {
@@ -265,61 +385,11 @@ public class GameService {
     AIUtils.processAllBids(game);
 
     if (game.getBids().size() >= 4) {
-      PlayerPos winnerPos = game.getHighestBid().getPlayer();
-      Player winner = game.getPlayers().stream()
-          .filter(p -> p.getPosition().equals(winnerPos))
-          .findFirst()
-          .orElseThrow(() -> new IllegalStateException("Winner not found"));
-
-      game.setBidWinnerPos(winnerPos);
-
-      // NO_TRUMP Handling
-      if (game.getHighestBid().isNo()) {
-        game.setBidType(BidType.NO_TRUMP);
-        game.setTrumpSuit(null);
-
-        FinalBid finalBid = new FinalBid(
-            game.getHighestBid().getPlayer(),
-            game.getHighestBid().getValue(),
-            BidType.NO_TRUMP,
-            null);
-        game.setWinningBidStats(finalBid);
-
-        if (winner.isAI()) {
-          AIUtils.applyAIAutoKitty(game, winner);
-          game.setPhase(GamePhase.PLAY);
-        } else {
-          game.setPhase(GamePhase.KITTY);
-        }
-
-        int nextTurn = (game.getBidTurnIndex() + 1) % 4;
-        game.setBidTurnIndex(nextTurn);
-        game.setFirstBidder(PlayerPos.values()[nextTurn]);
-
-        return getGameStateForPlayer(game, request.getPlayer());
-      }
-
-      if (winner.isAI()) {
-        FinalBid finalBid = game.getFinalBidCache().get(winnerPos);
-        if (finalBid == null) {
-          throw new IllegalStateException("AI Final bid missing for: " + winnerPos);
-        }
-        game.setWinningBidStats(finalBid);
-        game.getDeck().assignTrumpSuitToJokers(finalBid.getSuit());
-        AIUtils.applyAIAutoKitty(game, winner);
-      }
-
-      int nextTurn = (game.getBidTurnIndex() + 1) % 4;
-      game.setBidTurnIndex(nextTurn);
-      game.setFirstBidder(PlayerPos.values()[nextTurn]);
-
-      if (winner.isAI()) {
-        game.setPhase(GamePhase.PLAY);
-      } else {
-        game.setPhase(GamePhase.KITTY);
-      }
+      GameplayUtils.resolveBids(game);
+      scheduleAITurns(game);
     }
 
+    publishSnapshot(game);
     return getGameStateForPlayer(game, request.getPlayer());
   }
 
@@ -328,6 +398,14 @@ public class GameService {
    * Assigns trump suit and updates game state and kitty visibility.
    */
   public GameStateResponse getFinalBid(FinalBidRequest request) {
+    return lanes.execute(
+        request.getGameId(),
+        () ->
+            logged(
+                LogEntryType.FINAL_BID, request.getGameId(), request, getFinalBidInLane(request)));
+  }
+
+  private GameStateResponse getFinalBidInLane(FinalBidRequest request) {
     GameState game = getGameById(request.getGameId());
 
     PlayerPos winnerPos = request.getPlayer();
@@ -351,10 +429,11 @@ public class GameService {
     game.getDeck().assignTrumpSuitToJokers(request.getSuit());
 
     GameStateResponse response = getGameStateForPlayer(game, winnerPos);
-    response.setKitty(game.getKitty());
+    response.setKitty(Card.copyAll(game.getKitty()));
     winner.getHand().getCards().addAll(game.getKitty());
     game.addAnimation(new Animation(AnimationType.UPDATE_CARDS, game.getSessionKey()));
 
+    publishSnapshot(game);
     return response;
   }
 
@@ -363,6 +442,17 @@ public class GameService {
    * Advances game to PLAY phase once done.
    */
   public GameStateResponse applyKittyAndDiscards(KittyRequest request) {
+    return lanes.execute(
+        request.getGameId(),
+        () ->
+            logged(
+                LogEntryType.KITTY,
+                request.getGameId(),
+                request,
+                applyKittyAndDiscardsInLane(request)));
+  }
+
+  private GameStateResponse applyKittyAndDiscardsInLane(KittyRequest request) {
     GameState game = getGameById(request.getGameId());
 
     if (game == null || game.getPhase() != GamePhase.KITTY) {
@@ -412,6 +502,7 @@ public class GameService {
     game.setPhase(GamePhase.PLAY);
     game.setCurrentTurnIndex(winnerPos.ordinal());
 
+    publishSnapshot(game);
     return getGameStateForPlayer(game, request.getPlayer());
   }
 
@@ -420,40 +511,46 @@ public class GameService {
    * Validates legality, triggers animations, and handles trick scoring.
    */
   public GameStateResponse playCard(PlayRequest request) {
-    System.out.println("[playCard]");
+    return lanes.execute(
+        request.getGameId(),
+        () -> logged(LogEntryType.PLAY, request.getGameId(), request, playCardInLane(request)));
+  }
 
+  private GameStateResponse playCardInLane(PlayRequest request) {
     GameState game = getGameById(request.getGameId());
+    applyPlay(game, request.getPlayer(), request.getCard());
+    scheduleAITurns(game);
+    publishSnapshot(game);
+    return getGameStateForPlayer(game, request.getPlayer());
+  }
 
+  /*
+   * Validates and applies one card play. Leaves the AI seats' turns and publishing
+   * to the caller so several commands can share one snapshot.
+   */
+  private void applyPlay(GameState game, PlayerPos seat, Card cardToPlay) {
     if (game.getPhase() != GamePhase.PLAY) {
       throw new IllegalStateException("Not in PLAY phase");
     }
 
-    Player currentPlayer = PlayerUtils.getPlayerByPosition(request.getPlayer(), game.getPlayers());
-    System.out.println(
-        "DEBUG: Current turn is player index "
-            + game.getCurrentTurnIndex()
-            + " ("
-            + currentPlayer.getName()
-            + ")");
-    System.out.println(
-        "DEBUG: Player "
-            + request.getPlayer()
-            + " playing: "
-            + request.getCard().getRank()
-            + " of "
-            + request.getCard().getSuit());
+    Player currentPlayer = PlayerUtils.getPlayerByPosition(seat, game.getPlayers());
+    log.debug(
+        "Current turn is player index {} ({}); {} playing {}",
+        game.getCurrentTurnIndex(),
+        currentPlayer.getName(),
+        seat,
+        cardToPlay);
 
-    if (game.getCurrentTurnIndex() != request.getPlayer().ordinal()) {
-      throw new IllegalStateException("It's not " + request.getPlayer() + "'s turn");
+    if (game.getCurrentTurnIndex() != seat.ordinal()) {
+      throw new IllegalStateException("It's not " + seat + "'s turn");
     }
 
-    Card cardToPlay = request.getCard();
-
     if (JokerUtils.isJokerRank(cardToPlay.getRank())) {
-      String suitStr = (cardToPlay.getSuit() == null) ? "null" : cardToPlay.getSuit().name();
-      System.out.println("[Play] Attempting to play joker: " + cardToPlay
-          + " | suit=" + suitStr
-          + " | id=" + System.identityHashCode(cardToPlay));
+      log.trace(
+          "[Play] Attempting to play joker: {} | suit={} | id={}",
+          cardToPlay,
+          cardToPlay.getSuit(),
+          System.identityHashCode(cardToPlay));
     }
 
     game.addPlayedCard(cardToPlay);
@@ -475,10 +572,11 @@ public class GameService {
       }
     }
 
-    PlayedCard validPlayedCard = new PlayedCard(request.getPlayer(), cardToPlay);
+    PlayedCard validPlayedCard = new PlayedCard(seat, cardToPlay);
 
     currentPlayer.getHand().getCards().remove(cardToPlay);
     currentTrick.add(validPlayedCard);
+    HandUtils.recordSuitVoids(game, currentTrick);
     game.addPlayedCard(cardToPlay);
 
     game.addAnimation(
@@ -495,11 +593,12 @@ public class GameService {
       PlayedCard winningPlay = HandUtils.determineTrickWinner(game, currentTrick);
       Player winner = PlayerUtils.getPlayerByPosition(winningPlay.getPlayer(), game.getPlayers());
       Team winnerTeam = winner.getTeam();
-      System.out.println("DEBUG: Trick won by " + winner.getName() + " (Team " + winnerTeam + ")");
+      log.debug("Trick won by {} (Team {})", winner.getName(), winnerTeam);
 
       game.getTeamTrickCounts().putIfAbsent(winnerTeam, 0);
       game.getTeamTrickCounts().put(winnerTeam, game.getTeamTrickCounts().get(winnerTeam) + 1);
-      System.out.println("DEBUG: Team trick counts: " + game.getTeamTrickCounts());
+      log.debug("Team trick counts: {}", game.getTeamTrickCounts());
+      EngineMetrics.recordTrick();
 
       Book currentBook = new Book(currentTrick, winnerTeam);
       game.getCompletedTricks().add(currentBook);
@@ -522,36 +621,213 @@ public class GameService {
         }
 
         game.setBidWinnerPos(null);
-        return getGameStateForPlayer(game, request.getPlayer());
       }
     }
+  }
 
-    if (PlayerUtils.getPlayerByPosition(
-        PlayerPos.values()[game.getCurrentTurnIndex()], game.getPlayers())
-        .isAI()) {
-      AIUtils.autoPlayAITurns(game);
+  /*
+   * Hands the AI seats' card plays to the turn scheduler, which plays them one step
+   * at a time on the game's lane and publishes each. Must run on the game's lane.
+   * A game being restored plays its logged AI turns in restoreInLane instead.
+   */
+  private void scheduleAITurns(GameState game) {
+    if (AIUtils.isAITurn(game) && !restoring.containsKey(game.getGameId())) {
+      aiTurns.schedule(
+          game.getGameId(),
+          () -> {
+            boolean more = playAITurnInLane(game);
+            // An inline step belongs to the command that scheduled it and is logged behind it
+            if (!aiTurns.isInline()) {
+              logAIDecisions(game);
+            }
+            return more;
+          });
     }
+  }
 
-    GameStateResponse response = getGameStateForPlayer(game, request.getPlayer());
+  /*
+   * One scheduled AI step: if the game is still held and an AI is due, has the AI
+   * pool decide its card from a copy of the position taken here, so the pool never
+   * reads the live game. A decision that completes at once is played here and the
+   * return says whether another AI plays next; otherwise the card is played when it
+   * arrives, back on the lane, and the next step is scheduled from there.
+   */
+  private boolean playAITurnInLane(GameState game) {
+    if (games.get(game.getGameId()) != game) {
+      lanes.remove(game.getGameId());
+      return false;
+    }
+    if (!AIUtils.isAITurn(game)) {
+      return false;
+    }
 
-    return response;
+    Player ai = game.getPlayers().get(game.getCurrentTurnIndex());
+    int tricks = game.getCompletedTricks().size();
+    List<PlayedCard> trick = List.copyOf(game.getCurrentTrick());
+    CompletableFuture<Card> decision =
+        aiMoves.decide(game.getGameId(), AIUtils.prepareCardForAI(game, ai, trick));
+
+    if (decision.isDone() && !decision.isCompletedExceptionally()) {
+      return playAIMoveInLane(game, ai, tricks, trick.size(), decision.join());
+    }
+    decision.thenAccept(
+        card ->
+            lanes.submit(
+                game.getGameId(),
+                () -> {
+                  if (playAIMoveInLane(game, ai, tricks, trick.size(), card)) {
+                    scheduleAITurns(game);
+                  }
+                  logAIDecisions(game);
+                  return null;
+                }));
+    return false;
+  }
+
+  /*
+   * Plays the card decided for an AI seat, unless the game has moved on since the
+   * decision started (quit, evicted, or the turn already played). A null card
+   * missed its deadline and is replaced by the HARD heuristic's choice.
+   * Returns true if another AI plays next.
+   */
+  private boolean playAIMoveInLane(
+      GameState game, Player ai, int tricks, int trickSize, Card card) {
+    if (games.get(game.getGameId()) != game) {
+      lanes.remove(game.getGameId());
+      return false;
+    }
+    if (!AIUtils.isAITurn(game)
+        || game.getPlayers().get(game.getCurrentTurnIndex()) != ai
+        || game.getCompletedTricks().size() != tricks
+        || game.getCurrentTrick().size() != trickSize) {
+      return false;
+    }
+
+    List<Card> hand = ai.getHand().getCards();
+    if (card == null || !hand.contains(card)) {
+      log.debug("No card decided in time for {}; playing the HARD choice", ai.getName());
+      EngineMetrics.recordAIFallback();
+      card = AIUtils.getHardAIMove(game, ai.getPosition(), hand, game.getCurrentTrick());
+    }
+    AIUtils.playAICard(game, card);
+    publishSnapshot(game);
+    return AIUtils.isAITurn(game);
   }
 
   /*
    * Removes a single animation (by ID) from a player's animation queue.
    */
   public void popAnimation(PopAnimationRequest request) {
+    lanes.run(request.getGameId(), () -> popAnimationInLane(request));
+  }
+
+  private void popAnimationInLane(PopAnimationRequest request) {
     GameState game = getGameById(request.getGameId());
     PlayerPos playerPosition = request.getPlayer();
-    String animationId = request.getAnimationId();
+    game.ackAnimation(playerPosition, request.getAnimationId());
+    publishSnapshot(game, playerPosition);
+  }
+
+  /*
+   * Removes every animation up to and including the given ID from a player's queue.
+   * Replaces one /pop-animation call per animation with a single cumulative ack.
+   */
+  public void ackAnimations(AckAnimationsRequest request) {
+    lanes.run(request.getGameId(), () -> ackAnimationsInLane(request));
+  }
 
-    game.removeAnimationById(playerPosition, animationId);
+  private void ackAnimationsInLane(AckAnimationsRequest request) {
+    GameState game = getGameById(request.getGameId());
+    PlayerPos playerPosition = request.getPlayer();
+    if (game.ackAnimationsThrough(playerPosition, request.getUpTo()) > 0) {
+      publishSnapshot(game, playerPosition);
+    }
+  }
+
+  /*
+   * Runs one player's commands back to back on the game's lane and answers once.
+   * Each command sees the effects of those before it and no other request on the
+   * game runs in between. State is published once for the whole batch; if a command
+   * fails, whatever earlier commands applied is published before the error is rethrown.
+   * FETCH_CARDS returns the hand as it stands after the last command.
+   *
+   * A batch plays at most one card: the AI seats answer it through the scheduler, after
+   * the batch returns, so a second play could never be this player's turn.
+   */
+  public BatchResponse runBatch(BatchRequest request) {
+    if (request.getCommands() == null || request.getCommands().isEmpty()) {
+      throw new IllegalArgumentException("Batch has no commands");
+    }
+    long plays =
+        request.getCommands().stream()
+            .filter(command -> command.getType() == CommandType.PLAY)
+            .count();
+    if (plays > 1) {
+      throw new IllegalArgumentException("A batch can play at most one card");
+    }
+    return lanes.execute(request.getGameId(), () -> runBatchInLane(request));
+  }
+
+  private BatchResponse runBatchInLane(BatchRequest request) {
+    GameState game = getGameById(request.getGameId());
+    PlayerPos seat = request.getPlayer();
+    boolean played = false;
+    boolean acked = false;
+    boolean fetchCards = false;
+
+    try {
+      for (GameCommand command : request.getCommands()) {
+        switch (command.getType()) {
+          case PLAY -> {
+            played = true;
+            applyPlay(game, seat, command.getCard());
+            commandLog.append(
+                LogEntryType.PLAY,
+                game.getGameId(),
+                new PlayRequest(game.getGameId(), seat, command.getCard()));
+          }
+          case ACK_ANIMATIONS -> acked |= game.ackAnimationsThrough(seat, command.getUpTo()) > 0;
+          case FETCH_CARDS -> fetchCards = true;
+          default -> throw new IllegalArgumentException("Unknown command " + command.getType());
+        }
+      }
+    } finally {
+      if (played) {
+        scheduleAITurns(game);
+        logAIDecisions(game);
+        publishSnapshot(game);
+      } else if (acked) {
+        publishSnapshot(game, seat);
+      }
+    }
+
+    GameSnapshot snapshot = game.getSnapshot();
+    GameStateResponse state = snapshot.stateFor(seat);
+    if (state == null) {
+      state = getGameStateForPlayer(game, seat);
+    }
+    HandResponse hand = null;
+    if (fetchCards) {
+      hand = snapshot.handFor(seat) != null ? snapshot.handFor(seat) : buildHandView(game, seat);
+    }
+    return new BatchResponse(state, hand);
   }
 
   /*
    * Removes a person from a game.
    */
   public void quitMyGame(QuitGameRequest request) {
+    lanes.run(
+        request.getGameId(),
+        () -> {
+          quitMyGameInLane(request);
+          boolean ended = games.get(request.getGameId()) == null;
+          commandLog.append(
+              ended ? LogEntryType.END : LogEntryType.QUIT, request.getGameId(), request);
+        });
+  }
+
+  private void quitMyGameInLane(QuitGameRequest request) {
     GameState game = getGameById(request.getGameId());
     String playerName = PlayerUtils.getNameByPosition(request.getPlayer(), game.getPlayers());
     PlayerPos playerPos = request.getPlayer();
@@ -560,22 +836,344 @@ public class GameService {
       game.getPlayers().remove(player);
       if (game.getPlayers().size() == 0) {
         games.remove(request.getGameId());
+        eventService.closeGame(request.getGameId());
+        aiTurns.cancel(request.getGameId());
+        aiMoves.cancel(request.getGameId());
+        lanes.remove(request.getGameId());
       } else {
         game.addAnimation(new Animation(playerName, game.getSessionKey()));
+        publishSnapshot(game);
       }
     } else {
       games.remove(request.getGameId());
+      eventService.closeGame(request.getGameId());
+      aiTurns.cancel(request.getGameId());
+      aiMoves.cancel(request.getGameId());
+      lanes.remove(request.getGameId());
+    }
+  }
+
+  /*
+   * Opens a server-push event stream for a player seat.
+   * The current state is sent immediately so the client needs no initial poll.
+   */
+  public SseEmitter subscribeToEvents(String gameId, PlayerPos player) {
+    GameState game = getGameById(gameId);
+    return eventService.subscribe(gameId, player, () -> readState(game, player));
+  }
+
+  /*
+   * Rebuilds every human player's views into a new immutable snapshot,
+   * then pushes them to any subscribed clients. Must run on the game's lane.
+   */
+  private void publishSnapshot(GameState game) {
+    long version = game.getSnapshot().version() + 1;
+    Map<PlayerPos, GameStateResponse> states = new EnumMap<>(PlayerPos.class);
+    Map<PlayerPos, HandResponse> hands = new EnumMap<>(PlayerPos.class);
+
+    for (Player p : game.getPlayers()) {
+      if (!p.isAI()) {
+        states.put(p.getPosition(), buildStateView(game, p.getPosition(), version));
+        hands.put(p.getPosition(), buildHandView(game, p.getPosition()));
+      }
     }
+
+    GameSnapshot previous = game.getSnapshot();
+    GameSnapshot snapshot = new GameSnapshot(version, game.getPhase(), states, hands);
+    game.setSnapshot(snapshot);
+    eventService.publishDelta(
+        game, seat -> deltaFor(previous.stateFor(seat), snapshot.stateFor(seat)));
+  }
+
+  /*
+   * Publishes a new snapshot in which only one seat's views changed
+   * (e.g. that player popped an animation). Other seats keep their views and versions.
+   */
+  private void publishSnapshot(GameState game, PlayerPos changedSeat) {
+    GameSnapshot previous = game.getSnapshot();
+    if (previous.stateFor(changedSeat) == null) {
+      publishSnapshot(game);
+      return;
+    }
+
+    long version = previous.version() + 1;
+    Map<PlayerPos, GameStateResponse> states = new EnumMap<>(previous.states());
+    Map<PlayerPos, HandResponse> hands = new EnumMap<>(previous.hands());
+    states.put(changedSeat, buildStateView(game, changedSeat, version));
+    hands.put(changedSeat, buildHandView(game, changedSeat));
+
+    game.setSnapshot(new GameSnapshot(version, game.getPhase(), states, hands));
+  }
+
+  private GameStateResponse buildStateView(GameState game, PlayerPos seat, long version) {
+    GameStateResponse view = getGameStateForPlayer(game, seat);
+    view.setVersion(version);
+    return view;
+  }
+
+  private HandResponse buildHandView(GameState game, PlayerPos seat) {
+    return new HandResponse(getMyPlayerViews(game, seat), getMyKittyView(game, seat));
+  }
+
+  /*
+   * Returns the latest published state for a seat without entering the game's lane.
+   * Falls back to building it on the lane if the seat has no published view yet.
+   */
+  private GameStateResponse readState(GameState game, PlayerPos player) {
+    GameStateResponse published = game.getSnapshot().stateFor(player);
+    if (published != null) {
+      return published;
+    }
+    return lanes.execute(game.getGameId(), () -> getGameStateForPlayer(game, player));
   }
 
   /*
    * Returns the latest game state for polling updates.
+   * Served from the published snapshot with a single volatile read; if the client
+   * already has the current version for its seat, returns empty ("not modified").
    */
-  public GameStateResponse updateState(PollRequest request) {
-    PlayerPos playerPosition = request.getPlayer();
+  public Optional<GameStateResponse> updateState(PollRequest request) {
+    GameState game = getGameById(request.getGameId());
+    GameStateResponse published = game.getSnapshot().stateFor(request.getPlayer());
+
+    if (published != null
+        && request.getVersion() != null
+        && request.getVersion() == published.getVersion()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(published != null ? published : readState(game, request.getPlayer()));
+  }
+
+  /*
+   * Returns only what changed for the seat since the version the client last saw.
+   * Returns empty if the client is current; sends the full state (full = true) if the
+   * client has no version or its version has fallen out of the snapshot history.
+   */
+  public Optional<GameStateDelta> stateDelta(PollRequest request) {
     GameState game = getGameById(request.getGameId());
+    GameStateResponse current = readState(game, request.getPlayer());
 
-    return getGameStateForPlayer(game, playerPosition);
+    if (request.getVersion() == null) {
+      return Optional.of(GameStateDelta.between(null, current));
+    }
+    if (request.getVersion() == current.getVersion()) {
+      return Optional.empty();
+    }
+
+    GameStateResponse base = game.findPublishedState(request.getPlayer(), request.getVersion());
+    return Optional.of(GameStateDelta.between(base, current));
+  }
+
+  /* Delta pushed over SSE; null when the seat's view did not change */
+  private static GameStateDelta deltaFor(GameStateResponse before, GameStateResponse after) {
+    if (after == null || before == after) {
+      return null;
+    }
+    GameStateDelta delta = GameStateDelta.between(before, after);
+    return delta.isEmpty() ? null : delta;
+  }
+
+  /*
+   * Records a command in the command log once it has applied cleanly, followed by the
+   * AI decisions it led to, and passes its result through. Called on the game's lane
+   * so entries keep the lane's order.
+   */
+  private <T> T logged(LogEntryType type, String gameId, long seed, Object request, T result) {
+    commandLog.append(type, gameId, seed, request);
+    GameState game = games.get(gameId);
+    if (game != null) {
+      logAIDecisions(game);
+    }
+    return result;
+  }
+
+  private <T> T logged(LogEntryType type, String gameId, Object request, T result) {
+    return logged(type, gameId, 0L, request, result);
+  }
+
+  /*
+   * Writes the AI decisions the game applied since the last call to the command log.
+   * Must run on the game's lane, after the command or AI step that made them.
+   */
+  private void logAIDecisions(GameState game) {
+    AIDecisions decisions = game.getAIDecisions();
+    if (decisions == null) {
+      return;
+    }
+    String gameId = game.getGameId();
+    for (AIDecision decision : decisions.takeRecorded()) {
+      switch (decision.kind()) {
+        case BID -> {
+          InitialBid bid = decision.bid();
+          BidRequest request =
+              new BidRequest(gameId, decision.seat(), bid.getValue(), bid.isNo());
+          if (decision.finalBid() != null) {
+            request.setType(decision.finalBid().getType());
+            request.setSuit(decision.finalBid().getSuit());
+          }
+          commandLog.append(LogEntryType.AI_BID, gameId, request);
+        }
+        case KITTY ->
+            commandLog.append(
+                LogEntryType.AI_KITTY,
+                gameId,
+                new KittyRequest(gameId, decision.seat(), decision.cards()));
+        case PLAY ->
+            commandLog.append(
+                LogEntryType.AI_PLAY,
+                gameId,
+                new PlayRequest(gameId, decision.seat(), decision.card()));
+      }
+    }
+  }
+
+  /* Reads back an AI decision written by logAIDecisions */
+  private static AIDecision aiDecisionOf(LogEntry entry) {
+    switch (entry.type()) {
+      case AI_BID -> {
+        BidRequest request = GameCommandLog.requestOf(entry, BidRequest.class);
+        PlayerPos seat = request.getPlayer();
+        InitialBid bid =
+            request.isPass()
+                ? InitialBid.pass(seat)
+                : new InitialBid(seat, request.getValue(), request.isNo());
+        FinalBid finalBid =
+            request.getType() == null
+                ? null
+                : new FinalBid(
+                    seat,
+                    request.getValue(),
+                    request.isNo(),
+                    false,
+                    request.getType(),
+                    request.getSuit());
+        return AIDecision.bid(bid, finalBid);
+      }
+      case AI_KITTY -> {
+        KittyRequest request = GameCommandLog.requestOf(entry, KittyRequest.class);
+        return AIDecision.kitty(request.getPlayer(), request.getDiscards());
+      }
+      case AI_PLAY -> {
+        PlayRequest request = GameCommandLog.requestOf(entry, PlayRequest.class);
+        return AIDecision.play(request.getPlayer(), request.getCard());
+      }
+      default -> throw new IllegalStateException("Not an AI decision: " + entry.type());
+    }
+  }
+
+  /*
+   * Rebuilds a game from its logged commands, replaying them on the game's lane
+   * without logging them again. Deals repeat exactly since they come from the
+   * logged seed, and the AI takes the decisions logged behind each command instead
+   * of deciding again, so the game ends up exactly where it was. Replay stops at the
+   * first command that no longer applies, keeping the state reached so far.
+   * Pending animations are dropped so clients resync from the restored state; AI
+   * turns the log does not cover are scheduled as usual.
+   * Returns how many entries were replayed, or 0 if the game is not in memory.
+   */
+  public int restore(String gameId, List<LogEntry> history) {
+    return lanes.execute(gameId, () -> restoreInLane(gameId, history));
+  }
+
+  private int restoreInLane(String gameId, List<LogEntry> history) {
+    AIDecisions decisions = new AIDecisions();
+    restoring.put(gameId, decisions);
+    int applied = 0;
+    try {
+      while (applied < history.size()) {
+        LogEntry entry = history.get(applied);
+        // The AI decisions behind a command were made during it or in the AI turns after it
+        int next = applied + 1;
+        List<AIDecision> logged = new ArrayList<>();
+        while (next < history.size() && history.get(next).isAIDecision()) {
+          logged.add(aiDecisionOf(history.get(next)));
+          next++;
+        }
+
+        try {
+          decisions.replay(logged);
+          replay(entry);
+          GameState replayed = games.get(gameId);
+          while (replayed != null && decisions.isReplaying() && AIUtils.playAITurn(replayed)) {
+            // Each pass plays one logged card
+          }
+          if (decisions.endReplay() > 0) {
+            throw new IllegalStateException("Logged AI decisions were never reached");
+          }
+        } catch (RuntimeException e) {
+          decisions.endReplay();
+          log.warn("Replay of game {} stopped at {}: {}", gameId, entry.type(), e.getMessage());
+          break;
+        }
+        applied = next;
+      }
+    } finally {
+      restoring.remove(gameId);
+    }
+
+    GameState game = games.get(gameId);
+    if (game == null) {
+      lanes.remove(gameId);
+      return 0;
+    }
+    // Replayed decisions are in the log already
+    game.getAIDecisions().takeRecorded();
+    game.clearAnimations();
+    publishSnapshot(game);
+    scheduleAITurns(game);
+    logAIDecisions(game);
+    return applied;
+  }
+
+  private void replay(LogEntry entry) {
+    switch (entry.type()) {
+      case SOLO_START ->
+          startSoloGameInLane(
+              GameCommandLog.requestOf(entry, StartGameRequest.class), entry.seed());
+      case MULTIPLAYER_CREATE ->
+          createMutliplayerGameInLane(
+              GameCommandLog.requestOf(entry, StartGameRequest.class), entry.seed());
+      case JOIN -> joinGameInLane(GameCommandLog.requestOf(entry, JoinGameRequest.class));
+      case BID -> submitBidInLane(GameCommandLog.requestOf(entry, BidRequest.class));
+      case FINAL_BID -> getFinalBidInLane(GameCommandLog.requestOf(entry, FinalBidRequest.class));
+      case KITTY ->
+          applyKittyAndDiscardsInLane(GameCommandLog.requestOf(entry, KittyRequest.class));
+      case PLAY -> playCardInLane(GameCommandLog.requestOf(entry, PlayRequest.class));
+      case NEW_GAME -> startNewGameInLane(GameCommandLog.requestOf(entry, QuitGameRequest.class));
+      case QUIT -> quitMyGameInLane(GameCommandLog.requestOf(entry, QuitGameRequest.class));
+      default -> throw new IllegalStateException("Cannot replay " + entry.type());
+    }
+  }
+
+  /* Live view of every game held in memory, for monitoring */
+  public Collection<GameState> getGames() {
+    return games.games();
+  }
+
+  /*
+   * Evicts games nobody has touched within the idle TTL (abandoned tabs never call
+   * /quit). Each eviction runs on the game's lane, so it cannot interleave with a
+   * move, and re-checks idleness there in case a request arrived meanwhile.
+   */
+  @Scheduled(
+      fixedDelayString = "${bidwhist.games.eviction-interval-ms:" + EVICTION_INTERVAL_MS + "}")
+  public void evictIdleGames() {
+    for (String gameId : games.idleGameIds()) {
+      lanes.run(gameId, () -> evictIfIdleInLane(gameId));
+    }
+  }
+
+  private void evictIfIdleInLane(String gameId) {
+    if (games.removeIfIdle(gameId)) {
+      log.info("Evicted idle game");
+      eventService.closeGame(gameId);
+      EngineMetrics.recordEviction();
+      commandLog.append(LogEntryType.END, gameId, null);
+      aiTurns.cancel(gameId);
+      aiMoves.cancel(gameId);
+      lanes.remove(gameId);
+    }
   }
 
   /*
@@ -591,20 +1189,22 @@ public class GameService {
       throw new IllegalStateException("No game found with ID: " + gameId);
     }
 
+    LogContext.bind(game);
     return game;
   }
 
   /*
    * Returns a HandResponse including player views and kitty for UI refresh.
+   * Served from the published snapshot without entering the game's lane.
    */
   public HandResponse provideUpdatedCards(HandRequest request) {
     GameState game = getGameById(request.getGameId());
-    PlayerPos playerPosition = request.getPlayer();
-
-    List<PlayerView> views = getMyPlayerViews(game, playerPosition);
-    List<Card> kitty = getMyKittyView(game, playerPosition);
-
-    return new HandResponse(views, kitty);
+    HandResponse published = game.getSnapshot().handFor(request.getPlayer());
+    if (published != null) {
+      return published;
+    }
+    return lanes.execute(
+        request.getGameId(), () -> buildHandView(game, request.getPlayer()));
   }
 
   /*
@@ -618,15 +1218,9 @@ public class GameService {
       List<Card> visibleHand;
 
       if (p.getPosition().equals(playerPosition)) {
-        visibleHand = p.getHand().getCards();
+        visibleHand = Card.copyAll(p.getHand().getCards());
       } else {
-        int hiddenCount = p.getHand().getCards().size();
-        visibleHand = new ArrayList<>();
-        for (int i = 0; i < hiddenCount; i++) {
-          Card hiddenCard = new Card(null, null);
-          hiddenCard.setVisibility(CardVisibility.HIDDEN);
-          visibleHand.add(hiddenCard);
-        }
+        visibleHand = hiddenCards(p.getHand().getCards().size());
       }
 
       playerViews.add(
@@ -638,23 +1232,23 @@ public class GameService {
 
   /*
    * Returns the correct kitty view for the player.
-   * Winning player sees the actual cards, others see hidden placeholders.
+   * Winning player sees copies of the actual cards, others see hidden placeholders.
    */
   public List<Card> getMyKittyView(GameState game, PlayerPos playerPosition) {
-    List<Card> myKittyView = new ArrayList<>(game.getKitty());
+    List<Card> kitty = game.getKitty();
+    List<Card> myKittyView = new ArrayList<>(kitty.size());
 
-    if (!myKittyView.isEmpty()) {
+    if (!kitty.isEmpty()) {
       String viewerName = PlayerUtils.getNameByPosition(playerPosition, game.getPlayers());
 
       if (viewerName.equals(game.getWinningPlayerName())) {
-        for (Card card : myKittyView) {
-          card.setVisibility(CardVisibility.VISIBLE_TO_SELF);
+        for (Card card : kitty) {
+          Card visible = card.copy();
+          visible.setVisibility(CardVisibility.VISIBLE_TO_SELF);
+          myKittyView.add(visible);
         }
       } else {
-        for (int i = 0; i < myKittyView.size(); i++) {
-          myKittyView.set(i, new Card(null, null));
-          myKittyView.get(i).setVisibility(CardVisibility.HIDDEN);
-        }
+        return hiddenCards(kitty.size());
       }
     }
 
@@ -662,12 +1256,14 @@ public class GameService {
   }
 
   public List<Card> getMyShuffledDeck(GameState game, PlayerPos playerPosition) {
-    List<Card> myShuffledDeck = new ArrayList<>(game.getShuffledDeck());
-
-    for (int i = 0; i < myShuffledDeck.size(); i++) {
-      myShuffledDeck.set(i, new Card(null, null));
-    }
+    return hiddenCards(game.getShuffledDeck().size());
+  }
 
-    return myShuffledDeck;
+  /*
+   * Returns a read-only list of face-down placeholder cards.
+   * Every placeholder is the same shared instance, so masking a hand allocates nothing per card.
+   */
+  private static List<Card> hiddenCards(int count) {
+    return Collections.nCopies(count, HIDDEN_CARD);
   }
 }
@@ -0,0 +1,49 @@
+// src/main/java/com/bidwhist/service/LogContext.java
+
+package com.bidwhist.service;
+
+import com.bidwhist.model.GameState;
+import java.util.Map;
+import org.slf4j.MDC;
+
+/*
+ * Per-game logging context. Work running on a game's lane carries the gameId (and,
+ * once the game is loaded, its sessionKey) in the SLF4J MDC, so every log line the
+ * engine writes can be traced back to its game. See logback.xml for the pattern.
+ */
+public final class LogContext {
+
+  public static final String GAME_ID = "gameId";
+  public static final String SESSION_KEY = "sessionKey";
+
+  private LogContext() {}
+
+  /*
+   * Tags the current lane task with the game's session key.
+   * Does nothing outside a lane, where nobody would clear it afterwards.
+   */
+  public static void bind(GameState game) {
+    if (MDC.get(GAME_ID) != null) {
+      MDC.put(SESSION_KEY, Integer.toString(game.getSessionKey()));
+    }
+  }
+
+  /*
+   * Sets the gameId for a lane task and returns the previous context, which the
+   * caller restores with restore() when the task ends.
+   */
+  static Map<String, String> enter(String gameId) {
+    Map<String, String> previous = MDC.getCopyOfContextMap();
+    MDC.put(GAME_ID, gameId);
+    MDC.remove(SESSION_KEY);
+    return previous;
+  }
+
+  static void restore(Map<String, String> previous) {
+    if (previous == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(previous);
+    }
+  }
+}
@@ -0,0 +1,247 @@
+// src/main/java/com/bidwhist/simulation/BidTableBuilder.java
+
+package com.bidwhist.simulation;
+
+import com.bidwhist.bidding.BidEstimator;
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.model.Book;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.model.Team;
+import com.bidwhist.utils.AIUtils;
+import com.bidwhist.utils.GameplayUtils;
+import com.bidwhist.utils.HandUtils;
+import com.bidwhist.utils.JokerUtils;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * Offline pass that builds the BidEstimator table. For every random deal, each seat in
+ * turn declares every suit in both directions: it takes the kitty, discards its six
+ * weakest off-trump cards, leads, and all four seats play the hand out with the HARD AI.
+ * The tricks the declaring team takes are averaged per hand-shape cell of the
+ * declarer's hand as dealt, which is what the bidder sees.
+ *
+ * Sparse cells are pulled toward the average of all cells with the same direction,
+ * jokers and trump length, so a cell seen a few times does not swing the AI's bids.
+ *
+ * Command line: BidTableBuilder <deals> <seed> <output file> [parallelism], e.g. via
+ * mvn exec:java -Dexec.mainClass=com.bidwhist.simulation.BidTableBuilder
+ * -Dexec.args="20000 7 src/main/resources/bidding/bid-estimates.tsv"
+ */
+public final class BidTableBuilder {
+
+  /* Weight, in samples, of the group average blended into each cell */
+  static final int PRIOR_SAMPLES = 5;
+
+  private static final int GROUP_CELLS =
+      (BidEstimator.MAX_TOP_RUN + 1) * (BidEstimator.MAX_SIDE_TOPS + 1);
+
+  private BidTableBuilder() {}
+
+  /* Trick totals per cell for one or more deals */
+  static final class Tally {
+    final double[] tricks = new double[BidEstimator.CELLS];
+    final int[] samples = new int[BidEstimator.CELLS];
+
+    void add(int cell, int teamTricks) {
+      tricks[cell] += teamTricks;
+      samples[cell]++;
+    }
+
+    void merge(Tally other) {
+      for (int cell = 0; cell < BidEstimator.CELLS; cell++) {
+        tricks[cell] += other.tricks[cell];
+        samples[cell] += other.samples[cell];
+      }
+    }
+
+    /* Smoothed expected tricks per cell; NaN where the whole group went unseen */
+    float[] expectedTricks() {
+      float[] expected = new float[BidEstimator.CELLS];
+      for (int group = 0; group < BidEstimator.CELLS; group += GROUP_CELLS) {
+        double groupTricks = 0;
+        int groupSamples = 0;
+        for (int cell = group; cell < group + GROUP_CELLS; cell++) {
+          groupTricks += tricks[cell];
+          groupSamples += samples[cell];
+        }
+        double prior = groupSamples == 0 ? Double.NaN : groupTricks / groupSamples;
+        for (int cell = group; cell < group + GROUP_CELLS; cell++) {
+          expected[cell] =
+              samples[cell] == 0
+                  ? Float.NaN
+                  : (float)
+                      ((tricks[cell] + PRIOR_SAMPLES * prior) / (samples[cell] + PRIOR_SAMPLES));
+        }
+      }
+      return expected;
+    }
+  }
+
+  /* Simulates the given number of deals, in parallel, from a repeatable seed */
+  static Tally simulate(int deals, long seed, int parallelism) {
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.submit(
+              () ->
+                  IntStream.range(0, deals)
+                      .parallel()
+                      .mapToObj(i -> dealTally(new SplittableRandom(seed + i).nextLong()))
+                      .collect(Tally::new, Tally::merge, Tally::merge))
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Simulated deal failed", e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /* Plays all 32 contracts (4 declarers x 4 suits x 2 directions) of one deal */
+  static Tally dealTally(long dealSeed) {
+    Tally tally = new Tally();
+    for (PlayerPos declarer : PlayerPos.values()) {
+      for (Suit trump : Suit.values()) {
+        for (BidType direction : List.of(BidType.UPTOWN, BidType.DOWNTOWN)) {
+          GameState game = dealGame(dealSeed);
+          Player player = game.getPlayers().get(declarer.ordinal());
+          int cell = cellOf(player.getHand().getCards(), trump, direction);
+          declare(game, player, trump, direction);
+          tally.add(cell, playOut(game, player.getTeam()));
+        }
+      }
+    }
+    return tally;
+  }
+
+  private static GameState dealGame(long dealSeed) {
+    GameState game = new GameState("bid-table");
+    game.setHeadless(true);
+    game.setDifficulty(Difficulty.HARD);
+    game.setShuffleSeed(dealSeed);
+    game.getPlayers()
+        .addAll(
+            List.of(
+                new Player("AI 1", true, PlayerPos.P1, Team.A),
+                new Player("AI 2", true, PlayerPos.P2, Team.B),
+                new Player("AI 3", true, PlayerPos.P3, Team.A),
+                new Player("AI 4", true, PlayerPos.P4, Team.B)));
+    GameplayUtils.shuffleDeck(game);
+    game.getDeck().deal(game.getPlayers());
+    game.setKitty(new ArrayList<>(game.getDeck().getKitty().getCards()));
+    return game;
+  }
+
+  static int cellOf(List<Card> hand, Suit trump, BidType direction) {
+    int[] masks = new int[Suit.values().length];
+    int jokers = 0;
+    for (Card card : hand) {
+      if (JokerUtils.isJokerRank(card.getRank())) {
+        jokers++;
+      } else {
+        masks[card.getSuit().ordinal()] |= 1 << (card.getRank().getValue() - 2);
+      }
+    }
+    return BidEstimator.cellOf(masks, jokers, trump, direction);
+  }
+
+  /* Sets the contract the way an AI auction winner gets it, then takes the kitty */
+  private static void declare(GameState game, Player declarer, Suit trump, BidType direction) {
+    FinalBid bid = new FinalBid(declarer.getPosition(), 4, false, false, direction, trump);
+    game.setHighestBid(bid.getInitialBid());
+    game.setBidWinnerPos(declarer.getPosition());
+    game.getFinalBidCache().put(declarer.getPosition(), bid);
+    game.setWinningBidStats(bid);
+    game.setBidType(direction);
+    game.getDeck().assignTrumpSuitToJokers(trump);
+
+    List<Card> hand = declarer.getHand().getCards();
+    hand.addAll(game.getKitty());
+    game.setKitty(new ArrayList<>());
+    int mode = Rank.modeIndex(direction, false);
+    List<Card> byKeepValue = new ArrayList<>(hand);
+    byKeepValue.sort(
+        Comparator.comparing((Card card) -> card.getSuit() == trump)
+            .thenComparingInt(card -> Rank.weight(card.getRank(), mode)));
+    hand.removeAll(byKeepValue.subList(0, 6));
+
+    game.setPhase(GamePhase.PLAY);
+    game.setCurrentTurnIndex(declarer.getPosition().ordinal());
+  }
+
+  /* Plays the 12 tricks with the AI and returns the tricks the given team took */
+  private static int playOut(GameState game, Team team) {
+    int teamTricks = 0;
+    List<PlayedCard> trick = game.getCurrentTrick();
+    while (game.getCompletedTricks().size() < 12) {
+      Player current = game.getPlayers().get(game.getCurrentTurnIndex());
+      Card card = AIUtils.chooseCardForAI(game, current, trick);
+      current.getHand().getCards().remove(card);
+      trick.add(new PlayedCard(current.getPosition(), card));
+      HandUtils.recordSuitVoids(game, trick);
+      game.setCurrentTurnIndex((game.getCurrentTurnIndex() + 1) % 4);
+
+      if (trick.size() == 4) {
+        PlayedCard winning = HandUtils.determineTrickWinner(game, trick);
+        Player winner = game.getPlayers().get(winning.getPlayer().ordinal());
+        if (winner.getTeam() == team) {
+          teamTricks++;
+        }
+        game.getCompletedTricks().add(new Book(new ArrayList<>(trick), winner.getTeam()));
+        game.setCurrentTurnIndex(winner.getPosition().ordinal());
+        trick.clear();
+      }
+    }
+    return teamTricks;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      System.err.println("Usage: BidTableBuilder <deals> <seed> <output file> [parallelism]");
+      System.exit(1);
+    }
+
+    int deals = Integer.parseInt(args[0]);
+    long seed = Long.parseLong(args[1]);
+    Path output = Path.of(args[2]);
+    int parallelism =
+        args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+    long start = System.nanoTime();
+    Tally tally = simulate(deals, seed, parallelism);
+    float[] expected = tally.expectedTricks();
+
+    try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(output))) {
+      out.println("# Expected tricks for the declaring team, by hand shape of the declarer.");
+      out.printf(
+          "# Built by BidTableBuilder from %d deals (seed %d), HARD AI at every seat.%n",
+          deals, seed);
+      out.println(
+          "# direction\tjokers\ttrump length\ttop run\tside tops\texpected tricks\tsamples");
+      BidEstimator.write(out, expected, tally.samples);
+    }
+    System.out.printf(
+        "%d deals, %d contracts in %.1f s -> %s%n",
+        deals, deals * 32L, (System.nanoTime() - start) / 1e9, output);
+  }
+}
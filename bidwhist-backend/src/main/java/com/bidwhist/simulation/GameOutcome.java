@@ -0,0 +1,18 @@
+// src/main/java/com/bidwhist/simulation/GameOutcome.java
+
+package com.bidwhist.simulation;
+
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.Team;
+
+/*
+ * Result of one simulated game. Arrays are indexed by Team ordinal.
+ * winner is null if the game hit the hand limit.
+ */
+record GameOutcome(
+    Difficulty teamA, Difficulty teamB, Team winner, int hands, int[] bids, int[] bidsMade) {
+
+  Difficulty difficultyOf(Team team) {
+    return team == Team.A ? teamA : teamB;
+  }
+}
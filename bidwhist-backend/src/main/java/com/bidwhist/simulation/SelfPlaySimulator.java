@@ -0,0 +1,165 @@
+// src/main/java/com/bidwhist/simulation/SelfPlaySimulator.java
+
+package com.bidwhist.simulation;
+
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Team;
+import com.bidwhist.utils.AIUtils;
+import com.bidwhist.utils.GameplayUtils;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * Headless self-play: plays complete all-AI games through the same GameplayUtils and
+ * AIUtils rules the server uses, without animations, snapshots or JSON, and reports
+ * throughput, win rates and bid success. The engine's per-move logging is DEBUG, so it
+ * costs nothing at the default INFO level.
+ *
+ * Games run in parallel on a fork-join pool. Each game's shuffles come from a seed
+ * derived from the batch seed and the game's index, so a batch is repeatable for the
+ * deterministic difficulties (EXPERT search is time-budgeted and may vary).
+ *
+ * Command line: SelfPlaySimulator <games> <seed> <teamA difficulty> <teamB difficulty>
+ * [parallelism], e.g. via
+ * mvn exec:java -Dexec.mainClass=com.bidwhist.simulation.SelfPlaySimulator
+ * -Dexec.args="10000 42 HARD MEDIUM"
+ */
+public final class SelfPlaySimulator {
+
+  /* Safety stop for games whose scores never reach the target */
+  static final int MAX_HANDS_PER_GAME = 200;
+
+  private final int parallelism;
+
+  public SelfPlaySimulator(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    this.parallelism = parallelism;
+  }
+
+  /*
+   * Plays the given number of games between two AI difficulties. The difficulties swap
+   * teams every other game so neither gets the first bid or seat order more often.
+   */
+  public SimulationReport run(int games, long seed, Difficulty first, Difficulty second) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Game count must not be negative");
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    long start = System.nanoTime();
+    try {
+      SimulationReport.Tally tally =
+          pool.submit(
+                  () ->
+                      IntStream.range(0, games)
+                          .parallel()
+                          .mapToObj(
+                              i ->
+                                  i % 2 == 0
+                                      ? playGame(gameSeed(seed, i), first, second)
+                                      : playGame(gameSeed(seed, i), second, first))
+                          .collect(
+                              SimulationReport.Tally::new,
+                              SimulationReport.Tally::add,
+                              SimulationReport.Tally::merge))
+              .get();
+      return new SimulationReport(tally, System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Simulated game failed", e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /*
+   * Plays one game to completion. Each loop resolves an auction and plays the hand
+   * out; with four AI seats that scores it and deals and bids the next one.
+   */
+  static GameOutcome playGame(long seed, Difficulty teamA, Difficulty teamB) {
+    GameState game = new GameState("sim-" + seed);
+    game.setHeadless(true);
+    game.setShuffleSeed(seed);
+    game.setDifficulty(teamA);
+    game.setFirstBidder(PlayerPos.P1);
+
+    List<Player> players =
+        List.of(
+            new Player("AI 1", true, PlayerPos.P1, Team.A),
+            new Player("AI 2", true, PlayerPos.P2, Team.B),
+            new Player("AI 3", true, PlayerPos.P3, Team.A),
+            new Player("AI 4", true, PlayerPos.P4, Team.B));
+    for (Player player : players) {
+      player.setDifficulty(player.getTeam() == Team.A ? teamA : teamB);
+    }
+    game.getPlayers().addAll(players);
+
+    game.setPhase(GamePhase.SHUFFLE);
+    GameplayUtils.shuffleDeck(game);
+    GameplayUtils.dealToPlayers(game);
+
+    int[] bids = new int[2];
+    int[] bidsMade = new int[2];
+    int hands = 0;
+
+    while (game.getPhase() != GamePhase.END && hands < MAX_HANDS_PER_GAME) {
+      if (game.getPhase() != GamePhase.BID || game.getBids().size() < 4) {
+        throw new IllegalStateException(
+            "Simulated game stalled in " + game.getPhase() + " after " + hands + " hands");
+      }
+
+      Team biddingTeam = players.get(game.getHighestBid().getPlayer().ordinal()).getTeam();
+      int scoreBefore = scoreOf(game, biddingTeam);
+
+      GameplayUtils.resolveBids(game);
+      AIUtils.autoPlayAITurns(game);
+      hands++;
+
+      // A made contract always scores points and a failed one always loses them
+      bids[biddingTeam.ordinal()]++;
+      if (scoreOf(game, biddingTeam) > scoreBefore) {
+        bidsMade[biddingTeam.ordinal()]++;
+      }
+    }
+
+    return new GameOutcome(teamA, teamB, GameplayUtils.winningTeam(game), hands, bids, bidsMade);
+  }
+
+  private static int scoreOf(GameState game, Team team) {
+    return team == Team.A ? game.getTeamAScore() : game.getTeamBScore();
+  }
+
+  /* Spreads consecutive game indexes over unrelated seeds */
+  private static long gameSeed(long seed, int index) {
+    return new SplittableRandom(seed + index).nextLong();
+  }
+
+  public static void main(String[] args) {
+    if (args.length < 4) {
+      System.err.println(
+          "Usage: SelfPlaySimulator <games> <seed> <teamA difficulty> <teamB difficulty>"
+              + " [parallelism]");
+      System.exit(1);
+    }
+
+    int games = Integer.parseInt(args[0]);
+    long seed = Long.parseLong(args[1]);
+    Difficulty first = Difficulty.valueOf(args[2].toUpperCase());
+    Difficulty second = Difficulty.valueOf(args[3].toUpperCase());
+    int parallelism =
+        args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+    System.out.print(new SelfPlaySimulator(parallelism).run(games, seed, first, second));
+  }
+}
@@ -0,0 +1,196 @@
+// src/main/java/com/bidwhist/simulation/SimulationReport.java
+
+package com.bidwhist.simulation;
+
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.Team;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Totals from a batch of self-play games: throughput, game wins per difficulty and
+ * how often contracts were made, overall and by the difficulty of the bidding team.
+ */
+public final class SimulationReport {
+
+  private final int games;
+  private final long hands;
+  private final int unfinished;
+  private final int teamAWins;
+  private final long elapsedNanos;
+  private final Map<Difficulty, int[]> results;
+  private final Map<Difficulty, long[]> contracts;
+
+  SimulationReport(Tally tally, long elapsedNanos) {
+    this.games = tally.games;
+    this.hands = tally.hands;
+    this.unfinished = tally.unfinished;
+    this.teamAWins = tally.teamAWins;
+    this.elapsedNanos = elapsedNanos;
+    this.results = tally.results;
+    this.contracts = tally.contracts;
+  }
+
+  public int getGames() {
+    return games;
+  }
+
+  public long getHands() {
+    return hands;
+  }
+
+  /* Games stopped at the hand limit without a winner */
+  public int getUnfinished() {
+    return unfinished;
+  }
+
+  public int getTeamAWins() {
+    return teamAWins;
+  }
+
+  public double getElapsedSeconds() {
+    return elapsedNanos / 1e9;
+  }
+
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games / getElapsedSeconds();
+  }
+
+  public double getHandsPerSecond() {
+    return elapsedNanos == 0 ? 0 : hands / getElapsedSeconds();
+  }
+
+  /* Games a team of this difficulty took part in (twice per game in a mirror match) */
+  public int getGamesPlayed(Difficulty difficulty) {
+    return results.containsKey(difficulty) ? results.get(difficulty)[0] : 0;
+  }
+
+  public int getWins(Difficulty difficulty) {
+    return results.containsKey(difficulty) ? results.get(difficulty)[1] : 0;
+  }
+
+  public double getWinRate(Difficulty difficulty) {
+    return ratio(getWins(difficulty), getGamesPlayed(difficulty));
+  }
+
+  /* Contracts won by a team of this difficulty */
+  public long getBids(Difficulty difficulty) {
+    return contracts.containsKey(difficulty) ? contracts.get(difficulty)[0] : 0;
+  }
+
+  public long getBidsMade(Difficulty difficulty) {
+    return contracts.containsKey(difficulty) ? contracts.get(difficulty)[1] : 0;
+  }
+
+  public double getBidSuccessRate(Difficulty difficulty) {
+    return ratio(getBidsMade(difficulty), getBids(difficulty));
+  }
+
+  public double getBidSuccessRate() {
+    long bids = 0;
+    long made = 0;
+    for (long[] counts : contracts.values()) {
+      bids += counts[0];
+      made += counts[1];
+    }
+    return ratio(made, bids);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(
+        String.format(
+            Locale.ROOT,
+            "%d games, %d hands in %.2fs (%.1f games/s, %.1f hands/s), %d unfinished%n",
+            games,
+            hands,
+            getElapsedSeconds(),
+            getGamesPerSecond(),
+            getHandsPerSecond(),
+            unfinished));
+    sb.append(
+        String.format(
+            Locale.ROOT,
+            "Team A (P1/P3) won %.1f%%, bids made %.1f%%%n",
+            100 * ratio(teamAWins, games - unfinished),
+            100 * getBidSuccessRate()));
+    for (Difficulty difficulty : Difficulty.values()) {
+      if (getGamesPlayed(difficulty) > 0) {
+        sb.append(
+            String.format(
+                Locale.ROOT,
+                "%-7s won %.1f%% of %d, bids made %.1f%% of %d%n",
+                difficulty,
+                100 * getWinRate(difficulty),
+                getGamesPlayed(difficulty),
+                100 * getBidSuccessRate(difficulty),
+                getBids(difficulty)));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static double ratio(long part, long whole) {
+    return whole == 0 ? 0 : (double) part / whole;
+  }
+
+  /* Mutable per-thread totals, merged when the parallel games are collected */
+  static final class Tally {
+
+    private int games;
+    private long hands;
+    private int unfinished;
+    private int teamAWins;
+
+    /* [games played, games won] */
+    private final Map<Difficulty, int[]> results = new EnumMap<>(Difficulty.class);
+
+    /* [contracts, contracts made] */
+    private final Map<Difficulty, long[]> contracts = new EnumMap<>(Difficulty.class);
+
+    void add(GameOutcome outcome) {
+      games++;
+      hands += outcome.hands();
+
+      for (Team team : Team.values()) {
+        Difficulty difficulty = outcome.difficultyOf(team);
+        int[] result = results.computeIfAbsent(difficulty, d -> new int[2]);
+        result[0]++;
+        if (team == outcome.winner()) {
+          result[1]++;
+        }
+
+        long[] contract = contracts.computeIfAbsent(difficulty, d -> new long[2]);
+        contract[0] += outcome.bids()[team.ordinal()];
+        contract[1] += outcome.bidsMade()[team.ordinal()];
+      }
+
+      if (outcome.winner() == null) {
+        unfinished++;
+      } else if (outcome.winner() == Team.A) {
+        teamAWins++;
+      }
+    }
+
+    void merge(Tally other) {
+      games += other.games;
+      hands += other.hands;
+      unfinished += other.unfinished;
+      teamAWins += other.teamAWins;
+      other.results.forEach(
+          (difficulty, counts) -> {
+            int[] result = results.computeIfAbsent(difficulty, d -> new int[2]);
+            result[0] += counts[0];
+            result[1] += counts[1];
+          });
+      other.contracts.forEach(
+          (difficulty, counts) -> {
+            long[] contract = contracts.computeIfAbsent(difficulty, d -> new long[2]);
+            contract[0] += counts[0];
+            contract[1] += counts[1];
+          });
+    }
+  }
+}
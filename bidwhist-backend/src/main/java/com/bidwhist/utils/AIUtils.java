@@ -1,10 +1,15 @@
 package com.bidwhist.utils;
 
+import com.bidwhist.ai.KittyOptimizer;
+import com.bidwhist.ai.MonteCarloAI;
 import com.bidwhist.bidding.FinalBid;
 import com.bidwhist.bidding.HandEvaluator;
 import com.bidwhist.bidding.InitialBid;
 import com.bidwhist.dto.Animation;
 import com.bidwhist.dto.AnimationType;
+import com.bidwhist.metrics.EngineMetrics;
+import com.bidwhist.model.AIDecision;
+import com.bidwhist.model.AIDecisions;
 import com.bidwhist.model.Book;
 import com.bidwhist.model.Card;
 import com.bidwhist.model.Difficulty;
@@ -18,17 +23,21 @@ import com.bidwhist.model.Team;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AIUtils {
 
+  private static final Logger log = LoggerFactory.getLogger(AIUtils.class);
+
   /*
    * Evaluates a given AI player's hand and returns the strongest valid bid.
    * Saves final bid to cache for later reference.
    */
   public static InitialBid generateAIBid(GameState game, Player ai) {
 
-    HandEvaluator evaluator = new HandEvaluator(ai);
-    evaluator.evaluateHand();
+    HandEvaluator evaluator = HandEvaluator.cached(game, ai.getHand().getCards());
 
     List<FinalBid> bidOptions = evaluator.evaluateAll(ai.getPosition());
     InitialBid currentHigh = game.getHighestBid();
@@ -50,7 +59,7 @@ public class AIUtils {
 
   /*
    * Executes AI bids until it’s the human player’s turn or all bids are
-   * completed.
+   * completed. A game being restored places the logged bids instead.
    */
   public static void processAllBids(GameState game) {
     while (game.getBids().size() < 4) {
@@ -66,24 +75,31 @@ public class AIUtils {
 
       InitialBid aiBid;
       FinalBid aiFinalBid;
+      AIDecision replayed =
+          replayedDecision(game, AIDecision.Kind.BID, nextBidder.getPosition());
 
-      if (isFinalBidder && passedCount == 3) {
-        HandEvaluator aiHandEval = new HandEvaluator(nextBidder);
+      if (replayed != null) {
+        aiBid = replayed.bid();
+        if (replayed.finalBid() != null) {
+          game.getFinalBidCache().put(nextBidder.getPosition(), replayed.finalBid());
+        }
+      } else if (isFinalBidder && passedCount == 3) {
+        HandEvaluator aiHandEval = HandEvaluator.cached(game, nextBidder.getHand().getCards());
         aiFinalBid = aiHandEval.getForcedMinimumBid(game, nextBidder.getPosition());
         aiBid = aiFinalBid.getInitialBid();
         game.getFinalBidCache().put(nextBidder.getPosition(), aiFinalBid);
       } else {
         aiBid = AIUtils.generateAIBid(game, nextBidder);
-        System.out.println(
-            "DEBUG: "
-                + nextBidder.getName()
-                + " (AI) bids "
-                + aiBid.getValue()
-                + " is No?: "
-                + aiBid.isNo());
+        log.debug(
+            "{} (AI) bids {} is No?: {}", nextBidder.getName(), aiBid.getValue(), aiBid.isNo());
       }
 
       game.addBid(aiBid);
+      recordDecision(
+          game,
+          AIDecision.bid(
+              aiBid,
+              aiBid.isPassed() ? null : game.getFinalBidCache().get(nextBidder.getPosition())));
 
       if (!aiBid.isPassed()
           && (game.getHighestBid() == null || aiBid.compareTo(game.getHighestBid()) > 0)) {
@@ -95,92 +111,113 @@ public class AIUtils {
   }
 
   /*
-   * Main AI play loop. AI players will continue playing until a human's turn.
-   * Handles animations, trick resolution, and transitions to scoring or new hand.
+   * Plays AI turns back to back until a human is due or the hand ends (scored and,
+   * unless the game is over, the next hand dealt). Headless games use this; live
+   * games play one turn per AITurnScheduler step instead.
    */
   public static void autoPlayAITurns(GameState game) {
-    while (true) {
-      Player current = game.getPlayers().get(game.getCurrentTurnIndex());
-      if (!current.isAI()) {
-        break;
-      }
+    while (playAITurn(game)) {
+      // Each pass plays one card
+    }
+  }
 
-      Card chosenCard = chooseCardForAI(game, current, game.getCurrentTrick());
+  /* True when the game is in play and the seat to act is an AI */
+  public static boolean isAITurn(GameState game) {
+    return game.getPhase() == GamePhase.PLAY
+        && game.getPlayers().get(game.getCurrentTurnIndex()).isAI();
+  }
 
-      if (JokerUtils.isJokerRank(chosenCard.getRank())) {
-        String suitStr = (chosenCard.getSuit() == null) ? "null" : chosenCard.getSuit().name();
-        System.out.println("[Play] Attempting to play joker: " + chosenCard
-            + " | suit=" + suitStr
-            + " | id=" + System.identityHashCode(chosenCard));
-      }
+  /*
+   * Chooses and plays a single card for the AI seat to act, if any; true if it did.
+   * A game being restored plays the logged card instead.
+   */
+  public static boolean playAITurn(GameState game) {
+    if (!isAITurn(game)) {
+      return false;
+    }
+    Player current = game.getPlayers().get(game.getCurrentTurnIndex());
+    AIDecision replayed = replayedDecision(game, AIDecision.Kind.PLAY, current.getPosition());
+    playAICard(
+        game,
+        replayed != null
+            ? cardInHand(current, replayed.card())
+            : decideCardForAI(game, current, game.getCurrentTrick()));
+    return true;
+  }
 
-      System.out.println(
-          "DEBUG: "
-              + current.getName()
-              + " played card: "
-              + chosenCard
-              + " "
-              + game.getCurrentTurnIndex());
+  /*
+   * Plays a card already chosen for the AI seat to act.
+   * Handles animations, trick resolution, and transitions to scoring or new hand.
+   */
+  public static void playAICard(GameState game, Card chosenCard) {
+    Player current = game.getPlayers().get(game.getCurrentTurnIndex());
+    recordDecision(game, AIDecision.play(current.getPosition(), chosenCard));
+    game.addPlayedCard(chosenCard);
+
+    if (JokerUtils.isJokerRank(chosenCard.getRank())) {
+      log.trace(
+          "[Play] Attempting to play joker: {} | suit={} | id={}",
+          chosenCard,
+          chosenCard.getSuit(),
+          System.identityHashCode(chosenCard));
+    }
+
+    log.debug(
+        "{} played card: {} {}", current.getName(), chosenCard, game.getCurrentTurnIndex());
+
+    current.getHand().getCards().remove(chosenCard);
+
+    PlayedCard validPlayedCard = new PlayedCard(current.getPosition(), chosenCard);
 
-      current.getHand().getCards().remove(chosenCard);
+    game.getCurrentTrick().add(validPlayedCard);
+    HandUtils.recordSuitVoids(game, game.getCurrentTrick());
 
-      PlayedCard validPlayedCard = new PlayedCard(current.getPosition(), chosenCard);
+    game.addAnimation(
+        new Animation(
+            validPlayedCard,
+            game.getLeadSuit(),
+            game.getCurrentTurnIndex(),
+            game.getCurrentTrick().size(),
+            game.getSessionKey(),
+            game));
+    game.setCurrentTurnIndex((game.getCurrentTurnIndex() + 1) % 4);
 
-      game.getCurrentTrick().add(validPlayedCard);
+    if (game.getCurrentTrick().size() == 4) {
+      PlayedCard winner = HandUtils.determineTrickWinner(game, game.getCurrentTrick());
+
+      Player winnerPlayer = PlayerUtils.getPlayerByPosition(winner.getPlayer(), game.getPlayers());
+      Team winnerTeam = winnerPlayer.getTeam();
+      log.debug("Trick won by {} (Team {})", winnerPlayer.getName(), winnerTeam);
+
+      Book currentBook = new Book(game.getCurrentTrick(), winnerTeam);
+      game.setCurrentTurnIndex(winnerPlayer.getPosition().ordinal());
 
       game.addAnimation(
           new Animation(
-              validPlayedCard,
-              game.getLeadSuit(),
-              game.getCurrentTurnIndex(),
-              game.getCurrentTrick().size(),
-              game.getSessionKey(),
-              game));
-      game.setCurrentTurnIndex((game.getCurrentTurnIndex() + 1) % 4);
-
-      if (game.getCurrentTrick().size() == 4) {
-        System.out.println("DEBUG: Trick complete. Evaluating winner...");
-        PlayedCard winner = HandUtils.determineTrickWinner(game, game.getCurrentTrick());
-
-        Player winnerPlayer = PlayerUtils.getPlayerByPosition(winner.getPlayer(), game.getPlayers());
-        Team winnerTeam = winnerPlayer.getTeam();
-        System.out.println(
-            "DEBUG: Trick won by " + winnerPlayer.getName() + " (Team " + winnerTeam + ")");
-
-        Book currentBook = new Book(game.getCurrentTrick(), winnerTeam);
-        game.setCurrentTurnIndex(winnerPlayer.getPosition().ordinal());
-
-        game.addAnimation(
-            new Animation(
-                currentBook,
-                winnerPlayer.getPosition().ordinal(),
-                game.getPhase(),
-                game.getSessionKey()));
-        game.addAnimation(new Animation(AnimationType.UPDATE_CARDS, game.getSessionKey()));
-
-        game.getTeamTrickCounts().putIfAbsent(winnerTeam, 0);
-        game.getTeamTrickCounts().put(winnerTeam, game.getTeamTrickCounts().get(winnerTeam) + 1);
-        System.out.println("DEBUG: Team trick counts: " + game.getTeamTrickCounts());
-
-        game.getCompletedTricks().add(currentBook);
-        game.getCurrentTrick().clear();
-
-        if (game.getCompletedTricks().size() == 12) {
-          GameplayUtils.scoreHand(game);
-
-          if (game.getPhase() == GamePhase.END) {
-            game.addAnimation(new Animation(AnimationType.SHOW_WINNER, game.getSessionKey()));
-          } else {
-            game.addAnimation(new Animation(AnimationType.CLEAR, game.getSessionKey()));
-            GameplayUtils.startNewHand(game);
-          }
-          game.setBidWinnerPos(null);
-          return;
-        }
+              currentBook,
+              winnerPlayer.getPosition().ordinal(),
+              game.getPhase(),
+              game.getSessionKey()));
+      game.addAnimation(new Animation(AnimationType.UPDATE_CARDS, game.getSessionKey()));
+
+      game.getTeamTrickCounts().putIfAbsent(winnerTeam, 0);
+      game.getTeamTrickCounts().put(winnerTeam, game.getTeamTrickCounts().get(winnerTeam) + 1);
+      log.debug("Team trick counts: {}", game.getTeamTrickCounts());
+      EngineMetrics.recordTrick();
+
+      game.getCompletedTricks().add(currentBook);
+      game.getCurrentTrick().clear();
+
+      if (game.getCompletedTricks().size() == 12) {
+        GameplayUtils.scoreHand(game);
 
-        if (winnerPlayer.isAI()) {
-          autoPlayAITurns(game);
+        if (game.getPhase() == GamePhase.END) {
+          game.addAnimation(new Animation(AnimationType.SHOW_WINNER, game.getSessionKey()));
+        } else {
+          game.addAnimation(new Animation(AnimationType.CLEAR, game.getSessionKey()));
+          GameplayUtils.startNewHand(game);
         }
+        game.setBidWinnerPos(null);
       }
     }
   }
@@ -197,7 +234,8 @@ public class AIUtils {
    * defensive low card if
    * partner is winning - The weakest card that can beat the current winner - A
    * fallback lowest card
-   * when no better play is found
+   * when no better play is found - EXPERT: Monte Carlo search over sampled
+   * opponent hands (see MonteCarloAI)
    *
    * <p>
    * Decision logic adjusts dynamically based on trick position, trump usage, and
@@ -206,25 +244,65 @@ public class AIUtils {
    */
   public static Card chooseCardForAI(
       GameState game, Player aiPlayer, List<PlayedCard> currentTrick) {
+    Card chosenCard = decideCardForAI(game, aiPlayer, currentTrick);
+    game.addPlayedCard(chosenCard);
+    return chosenCard;
+  }
+
+  /*
+   * The decision half of chooseCardForAI: reads the game but changes nothing. Use
+   * prepareCardForAI to decide away from the game's lane.
+   */
+  public static Card decideCardForAI(
+      GameState game, Player aiPlayer, List<PlayedCard> currentTrick) {
     List<Card> hand = aiPlayer.getHand().getCards();
-    Difficulty difficulty = game.getDifficulty();
+    Difficulty difficulty = difficultyOf(game, aiPlayer);
     PlayerPos aiPlayerPosition = aiPlayer.getPosition();
 
-    System.out.println("Getting card for " + aiPlayer.getName());
+    log.trace("Getting card for {}", aiPlayer.getName());
 
+    long start = System.nanoTime();
+    Card chosenCard;
     if (difficulty == Difficulty.EASY) {
-      Card easyCard = getEasyAIMove(game, hand, currentTrick);
-      game.addPlayedCard(easyCard);
-      return easyCard;
+      chosenCard = getEasyAIMove(game, hand, currentTrick);
     } else if (difficulty == Difficulty.MEDIUM) {
-      Card mediumCard = getMediumAIMove(game, aiPlayerPosition, hand, currentTrick);
-      game.addPlayedCard(mediumCard);
-      return mediumCard;
+      chosenCard = getMediumAIMove(game, aiPlayerPosition, hand, currentTrick);
+    } else if (difficulty == Difficulty.EXPERT) {
+      chosenCard = MonteCarloAI.chooseCard(game, aiPlayerPosition, hand, currentTrick);
     } else {
-      Card hardCard = getHardAIMove(game, aiPlayer.getPosition(), hand, currentTrick);
-      game.addPlayedCard(hardCard);
-      return hardCard;
+      difficulty = Difficulty.HARD;
+      chosenCard = getHardAIMove(game, aiPlayer.getPosition(), hand, currentTrick);
     }
+    EngineMetrics.recordAIDecision(difficulty, System.nanoTime() - start);
+    return chosenCard;
+  }
+
+  /*
+   * Prepares an AI card decision to run away from the game's lane. Must be called on
+   * the lane: the EXPERT search gets a copy of the position taken here and never reads
+   * the game again, and the heuristics are cheap enough to decide here outright.
+   */
+  public static Supplier<Card> prepareCardForAI(
+      GameState game, Player aiPlayer, List<PlayedCard> currentTrick) {
+    if (difficultyOf(game, aiPlayer) == Difficulty.EXPERT) {
+      MonteCarloAI.Position position =
+          MonteCarloAI.capture(
+              game, aiPlayer.getPosition(), aiPlayer.getHand().getCards(), currentTrick);
+      if (position != null) {
+        return () -> {
+          long start = System.nanoTime();
+          Card chosenCard = MonteCarloAI.chooseCard(position);
+          EngineMetrics.recordAIDecision(Difficulty.EXPERT, System.nanoTime() - start);
+          return chosenCard;
+        };
+      }
+    }
+    Card chosenCard = decideCardForAI(game, aiPlayer, currentTrick);
+    return () -> chosenCard;
+  }
+
+  private static Difficulty difficultyOf(GameState game, Player aiPlayer) {
+    return aiPlayer.getDifficulty() != null ? aiPlayer.getDifficulty() : game.getDifficulty();
   }
 
   /**
@@ -240,14 +318,7 @@ public class AIUtils {
 
     List<Card> playableHand = HandUtils.getPlayableHand(game, trick, hand);
 
-    System.out.println("Full hand:");
-    for (Card card : hand) {
-      System.out.println(card.toString());
-    }
-    System.out.println("Playable hand:");
-    for (Card card : playableHand) {
-      System.out.println(card.toString());
-    }
+    log.trace("Full hand: {} | playable: {}", hand, playableHand);
 
     if (HandUtils.canWinTrick(game, trick, playableHand)) {
       return HandUtils.canBeat(game, trick, playableHand);
@@ -278,14 +349,7 @@ public class AIUtils {
     List<Card> playableHand = HandUtils.getPlayableHand(game, trick, hand);
     PlayedCard winningCard = HandUtils.determineTrickWinner(game, trick);
 
-    System.out.println("Full hand:");
-    for (Card card : hand) {
-      System.out.println(card.toString());
-    }
-    System.out.println("Playable hand:");
-    for (Card card : playableHand) {
-      System.out.println(card.toString());
-    }
+    log.trace("Full hand: {} | playable: {}", hand, playableHand);
 
     if (HandUtils.partnerIsWinning(player, winningCard)
         || !HandUtils.canWinTrick(game, trick, playableHand)) {
@@ -332,14 +396,7 @@ public class AIUtils {
       Card canBeatCard = null;
       boolean trickIsWinnable = HandUtils.canWinTrick(game, trick, playableHand);
 
-      System.out.println("Full hand:");
-      for (Card card : hand) {
-        System.out.println(card.toString());
-      }
-      System.out.println("Playable hand:");
-      for (Card card : playableHand) {
-        System.out.println(card.toString());
-      }
+      log.trace("Full hand: {} | playable: {}", hand, playableHand);
 
       if (trickIsWinnable) {
         canBeatCard = HandUtils.canBeat(game, trick, playableHand);
@@ -471,29 +528,58 @@ public class AIUtils {
 
   /*
    * Auto-applies kitty and discards for AI winners.
-   * Chooses 6 lowest cards to discard and starts the AI's first play.
+   * KittyOptimizer picks the 6 cards to discard for the final bid by searching every
+   * discard set (a game being restored discards the logged cards instead), and gives
+   * the AI the lead. The caller runs the AI turns from there.
    */
   public static void applyAIAutoKitty(GameState game, Player winner) {
-    winner.getHand().getCards().addAll(game.getKitty());
-
-    List<Card> sorted = new ArrayList<>(winner.getHand().getCards());
-    sorted.sort(Comparator.comparingInt(c -> c.getRank().getValue()));
-    List<Card> toDiscard = sorted.subList(0, 6);
+    PlayerPos winnerPos = game.getHighestBid().getPlayer();
+    FinalBid winningBid = game.getFinalBidCache().get(winnerPos);
 
+    List<Card> hand = winner.getHand().getCards();
+    hand.addAll(game.getKitty());
+    AIDecision replayed = replayedDecision(game, AIDecision.Kind.KITTY, winnerPos);
+    List<Card> toDiscard =
+        replayed != null ? replayed.cards() : KittyOptimizer.chooseDiscards(hand, winningBid);
     for (Card card : toDiscard) {
-      winner.getHand().getCards().remove(card);
+      if (!hand.remove(card)) {
+        throw new IllegalStateException(
+            "Discard " + card + " is not in " + winner.getName() + "'s hand");
+      }
     }
+    recordDecision(game, AIDecision.kitty(winnerPos, toDiscard));
 
     game.setKitty(new ArrayList<>());
 
-    PlayerPos winnerPos = game.getHighestBid().getPlayer();
-    FinalBid winningBid = game.getFinalBidCache().get(winnerPos);
     game.setBidType(winningBid.getType());
     game.setPhase(GamePhase.PLAY);
     game.setCurrentTurnIndex(winnerPos.ordinal());
 
-    System.out.println("DEBUG: First trick will be led by " + winner.getName());
+    log.debug("First trick will be led by {}", winner.getName());
+  }
+
+  /* The logged decision to take instead of deciding, while the game is being restored */
+  private static AIDecision replayedDecision(
+      GameState game, AIDecision.Kind kind, PlayerPos seat) {
+    AIDecisions decisions = game.getAIDecisions();
+    return decisions == null ? null : decisions.nextReplayed(kind, seat);
+  }
+
+  /* Keeps an applied decision for the command log, if the game is logged */
+  private static void recordDecision(GameState game, AIDecision decision) {
+    if (game.getAIDecisions() != null) {
+      game.getAIDecisions().record(decision);
+    }
+  }
 
-    autoPlayAITurns(game);
+  /* The hand's own instance of a logged card */
+  private static Card cardInHand(Player player, Card card) {
+    return player.getHand().getCards().stream()
+        .filter(card::equals)
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    "Logged card " + card + " is not in " + player.getName() + "'s hand"));
   }
 }
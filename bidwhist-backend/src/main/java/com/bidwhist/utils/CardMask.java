@@ -0,0 +1,229 @@
+// src/main/java/com/bidwhist/utils/CardMask.java
+
+package com.bidwhist.utils;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Hand;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Primitive encoding of the 54-card deck for AI search and simulation.
+ *
+ * Every card has an id from 0 to 53: suited cards are suit.ordinal() * 13 + (rank value - 2),
+ * the small joker is 52 and the big joker is 53. A set of cards (a hand, the played cards,
+ * a player's known holdings) is one long with bit id set, so membership, suit checks and
+ * legal-move filtering are single bitwise operations.
+ *
+ * Joker ids ignore the suit assigned to the joker during a suited bid; callers that need
+ * jokers to count as trump pass the trump suit to the methods that take one.
+ */
+public class CardMask {
+
+  public static final int DECK_SIZE = 54;
+  public static final int JOKER_S = 52;
+  public static final int JOKER_B = 53;
+
+  public static final long EMPTY = 0L;
+  public static final long JOKERS = (1L << JOKER_S) | (1L << JOKER_B);
+  public static final long FULL_DECK = (1L << DECK_SIZE) - 1;
+
+  private static final int RANKS_PER_SUIT = 13;
+  private static final long SUIT_BITS = (1L << RANKS_PER_SUIT) - 1;
+  private static final Suit[] SUITS = Suit.values();
+  private static final Rank[] RANKS = Rank.values();
+
+  /* Returns the id (0-53) of a card; jokers are identified by rank alone */
+  public static int idOf(Card card) {
+    if (card == null || card.getRank() == null) {
+      throw new IllegalArgumentException("Cannot encode a card without a rank");
+    }
+    return idOf(card.getSuit(), card.getRank());
+  }
+
+  /* Returns the id (0-53) of a suit/rank pair; the suit is ignored for jokers */
+  public static int idOf(Suit suit, Rank rank) {
+    if (rank == Rank.JOKER_S) {
+      return JOKER_S;
+    }
+    if (rank == Rank.JOKER_B) {
+      return JOKER_B;
+    }
+    if (suit == null) {
+      throw new IllegalArgumentException("Suited card requires a suit: " + rank);
+    }
+    return suit.ordinal() * RANKS_PER_SUIT + (rank.getValue() - 2);
+  }
+
+  /* Returns the single-bit mask for a card */
+  public static long bitOf(Card card) {
+    return 1L << idOf(card);
+  }
+
+  /* Returns the suit of an id, or null for jokers */
+  public static Suit suitOf(int id) {
+    return id >= JOKER_S ? null : SUITS[id / RANKS_PER_SUIT];
+  }
+
+  /* Returns the rank of an id */
+  public static Rank rankOf(int id) {
+    if (id == JOKER_S) {
+      return Rank.JOKER_S;
+    }
+    if (id == JOKER_B) {
+      return Rank.JOKER_B;
+    }
+    return RANKS[id % RANKS_PER_SUIT];
+  }
+
+  /* Builds a new Card for an id; jokers are created with no suit */
+  public static Card toCard(int id) {
+    if (id < 0 || id >= DECK_SIZE) {
+      throw new IllegalArgumentException("Card id out of range: " + id);
+    }
+    return new Card(suitOf(id), rankOf(id));
+  }
+
+  /* Encodes a collection of cards as a mask */
+  public static long maskOf(Collection<Card> cards) {
+    long mask = EMPTY;
+    if (cards == null) {
+      return mask;
+    }
+    for (Card card : cards) {
+      mask |= bitOf(card);
+    }
+    return mask;
+  }
+
+  /* Encodes a hand as a mask */
+  public static long maskOf(Hand hand) {
+    return hand == null ? EMPTY : maskOf(hand.getCards());
+  }
+
+  /*
+   * Decodes a mask into new Card objects in id order (suit, then rank, jokers last).
+   * Jokers get the given suit (pass the trump suit during a suited bid, or null).
+   */
+  public static List<Card> toCards(long mask, Suit jokerSuit) {
+    List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+    for (long rest = mask; rest != 0; rest &= rest - 1) {
+      Card card = toCard(Long.numberOfTrailingZeros(rest));
+      card.assignSuit(jokerSuit);
+      cards.add(card);
+    }
+    return cards;
+  }
+
+  /*
+   * Returns the cards from the given list whose ids are set in the mask,
+   * keeping the original Card objects and their order.
+   */
+  public static List<Card> select(List<Card> cards, long mask) {
+    List<Card> selected = new ArrayList<>();
+    for (Card card : cards) {
+      if ((mask & bitOf(card)) != 0) {
+        selected.add(card);
+      }
+    }
+    return selected;
+  }
+
+  /* Mask of the 13 natural cards of a suit (jokers excluded) */
+  public static long suitMask(Suit suit) {
+    return suit == null ? EMPTY : SUIT_BITS << (suit.ordinal() * RANKS_PER_SUIT);
+  }
+
+  /*
+   * Mask of every card that counts as the given suit: its natural cards,
+   * plus the jokers when that suit is trump.
+   */
+  public static long effectiveSuitMask(Suit suit, Suit trumpSuit) {
+    if (suit == null) {
+      return EMPTY;
+    }
+    long mask = suitMask(suit);
+    return suit == trumpSuit ? mask | JOKERS : mask;
+  }
+
+  public static boolean contains(long mask, Card card) {
+    return (mask & bitOf(card)) != 0;
+  }
+
+  public static boolean contains(long mask, int id) {
+    return (mask & (1L << id)) != 0;
+  }
+
+  public static long add(long mask, Card card) {
+    return mask | bitOf(card);
+  }
+
+  public static long remove(long mask, Card card) {
+    return mask & ~bitOf(card);
+  }
+
+  public static int size(long mask) {
+    return Long.bitCount(mask);
+  }
+
+  /* True if the hand holds at least one card counting as the suit */
+  public static boolean hasSuit(long hand, Suit suit, Suit trumpSuit) {
+    return (hand & effectiveSuitMask(suit, trumpSuit)) != 0;
+  }
+
+  /* True if the hand holds no card counting as the suit */
+  public static boolean isVoid(long hand, Suit suit, Suit trumpSuit) {
+    return !hasSuit(hand, suit, trumpSuit);
+  }
+
+  /* Number of cards in the hand counting as the suit */
+  public static int countSuit(long hand, Suit suit, Suit trumpSuit) {
+    return Long.bitCount(hand & effectiveSuitMask(suit, trumpSuit));
+  }
+
+  /*
+   * Returns the legally playable subset of a hand: the cards following the
+   * lead suit if the hand has any, otherwise the whole hand. Matches
+   * HandUtils.getPlayableHand. Pass a null trump suit for No bids.
+   */
+  public static long legalMoves(long hand, Suit leadSuit, Suit trumpSuit) {
+    if (leadSuit == null) {
+      return hand;
+    }
+    long following = hand & effectiveSuitMask(leadSuit, trumpSuit);
+    return following != 0 ? following : hand;
+  }
+
+  /* Returns the lowest id in the mask, or -1 if empty */
+  public static int firstId(long mask) {
+    return mask == 0 ? -1 : Long.numberOfTrailingZeros(mask);
+  }
+
+  /*
+   * Void tracking: one 4-bit int per player, bit suit.ordinal() set once the
+   * player has shown out of that suit.
+   */
+  public static int markVoid(int voids, Suit suit) {
+    return suit == null ? voids : voids | (1 << suit.ordinal());
+  }
+
+  public static boolean isMarkedVoid(int voids, Suit suit) {
+    return suit != null && (voids & (1 << suit.ordinal())) != 0;
+  }
+
+  /*
+   * Removes from a mask of possible holdings every card of the suits
+   * the player is known to be void in.
+   */
+  public static long excludeVoids(long mask, int voids, Suit trumpSuit) {
+    for (Suit suit : SUITS) {
+      if (isMarkedVoid(voids, suit)) {
+        mask &= ~effectiveSuitMask(suit, trumpSuit);
+      }
+    }
+    return mask;
+  }
+}
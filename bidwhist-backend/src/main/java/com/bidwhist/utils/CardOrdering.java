@@ -0,0 +1,99 @@
+// src/main/java/com/bidwhist/utils/CardOrdering.java
+
+package com.bidwhist.utils;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+
+/*
+ * Trick-strength keys as plain ints. The card with the highest key wins the trick,
+ * so evaluating a trick is a max over ints with no comparators or streams.
+ *
+ * A key is category * 256 + (rank weight + 2), where rank weight comes from the
+ * precomputed Rank tables:
+ * - Suited bids: jokers 3, trump 2, lead suit 1, anything else 0.
+ * - No bids: lead suit (non-joker) 1; jokers and off-suit cards are INELIGIBLE.
+ */
+public class CardOrdering {
+
+  /* Key of a card that can never win the trick (No bids only) */
+  public static final int INELIGIBLE = -1;
+
+  private static final int CATEGORY_SHIFT = 256;
+  private static final int WEIGHT_OFFSET = 2;
+
+  private static final int JOKER = 3;
+  private static final int TRUMP = 2;
+  private static final int LEAD = 1;
+  private static final int OFF_SUIT = 0;
+
+  /* Returns the Rank table mode for the game's current bid */
+  public static int modeOf(GameState game) {
+    return Rank.modeIndex(game.getBidType(), isNo(game));
+  }
+
+  /* Returns the trump suit that applies to trick play (null for No bids) */
+  public static Suit trumpOf(GameState game) {
+    return isNo(game) ? null : game.getTrumpSuit();
+  }
+
+  public static boolean isNo(GameState game) {
+    return game.getWinningBid() != null && game.getWinningBid().isNo();
+  }
+
+  /*
+   * Returns the trick-strength key of a card. The mode must come from Rank.modeIndex
+   * (or modeOf), and trumpSuit must be null for No bids.
+   */
+  public static int trickKey(Card card, Suit leadSuit, Suit trumpSuit, int mode) {
+    return key(card.isJoker(), card.getSuit(), card.getRank(), leadSuit, trumpSuit, mode);
+  }
+
+  public static int trickKey(
+      Card card, Suit leadSuit, Suit trumpSuit, BidType bidType, boolean isNo) {
+    return trickKey(card, leadSuit, isNo ? null : trumpSuit, Rank.modeIndex(bidType, isNo));
+  }
+
+  /*
+   * Same key for a CardMask id. Jokers carry no suit in an id, which matches how
+   * the key treats them (joker category in suited bids, ineligible in No bids).
+   */
+  public static int trickKey(int id, Suit leadSuit, Suit trumpSuit, int mode) {
+    return key(
+        id >= CardMask.JOKER_S,
+        CardMask.suitOf(id),
+        CardMask.rankOf(id),
+        leadSuit,
+        trumpSuit,
+        mode);
+  }
+
+  /* Returns just the rank part of a key, for comparisons within one suit */
+  public static int rankKey(Rank rank, int mode) {
+    return Rank.weight(rank, mode) + WEIGHT_OFFSET;
+  }
+
+  private static int key(
+      boolean joker, Suit suit, Rank rank, Suit leadSuit, Suit trumpSuit, int mode) {
+    boolean isNo = mode >= 2;
+    int category;
+    if (isNo) {
+      if (joker || suit == null || suit != leadSuit) {
+        return INELIGIBLE;
+      }
+      category = LEAD;
+    } else if (joker) {
+      category = JOKER;
+    } else if (trumpSuit != null && suit == trumpSuit) {
+      category = TRUMP;
+    } else if (suit == leadSuit) {
+      category = LEAD;
+    } else {
+      category = OFF_SUIT;
+    }
+    return category * CATEGORY_SHIFT + rankKey(rank, mode);
+  }
+}
@@ -1,24 +1,29 @@
 package com.bidwhist.utils;
 
+import com.bidwhist.bidding.BidType;
 import com.bidwhist.bidding.FinalBid;
 import com.bidwhist.dto.Animation;
 import com.bidwhist.dto.AnimationType;
+import com.bidwhist.metrics.EngineMetrics;
 import com.bidwhist.model.GamePhase;
 import com.bidwhist.model.GameState;
 import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
 import com.bidwhist.model.Team;
 import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class GameplayUtils {
 
+  private static final Logger log = LoggerFactory.getLogger(GameplayUtils.class);
+
   /*
    * Deals cards to players after shuffling and sets game phase to BID.
    * Also triggers card animations and assigns the kitty.
    * If the next bidder is AI, initiates AI bid processing.
    */
   public static void dealToPlayers(GameState game) {
-    System.out.println("[dealToPlayers]");
-
     if (game == null) {
       throw new IllegalStateException("Game not started.");
     }
@@ -27,12 +32,13 @@ public class GameplayUtils {
       throw new IllegalStateException("Can only deal after shuffle.");
     }
     game.addAnimation(new Animation(AnimationType.HIDE_HANDS, game.getSessionKey()));
+    game.getHandEvaluations().clear();
     game.getDeck().deal(game.getPlayers());
     game.addAnimation(
         new Animation(game.getShuffledDeck(), game.getCurrentTurnIndex(), game.getSessionKey()));
     game.setKitty(game.getDeck().getKitty().getCards());
     game.setPhase(GamePhase.BID);
-    System.out.println("Current phase: " + game.getPhase());
+    log.debug("Dealt hand, phase {}", game.getPhase());
     game.addAnimation(new Animation(AnimationType.UPDATE_CARDS, game.getSessionKey()));
 
     Player nextBidder = game.getPlayers().get(game.getBidTurnIndex());
@@ -41,6 +47,64 @@ public class GameplayUtils {
     }
   }
 
+  /*
+   * Resolves the auction once all four bids are in.
+   * Records the winner and passes the first bid to the next seat. An AI winner takes
+   * the kitty and play starts at once with that AI to lead (the caller runs the AI
+   * turns); a human winner moves the game to the KITTY phase.
+   */
+  public static void resolveBids(GameState game) {
+    PlayerPos winnerPos = game.getHighestBid().getPlayer();
+    Player winner =
+        game.getPlayers().stream()
+            .filter(p -> p.getPosition().equals(winnerPos))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Winner not found"));
+
+    game.setBidWinnerPos(winnerPos);
+
+    int nextTurn = (game.getBidTurnIndex() + 1) % 4;
+    game.setBidTurnIndex(nextTurn);
+    game.setFirstBidder(PlayerPos.values()[nextTurn]);
+
+    // NO_TRUMP Handling
+    if (game.getHighestBid().isNo()) {
+      game.setBidType(BidType.NO_TRUMP);
+      game.setTrumpSuit(null);
+
+      FinalBid finalBid =
+          new FinalBid(
+              game.getHighestBid().getPlayer(),
+              game.getHighestBid().getValue(),
+              BidType.NO_TRUMP,
+              null);
+      game.setWinningBidStats(finalBid);
+    } else if (winner.isAI()) {
+      FinalBid finalBid = game.getFinalBidCache().get(winnerPos);
+      if (finalBid == null) {
+        throw new IllegalStateException("AI Final bid missing for: " + winnerPos);
+      }
+      game.setWinningBidStats(finalBid);
+      game.getDeck().assignTrumpSuitToJokers(finalBid.getSuit());
+    }
+
+    if (winner.isAI()) {
+      game.setPhase(GamePhase.PLAY);
+      AIUtils.applyAIAutoKitty(game, winner);
+    } else {
+      game.setPhase(GamePhase.KITTY);
+    }
+  }
+
+  /*
+   * Shuffles the deck for a new hand from the game's seeded generator, so every
+   * deal of the game follows from its seed.
+   */
+  public static void shuffleDeck(GameState game) {
+    game.getDeck().shuffle(game.getShuffleRandom());
+    game.setShuffledDeck(game.getDeck().getCards());
+  }
+
   /*
    * Scores the current hand based on bid success and trick count.
    * Updates team scores accordingly.
@@ -79,21 +143,33 @@ public class GameplayUtils {
     } else {
       game.setTeamBScore(newScore);
     }
+    EngineMetrics.recordHand();
+
+    Team winner = winningTeam(game);
+    if (winner != null) {
+      log.debug(
+          "Team {} won (Score A: {}, Score B: {})",
+          winner,
+          game.getTeamAScore(),
+          game.getTeamBScore());
+      game.setPhase(GamePhase.END);
+    }
+  }
 
-    // Game end condition: either team reaches ≥ 7 or ≤ -7
+  /*
+   * Returns the team that has won the game, or null if play continues.
+   * A team wins by reaching 7 points or when the other team falls to -7.
+   */
+  public static Team winningTeam(GameState game) {
     int teamAScore = game.getTeamAScore();
     int teamBScore = game.getTeamBScore();
 
-    // Win condition logic
     if (teamAScore >= 7 || teamBScore <= -7) {
-      System.out.println(
-          "DEBUG: Team A WON (Score A: " + teamAScore + ", Score B: " + teamBScore + ")");
-      game.setPhase(GamePhase.END);
+      return Team.A;
     } else if (teamBScore >= 7 || teamAScore <= -7) {
-      System.out.println(
-          "DEBUG: Team B WON (Score B: " + teamBScore + ", Score A: " + teamAScore + ")");
-      game.setPhase(GamePhase.END);
+      return Team.B;
     }
+    return null;
   }
 
   /*
@@ -102,8 +178,6 @@ public class GameplayUtils {
    * Shuffles and re-deals cards for new round.
    */
   public static void startNewHand(GameState game) {
-    System.out.println("[startNewHand]");
-
     game.getKitty().clear();
     game.getDeck().clearKitty();
     game.getPlayedCards().clear();
@@ -123,8 +197,7 @@ public class GameplayUtils {
     game.getFinalBidCache().clear();
     game.setBidTurnIndex(game.getFirstBidder().ordinal());
 
-    game.getDeck().shuffle();
-    game.setShuffledDeck(game.getDeck().getCards());
+    shuffleDeck(game);
 
     dealToPlayers(game);
   }
@@ -156,8 +229,7 @@ public class GameplayUtils {
     game.setTeamBTricksWon(0);
     game.getTeamTrickCounts().clear();
     game.getTeamScores().clear();
-    game.getDeck().shuffle();
-    game.setShuffledDeck(game.getDeck().getCards());
+    shuffleDeck(game);
     dealToPlayers(game);
   }
 }
@@ -231,6 +231,27 @@ public class HandUtils {
     return voidMap.getOrDefault(partner, Collections.emptyMap()).getOrDefault(targetSuit, false);
   }
 
+  /**
+   * Returns the suits a player is known to be void in as a CardMask void bitset.
+   *
+   * @param game   The current game state.
+   * @param player The player to look up.
+   * @return bit suit.ordinal() set for every suit marked void in the suitVoidMap.
+   */
+  public static int getVoidMask(GameState game, PlayerPos player) {
+    Map<Suit, Boolean> voids = game.getSuitVoidMap().get(player);
+    int mask = 0;
+    if (voids == null) {
+      return mask;
+    }
+    for (Map.Entry<Suit, Boolean> entry : voids.entrySet()) {
+      if (Boolean.TRUE.equals(entry.getValue())) {
+        mask = CardMask.markVoid(mask, entry.getKey());
+      }
+    }
+    return mask;
+  }
+
   /**
    * Checks if the player’s hand contains at least one card of the specified suit.
    *
@@ -250,66 +271,31 @@ public class HandUtils {
   /*
    * Determines the winner of the current trick.
    * Applies different logic for NO_TRUMP, DOWNTOWN, and UPTOWN bids.
-   * Track players who play out of suit for AI advanced logic.
+   * Has no side effects; suit voids are recorded separately by recordSuitVoids.
    */
   public static PlayedCard determineTrickWinner(GameState game, List<PlayedCard> trick) {
-    if (trick == null || trick.isEmpty()) {
-      throw new IllegalArgumentException("Cannot determine trick winner: trick is empty.");
-    }
+    return TrickEvaluator.determineWinner(game, trick);
+  }
 
-    Suit leadSuitForComparison = getLeadSuit(game, trick);
-    FinalBid winningBid = game.getWinningBid();
-    BidType bidType = game.getBidType();
-    boolean isNoBid = winningBid != null && winningBid.isNo();
-    Suit trumpSuit = isNoBid ? null : game.getTrumpSuit();
+  /*
+   * Marks players who did not follow the lead suit as void in it, for AI advanced logic.
+   * Called each time a card is added to the real trick; never during lookahead.
+   */
+  public static void recordSuitVoids(GameState game, List<PlayedCard> trick) {
+    Suit leadSuit = TrickEvaluator.leadSuitOf(trick);
+    if (leadSuit == null) {
+      return;
+    }
 
-    // Track suit voids
     for (PlayedCard played : trick) {
       Card card = played.getCard();
-      PlayerPos player = played.getPlayer();
-
-      if (card.isJoker())
+      if (card.isJoker() || card.getSuit() == null || card.getSuit() == leadSuit) {
         continue;
-
-      if (card.getSuit() != null && !card.getSuit().equals(leadSuitForComparison)) {
-        game.getSuitVoidMap()
-            .computeIfAbsent(player, p -> new EnumMap<>(Suit.class))
-            .put(leadSuitForComparison, true);
       }
+      game.getSuitVoidMap()
+          .computeIfAbsent(played.getPlayer(), p -> new EnumMap<>(Suit.class))
+          .put(leadSuit, true);
     }
-
-    // Set up rank comparator
-    Comparator<Rank> rankComparator = Rank.rankComparator(bidType, isNoBid);
-
-    // For No-Trump: only cards of lead suit, jokers excluded
-    if (isNoBid) {
-      Comparator<Card> cardComparator = CardUtils.getCardComparator(game);
-
-      return trick.stream()
-          .filter(pc -> !pc.getCard().isJoker())
-          .filter(pc -> pc.getCard().getSuit() == leadSuitForComparison)
-          .max(Comparator.comparing(PlayedCard::getCard, cardComparator))
-          .orElseThrow(
-              () -> new IllegalStateException(
-                  "BUG: No eligible cards found in NO_TRUMP bid. Check card legality."));
-    }
-
-    // Otherwise: trump > lead > others, compare by rank
-    return trick.stream()
-        .max(
-            Comparator.<PlayedCard>comparingInt(
-                pc -> {
-                  Card c = pc.getCard();
-                  if (c.isJoker())
-                    return 3000; // Jokers always win
-                  if (trumpSuit != null && c.getSuit() == trumpSuit)
-                    return 2000;
-                  if (c.getSuit() == leadSuitForComparison)
-                    return 1000;
-                  return 0;
-                })
-                .thenComparing(pc -> pc.getCard().getRank(), rankComparator))
-        .orElseThrow();
   }
 
   /**
@@ -601,10 +587,11 @@ public class HandUtils {
 
     Comparator<Rank> rankComparator = Rank.rankComparator(bidType, isNo);
 
-    // Group cards by suit (excluding trump)
+    // Group cards by suit (excluding trump), in suit order so ties break the same way every run
     Map<Suit, List<Card>> nonTrumpSuitGroups = hand.stream()
         .filter(c -> c.getSuit() != null && !c.getSuit().equals(trumpSuit))
-        .collect(Collectors.groupingBy(Card::getSuit));
+        .collect(Collectors.groupingBy(
+            Card::getSuit, () -> new EnumMap<>(Suit.class), Collectors.toList()));
 
     // Prefer to discard from suits with ≤ 2 cards
     for (Map.Entry<Suit, List<Card>> entry : nonTrumpSuitGroups.entrySet()) {
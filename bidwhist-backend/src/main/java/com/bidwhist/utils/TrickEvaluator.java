@@ -0,0 +1,84 @@
+// src/main/java/com/bidwhist/utils/TrickEvaluator.java
+
+package com.bidwhist.utils;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.Suit;
+import java.util.List;
+
+/*
+ * Computes the winner of a trick in one pass over CardOrdering int keys.
+ * No streams, no comparators, no boxing, and no changes to the game, so it is
+ * safe to call on hypothetical tricks during AI lookahead.
+ *
+ * Void tracking is not done here; see HandUtils.recordSuitVoids.
+ */
+public class TrickEvaluator {
+
+  /*
+   * Returns the winning card of the trick under the game's current bid.
+   */
+  public static PlayedCard determineWinner(GameState game, List<PlayedCard> trick) {
+    if (trick == null || trick.isEmpty()) {
+      throw new IllegalArgumentException("Cannot determine trick winner: trick is empty.");
+    }
+    int winner =
+        winnerIndex(
+            trick, leadSuitOf(trick), CardOrdering.trumpOf(game), CardOrdering.modeOf(game));
+    return trick.get(winner);
+  }
+
+  /*
+   * Returns the index in the trick of the winning card. The first card wins ties.
+   * Throws if no card is eligible to win (only possible in No bids).
+   */
+  public static int winnerIndex(List<PlayedCard> trick, Suit leadSuit, Suit trumpSuit, int mode) {
+    int bestIndex = -1;
+    int bestKey = CardOrdering.INELIGIBLE;
+    for (int i = 0; i < trick.size(); i++) {
+      int key = CardOrdering.trickKey(trick.get(i).getCard(), leadSuit, trumpSuit, mode);
+      if (key > bestKey) {
+        bestKey = key;
+        bestIndex = i;
+      }
+    }
+    if (bestIndex < 0) {
+      throw new IllegalStateException(
+          "BUG: No eligible cards found in NO_TRUMP bid. Check card legality.");
+    }
+    return bestIndex;
+  }
+
+  /*
+   * Same as winnerIndex for a trick held as CardMask ids (first count entries of ids).
+   * Returns -1 instead of throwing when no card is eligible.
+   */
+  public static int winnerIndex(int[] ids, int count, Suit leadSuit, Suit trumpSuit, int mode) {
+    int bestIndex = -1;
+    int bestKey = CardOrdering.INELIGIBLE;
+    for (int i = 0; i < count; i++) {
+      int key = CardOrdering.trickKey(ids[i], leadSuit, trumpSuit, mode);
+      if (key > bestKey) {
+        bestKey = key;
+        bestIndex = i;
+      }
+    }
+    return bestIndex;
+  }
+
+  /*
+   * Returns the suit of the first card with a suit (unassigned jokers in No bids are skipped),
+   * matching HandUtils.getLeadSuit.
+   */
+  public static Suit leadSuitOf(List<PlayedCard> trick) {
+    for (int i = 0; i < trick.size(); i++) {
+      Card card = trick.get(i).getCard();
+      if (card.getSuit() != null) {
+        return card.getSuit();
+      }
+    }
+    return null;
+  }
+}
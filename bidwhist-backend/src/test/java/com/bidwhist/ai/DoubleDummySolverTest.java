@@ -0,0 +1,122 @@
+// src/test/java/com/bidwhist/ai/DoubleDummySolverTest.java
+
+package com.bidwhist.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.utils.CardMask;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class DoubleDummySolverTest {
+
+  @Test
+  void testTopTrumpsTakeEveryTrick() {
+    long[] hands = {
+      CardMask.maskOf(
+          List.of(
+              new Card(null, Rank.JOKER_B),
+              new Card(null, Rank.JOKER_S),
+              new Card(Suit.SPADES, Rank.ACE))),
+      CardMask.maskOf(
+          List.of(
+              new Card(Suit.SPADES, Rank.TWO),
+              new Card(Suit.HEARTS, Rank.ACE),
+              new Card(Suit.HEARTS, Rank.KING))),
+      CardMask.maskOf(
+          List.of(
+              new Card(Suit.CLUBS, Rank.TWO),
+              new Card(Suit.CLUBS, Rank.THREE),
+              new Card(Suit.CLUBS, Rank.FOUR))),
+      CardMask.maskOf(
+          List.of(
+              new Card(Suit.DIAMONDS, Rank.ACE),
+              new Card(Suit.SPADES, Rank.KING),
+              new Card(Suit.SPADES, Rank.QUEEN)))
+    };
+
+    DoubleDummySolver solver = new DoubleDummySolver(Suit.SPADES, BidType.UPTOWN, false);
+    DoubleDummySolver.Result result = solver.solve(hands, PlayerPos.P1);
+    assertEquals(3, result.teamATricks());
+    assertEquals(0, result.teamBTricks());
+  }
+
+  @Test
+  void testMatchesBruteForceOnRandomDeals() {
+    SplittableRandom rng = new SplittableRandom(2024);
+    int[][] bids = {{0, 0}, {1, 0}, {0, 1}, {1, 1}}; // {downtown?, no?}
+
+    for (int deal = 0; deal < 120; deal++) {
+      int[] bid = bids[deal % bids.length];
+      BidType type = bid[0] == 1 ? BidType.DOWNTOWN : BidType.UPTOWN;
+      boolean isNo = bid[1] == 1;
+      Suit trump = isNo ? null : Suit.values()[rng.nextInt(4)];
+      long[] hands = randomHands(rng, 4);
+      PlayerPos leader = PlayerPos.values()[rng.nextInt(4)];
+
+      DoubleDummySolver solver = new DoubleDummySolver(trump, type, isNo);
+      DoubleDummySolver.Result result = solver.solve(hands, leader);
+
+      PlayoutState state = new PlayoutState(trump, Rank.modeIndex(type, isNo));
+      System.arraycopy(hands, 0, state.hands, 0, 4);
+      state.turn = leader.ordinal();
+      assertEquals(bruteForce(state), result.teamATricks(), "deal " + deal);
+      assertEquals(4, result.teamATricks() + result.teamBTricks());
+    }
+  }
+
+  @Test
+  void testFullHandSolvesQuickly() {
+    SplittableRandom rng = new SplittableRandom(99);
+    DoubleDummySolver solver = new DoubleDummySolver(Suit.HEARTS, BidType.UPTOWN, false);
+    long[] hands = randomHands(rng, 8);
+
+    long start = System.nanoTime();
+    DoubleDummySolver.Result result = solver.solve(hands, PlayerPos.P2);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    assertEquals(8, result.teamATricks() + result.teamBTricks());
+    assertTrue(elapsedMillis < 5_000, "solve took " + elapsedMillis + " ms");
+  }
+
+  private static long[] randomHands(SplittableRandom rng, int size) {
+    int[] deck = new int[CardMask.DECK_SIZE];
+    for (int i = 0; i < deck.length; i++) {
+      deck[i] = i;
+    }
+    for (int i = deck.length - 1; i > 0; i--) {
+      int j = rng.nextInt(i + 1);
+      int swap = deck[i];
+      deck[i] = deck[j];
+      deck[j] = swap;
+    }
+    long[] hands = new long[4];
+    for (int i = 0; i < size * 4; i++) {
+      hands[i % 4] |= 1L << deck[i];
+    }
+    return hands;
+  }
+
+  /* Plain minimax over every legal card, no pruning */
+  private static int bruteForce(PlayoutState state) {
+    if (state.isFinished()) {
+      return state.teamTricks[0];
+    }
+    boolean maximizing = state.turn % 2 == 0;
+    int best = maximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+    for (long rest = state.legalMoves(); rest != 0; rest &= rest - 1) {
+      PlayoutState next = state.copy();
+      next.play(Long.numberOfTrailingZeros(rest));
+      int value = bruteForce(next);
+      best = maximizing ? Math.max(best, value) : Math.min(best, value);
+    }
+    return best;
+  }
+}
@@ -0,0 +1,126 @@
+// src/test/java/com/bidwhist/ai/KittyOptimizerTest.java
+
+package com.bidwhist.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Deck;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class KittyOptimizerTest {
+
+  private static final FinalBid SPADES_UPTOWN =
+      new FinalBid(PlayerPos.P1, 4, BidType.UPTOWN, Suit.SPADES);
+
+  /* Spades AKQJ10 and both jokers, plus scattered low side cards */
+  private static List<Card> spadesHand() {
+    List<Card> hand = new ArrayList<>();
+    for (Rank rank : List.of(Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK, Rank.TEN)) {
+      hand.add(new Card(Suit.SPADES, rank));
+    }
+    hand.add(new Card(null, Rank.JOKER_B));
+    hand.add(new Card(null, Rank.JOKER_S));
+    hand.add(new Card(Suit.HEARTS, Rank.ACE));
+    for (Rank rank : List.of(Rank.TWO, Rank.FIVE, Rank.EIGHT)) {
+      hand.add(new Card(Suit.HEARTS, rank));
+      hand.add(new Card(Suit.CLUBS, rank));
+    }
+    hand.add(new Card(Suit.DIAMONDS, Rank.THREE));
+    hand.add(new Card(Suit.DIAMONDS, Rank.NINE));
+    hand.add(new Card(Suit.CLUBS, Rank.FOUR));
+    hand.add(new Card(Suit.DIAMONDS, Rank.SIX));
+    return hand;
+  }
+
+  @Test
+  void testKeepsTrumpJokersAndSideWinners() {
+    List<Card> hand = spadesHand();
+    assertEquals(18, hand.size());
+
+    List<Card> discards = KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN);
+
+    assertEquals(KittyOptimizer.DISCARDS, discards.size());
+    assertEquals(KittyOptimizer.DISCARDS, new HashSet<>(discards).size());
+    assertTrue(hand.containsAll(discards));
+    for (Card card : discards) {
+      assertFalse(card.getSuit() == Suit.SPADES, "discarded trump " + card);
+      assertFalse(card.getSuit() == null, "discarded a joker");
+    }
+    assertFalse(discards.contains(new Card(Suit.HEARTS, Rank.ACE)));
+  }
+
+  @Test
+  void testVoidsASideSuitForRuffs() {
+    List<Card> hand = spadesHand();
+    List<Card> discards = KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN);
+
+    // The six lowest cards would leave every side suit; a void lets the long trump ruff
+    List<Card> kept = new ArrayList<>(hand);
+    kept.removeAll(discards);
+    assertTrue(
+        List.of(Suit.CLUBS, Suit.DIAMONDS).stream()
+            .anyMatch(suit -> kept.stream().noneMatch(c -> c.getSuit() == suit)),
+        "no side suit voided: kept " + kept);
+  }
+
+  @Test
+  void testNoBidDiscardsJokers() {
+    FinalBid noUptown = new FinalBid(PlayerPos.P1, 4, true, false, BidType.UPTOWN, null);
+
+    List<Card> discards = KittyOptimizer.chooseDiscards(spadesHand(), noUptown);
+
+    assertTrue(discards.contains(new Card(null, Rank.JOKER_B)));
+    assertTrue(discards.contains(new Card(null, Rank.JOKER_S)));
+    assertFalse(discards.contains(new Card(Suit.SPADES, Rank.ACE)));
+    assertFalse(discards.contains(new Card(Suit.HEARTS, Rank.ACE)));
+  }
+
+  @Test
+  void testSameHandAlwaysDiscardsTheSameCards() {
+    Deck deck = new Deck();
+    deck.shuffle(new SplittableRandom(3));
+    List<Card> hand = new ArrayList<>(deck.getCards().subList(0, 18));
+
+    List<Card> discards = KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN);
+
+    assertEquals(KittyOptimizer.DISCARDS, new HashSet<>(discards).size());
+    assertTrue(hand.containsAll(discards));
+    for (int i = 0; i < 5; i++) {
+      assertEquals(discards, KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN));
+    }
+  }
+
+  @Test
+  void testFullSearchIsFast() {
+    List<Card> hand = spadesHand();
+    KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN);
+
+    long start = System.nanoTime();
+    List<Card> discards = KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(KittyOptimizer.DISCARDS, discards.size());
+    assertTrue(elapsedMillis < 500, "took " + elapsedMillis + " ms");
+  }
+
+  @Test
+  void testRejectsShortHand() {
+    List<Card> hand = spadesHand().subList(0, 5);
+    assertThrows(
+        IllegalArgumentException.class, () -> KittyOptimizer.chooseDiscards(hand, SPADES_UPTOWN));
+  }
+}
@@ -0,0 +1,140 @@
+// src/test/java/com/bidwhist/ai/MonteCarloAITest.java
+
+package com.bidwhist.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.model.Team;
+import com.bidwhist.utils.CardMask;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class MonteCarloAITest {
+
+  private static final Card ACE_HEARTS = new Card(Suit.HEARTS, Rank.ACE);
+
+  @Test
+  void testTakesTrickWhenLastToPlay() {
+    GameState game = lastToPlay();
+    Player p1 = game.getPlayers().get(0);
+
+    Card chosen =
+        MonteCarloAI.chooseCard(
+            game, PlayerPos.P1, p1.getHand().getCards(), game.getCurrentTrick(), 64, 200, 42L);
+    assertEquals(ACE_HEARTS, chosen);
+  }
+
+  @Test
+  void testCapturedPositionIgnoresLaterChanges() {
+    GameState game = lastToPlay();
+    Player p1 = game.getPlayers().get(0);
+    MonteCarloAI.Position position =
+        MonteCarloAI.capture(game, PlayerPos.P1, p1.getHand().getCards(), game.getCurrentTrick());
+
+    p1.getHand().getCards().clear();
+    game.getCurrentTrick().clear();
+    game.setTrumpSuit(Suit.HEARTS);
+
+    assertEquals(ACE_HEARTS, MonteCarloAI.chooseCard(position, 64, 200, 42L));
+  }
+
+  @Test
+  void testInterruptStopsTheSearch() {
+    GameState game = new GameState("gameId");
+    addPlayers(game);
+    game.setBidType(BidType.UPTOWN);
+    game.setTrumpSuit(Suit.SPADES);
+    List<Card> deck = new ArrayList<>();
+    for (Suit suit : Suit.values()) {
+      for (Rank rank : Rank.values()) {
+        if (rank != Rank.JOKER_S && rank != Rank.JOKER_B) {
+          deck.add(new Card(suit, rank));
+        }
+      }
+    }
+    for (int i = 0; i < 48; i++) {
+      game.getPlayers().get(i % 4).getHand().getCards().add(deck.get(i));
+    }
+    List<Card> hand = game.getPlayers().get(0).getHand().getCards();
+    MonteCarloAI.Position position =
+        MonteCarloAI.capture(game, PlayerPos.P1, hand, new ArrayList<>());
+
+    long start = System.nanoTime();
+    Thread.currentThread().interrupt();
+    Card chosen;
+    try {
+      chosen = MonteCarloAI.chooseCard(position, 1_000_000, 60_000, 42L);
+    } finally {
+      assertTrue(Thread.interrupted());
+    }
+
+    assertTrue(hand.contains(chosen));
+    assertTrue(System.nanoTime() - start < 5_000_000_000L);
+  }
+
+  @Test
+  void testSamplerHonoursVoidsAndHandSizes() {
+    long unknown = CardMask.FULL_DECK;
+    int[] need = {0, 12, 12, 12};
+    long[] allowed = new long[4];
+    allowed[1] = unknown & ~CardMask.effectiveSuitMask(Suit.HEARTS, Suit.SPADES);
+    allowed[2] = unknown;
+    allowed[3] = unknown & ~CardMask.effectiveSuitMask(Suit.SPADES, Suit.SPADES);
+
+    HandSampler sampler = new HandSampler(unknown, need, allowed);
+    SplittableRandom rng = new SplittableRandom(7);
+    long[] deal = new long[4];
+    for (int i = 0; i < 50; i++) {
+      sampler.sample(rng, deal);
+      assertEquals(12, Long.bitCount(deal[1]));
+      assertEquals(12, Long.bitCount(deal[3]));
+      assertEquals(0, deal[1] & CardMask.suitMask(Suit.HEARTS));
+      assertEquals(0, deal[3] & CardMask.effectiveSuitMask(Suit.SPADES, Suit.SPADES));
+      assertTrue((deal[1] & deal[2]) == 0 && (deal[2] & deal[3]) == 0);
+    }
+  }
+
+  /* P1 is last to play to a heart trick it can take with the ace */
+  private static GameState lastToPlay() {
+    GameState game = new GameState("gameId");
+    addPlayers(game);
+    game.setBidType(BidType.UPTOWN);
+    game.setTrumpSuit(Suit.SPADES);
+
+    List<Player> players = game.getPlayers();
+    players
+        .get(0)
+        .getHand()
+        .getCards()
+        .addAll(List.of(ACE_HEARTS, new Card(Suit.HEARTS, Rank.THREE)));
+    players.get(1).getHand().getCards().add(new Card(Suit.CLUBS, Rank.FIVE));
+    players.get(2).getHand().getCards().add(new Card(Suit.CLUBS, Rank.SIX));
+    players.get(3).getHand().getCards().add(new Card(Suit.CLUBS, Rank.SEVEN));
+
+    game.getCurrentTrick()
+        .addAll(
+            List.of(
+                new PlayedCard(PlayerPos.P2, new Card(Suit.HEARTS, Rank.KING)),
+                new PlayedCard(PlayerPos.P3, new Card(Suit.HEARTS, Rank.TWO)),
+                new PlayedCard(PlayerPos.P4, new Card(Suit.HEARTS, Rank.QUEEN))));
+    return game;
+  }
+
+  private static void addPlayers(GameState game) {
+    game.addPlayer(new Player("P1", true, PlayerPos.P1, Team.A));
+    game.addPlayer(new Player("P2", true, PlayerPos.P2, Team.B));
+    game.addPlayer(new Player("P3", true, PlayerPos.P3, Team.A));
+    game.addPlayer(new Player("P4", true, PlayerPos.P4, Team.B));
+  }
+}
@@ -0,0 +1,212 @@
+// src/test/java/com/bidwhist/bidding/BidEstimatorTest.java
+
+package com.bidwhist.bidding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Hand;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.model.Team;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BidEstimatorTest {
+
+  private static int[] masks(Suit suit, Rank... ranks) {
+    int[] masks = new int[Suit.values().length];
+    for (Rank rank : ranks) {
+      masks[suit.ordinal()] |= HandEvaluator.rankBit(rank);
+    }
+    return masks;
+  }
+
+  @Test
+  void testCellsSeparateDirectionAndRun() {
+    int[] spades = masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.TWO);
+
+    int uptown = BidEstimator.cellOf(spades, 0, Suit.SPADES, BidType.UPTOWN);
+    int downtown = BidEstimator.cellOf(spades, 0, Suit.SPADES, BidType.DOWNTOWN);
+    int shorterRun =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.JACK, Rank.TWO),
+            0,
+            Suit.SPADES,
+            BidType.UPTOWN);
+
+    assertNotEquals(uptown, downtown);
+    assertNotEquals(uptown, shorterRun);
+    assertTrue(uptown < BidEstimator.CELLS && downtown < BidEstimator.CELLS);
+  }
+
+  @Test
+  void testTableRoundTripsThroughText() throws IOException {
+    float[] expected = new float[BidEstimator.CELLS];
+    Arrays.fill(expected, Float.NaN);
+    int cell =
+        BidEstimator.cellOf(
+            masks(Suit.HEARTS, Rank.ACE, Rank.KING), 1, Suit.HEARTS, BidType.UPTOWN);
+    expected[cell] = 10.25f;
+
+    StringWriter text = new StringWriter();
+    BidEstimator.write(new PrintWriter(text), expected, new int[BidEstimator.CELLS]);
+    BidEstimator read =
+        BidEstimator.read(
+            new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals(1, read.size());
+    assertEquals(10.25, read.expectedTricks(cell), 1e-3);
+    assertEquals(5, read.bidValue(cell));
+    assertEquals(-1, read.bidValue(cell == 0 ? 1 : 0));
+  }
+
+  @Test
+  void testBidValueTiers() {
+    float[] expected = new float[BidEstimator.CELLS];
+    expected[0] = 8.9f;
+    expected[1] = 9.0f;
+    expected[2] = 14f;
+    BidEstimator estimator = new BidEstimator(expected);
+
+    assertEquals(3, estimator.bidValue(0));
+    assertEquals(4, estimator.bidValue(1));
+    assertEquals(7, estimator.bidValue(2));
+  }
+
+  @Test
+  void testDominatedTricksNeverFallForAStrongerShape() {
+    float[] expected = new float[BidEstimator.CELLS];
+    Arrays.fill(expected, Float.NaN);
+    int weaker =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.FOUR), 1, Suit.SPADES, BidType.UPTOWN);
+    int sparse =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.FOUR),
+            1,
+            Suit.SPADES,
+            BidType.UPTOWN);
+    int unseen =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK, Rank.FOUR),
+            2,
+            Suit.SPADES,
+            BidType.UPTOWN);
+    expected[weaker] = 10f;
+    expected[sparse] = 9f;
+    BidEstimator estimator = new BidEstimator(expected);
+
+    assertEquals(10, estimator.dominatedExpectedTricks(weaker), 1e-6);
+    assertEquals(10, estimator.dominatedExpectedTricks(sparse), 1e-6);
+    assertEquals(10, estimator.dominatedExpectedTricks(unseen), 1e-6);
+    assertTrue(
+        Double.isNaN(
+            estimator.dominatedExpectedTricks(
+                BidEstimator.cellOf(masks(Suit.SPADES), 0, Suit.SPADES, BidType.UPTOWN))));
+    int downtown =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK, Rank.FOUR),
+            2,
+            Suit.SPADES,
+            BidType.DOWNTOWN);
+    assertTrue(Double.isNaN(estimator.dominatedExpectedTricks(downtown)));
+  }
+
+  @Test
+  void testDominatingHandNeverBidsLower() {
+    BidEstimator estimator = BidEstimator.getDefault();
+    int[] weaker = masks(Suit.HEARTS, Rank.ACE, Rank.KING, Rank.QUEEN);
+    weaker[Suit.SPADES.ordinal()] = HandEvaluator.rankBit(Rank.ACE);
+    int[] stronger = weaker.clone();
+    stronger[Suit.DIAMONDS.ordinal()] = HandEvaluator.rankBit(Rank.ACE);
+
+    assertTrue(
+        estimator.bidValue(BidEstimator.cellOf(stronger, 0, Suit.SPADES, BidType.UPTOWN))
+            >= estimator.bidValue(BidEstimator.cellOf(weaker, 0, Suit.SPADES, BidType.UPTOWN)));
+
+    int[] sizes = {
+      BidEstimator.MAX_JOKERS + 1,
+      BidEstimator.MAX_TRUMP_LENGTH + 1,
+      BidEstimator.MAX_TOP_RUN + 1,
+      BidEstimator.MAX_SIDE_TOPS + 1
+    };
+    int stride = 1;
+    for (int axis = sizes.length - 1; axis >= 0; axis--) {
+      for (int cell = 0; cell < BidEstimator.CELLS; cell++) {
+        if ((cell / stride) % sizes[axis] > 0) {
+          assertTrue(
+              estimator.bidValue(cell) >= estimator.bidValue(cell - stride),
+              "cell " + cell + " bids below the cell it dominates");
+        }
+      }
+      stride *= sizes[axis];
+    }
+  }
+
+  @Test
+  void testTopRunFollowsDirection() {
+    int aceTwoThree =
+        masks(Suit.SPADES, Rank.ACE, Rank.TWO, Rank.THREE, Rank.KING)[Suit.SPADES.ordinal()];
+
+    assertEquals(2, BidEstimator.topRun(aceTwoThree, BidType.UPTOWN));
+    assertEquals(3, BidEstimator.topRun(aceTwoThree, BidType.DOWNTOWN));
+    assertEquals(0, BidEstimator.topRun(0, BidType.UPTOWN));
+  }
+
+  @Test
+  void testBundledTableRatesLongStrongTrumpAboveShortWeakTrump() {
+    BidEstimator estimator = BidEstimator.getDefault();
+    assertTrue(estimator.size() > 0, "bid-estimates.tsv should be on the classpath");
+
+    int strong =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.ACE, Rank.KING, Rank.QUEEN, Rank.NINE, Rank.EIGHT, Rank.TWO),
+            1,
+            Suit.SPADES,
+            BidType.UPTOWN);
+    int weak =
+        BidEstimator.cellOf(
+            masks(Suit.SPADES, Rank.FOUR, Rank.SEVEN), 0, Suit.SPADES, BidType.UPTOWN);
+
+    assertTrue(estimator.expectedTricks(strong) > estimator.expectedTricks(weak));
+  }
+
+  @Test
+  void testEvaluatorBidsStrongSuitFromTable() {
+    Player player = new Player("p", true, PlayerPos.P1, Team.A);
+    Hand hand = new Hand();
+    for (Rank rank :
+        List.of(Rank.ACE, Rank.KING, Rank.QUEEN, Rank.JACK, Rank.TEN, Rank.NINE, Rank.EIGHT)) {
+      hand.addCard(new Card(Suit.HEARTS, rank));
+    }
+    hand.addCard(new Card(null, Rank.JOKER_B));
+    hand.addCard(new Card(Suit.CLUBS, Rank.ACE));
+    hand.addCard(new Card(Suit.SPADES, Rank.ACE));
+    hand.addCard(new Card(Suit.DIAMONDS, Rank.ACE));
+    hand.addCard(new Card(Suit.CLUBS, Rank.KING));
+    player.setHand(hand);
+
+    HandEvaluator evaluator = new HandEvaluator(player);
+    evaluator.evaluateHand();
+    List<FinalBid> bids = evaluator.evaluateAll(PlayerPos.P1);
+
+    assertTrue(
+        bids.stream()
+            .anyMatch(
+                bid ->
+                    bid.getSuit() == Suit.HEARTS
+                        && bid.getType() == BidType.UPTOWN
+                        && bid.getValue() >= 5));
+  }
+}
@@ -85,4 +85,82 @@ class HandEvaluatorTest {
     assertEquals(4, forced.getValue());
     assertNotNull(forced.getSuit());
   }
+
+  @Test
+  void testStrengthTablesMatchListEvaluationForEveryHolding() {
+    Rank[] ranks = HandEvaluator.UPTOWN_ORDER.toArray(new Rank[0]);
+    for (List<Rank> order : List.of(HandEvaluator.UPTOWN_ORDER, HandEvaluator.DOWNTOWN_ORDER)) {
+      for (int jokers = 0; jokers <= 2; jokers++) {
+        for (int mask = 0; mask < 1 << 13; mask++) {
+          List<Rank> held = new ArrayList<>();
+          int rankMask = 0;
+          for (int r = 0; r < ranks.length; r++) {
+            if ((mask & 1 << r) != 0) {
+              held.add(ranks[r]);
+              rankMask |= 1 << (ranks[r].getValue() - 2);
+            }
+          }
+          assertEquals(
+              listEvaluateRun(held, jokers, order),
+              HandEvaluator.evaluateRun(rankMask, jokers, order),
+              "jokers=" + jokers + " ranks=" + held);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCachedEvaluationIsSharedPerCardSet() {
+    GameState game = new GameState("test");
+    List<Card> hand =
+        new ArrayList<>(
+            List.of(
+                new Card(Suit.HEARTS, Rank.ACE),
+                new Card(Suit.HEARTS, Rank.KING),
+                new Card(null, Rank.JOKER_B)));
+    List<Card> reordered = new ArrayList<>(hand);
+    Collections.reverse(reordered);
+
+    HandEvaluator first = HandEvaluator.cached(game, hand);
+    assertSame(first, HandEvaluator.cached(game, reordered));
+
+    hand.remove(0);
+    assertNotSame(first, HandEvaluator.cached(game, hand));
+    assertEquals(2, game.getHandEvaluations().size());
+  }
+
+  /* The list-walking evaluation the tables were derived from */
+  private static int listEvaluateRun(List<Rank> ranksInSuit, int jokers, List<Rank> order) {
+    List<Rank> workingList = new ArrayList<>(order);
+    List<Rank> kept = new ArrayList<>();
+
+    int jokersMissing = 2 - jokers;
+    for (int i = 0; i < jokersMissing && !workingList.isEmpty(); i++) {
+      workingList.remove(workingList.size() - 1);
+    }
+
+    for (int i = 0, j = 0; i < workingList.size(); i++) {
+      Rank rank = workingList.get(i);
+      if (ranksInSuit.contains(rank)) {
+        kept.add(rank);
+      } else if (i < workingList.size() - 1) {
+        j++;
+        if (j == 2) {
+          workingList.remove(workingList.size() - 1);
+          i--;
+          j = 0;
+        }
+      } else break;
+    }
+
+    int runScore = kept.size() + jokers;
+    int suitCount = ranksInSuit.size();
+    if (jokers == 2 && runScore >= 6 && suitCount >= 7) return 7;
+    if (jokers == 1 && runScore >= 5 && suitCount >= 6) return 6;
+    if (runScore >= 6 && suitCount >= 7) return 6;
+    if (runScore >= 5 && suitCount >= 6) return 5;
+    if (runScore >= 4 && suitCount >= 5) return 4;
+    if (runScore >= 3 && suitCount >= 5) return 4;
+    return 3;
+  }
 }
@@ -0,0 +1,79 @@
+// src/test/java/com/bidwhist/dto/GameStateDeltaTest.java
+
+package com.bidwhist.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.model.Team;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class GameStateDeltaTest {
+
+  private static GameStateResponse state(long version, List<PlayerView> players, List<Card> kitty) {
+    GameStateResponse state =
+        new GameStateResponse(
+            List.of(), players, kitty, 0, GamePhase.PLAY, List.of(), PlayerPos.P1, PlayerPos.P1, 0);
+    state.setVersion(version);
+    return state;
+  }
+
+  private static List<PlayerView> seats(List<Card> p1, List<Card> p2) {
+    return List.of(
+        new PlayerView("player1", PlayerPos.P1, Team.A, false, p1),
+        new PlayerView("player2", PlayerPos.P2, Team.B, true, p2));
+  }
+
+  private static List<Card> cards(Card... cards) {
+    return new ArrayList<>(List.of(cards));
+  }
+
+  @Test
+  void testOnePlayResendsOnlyThatHand() {
+    Card ace = new Card(Suit.SPADES, Rank.ACE);
+    Card two = new Card(Suit.HEARTS, Rank.TWO);
+    GameStateResponse before = state(1, seats(cards(ace), cards(ace, two)), List.of());
+    GameStateResponse after = state(2, seats(cards(ace), cards(ace)), List.of());
+
+    GameStateDelta delta = GameStateDelta.between(before, after);
+
+    assertNull(delta.getPlayers());
+    assertEquals(Map.of(PlayerPos.P2, List.of(ace)), delta.getHands());
+  }
+
+  @Test
+  void testJokerSuitAndKittyRevealAreChanges() {
+    Card joker = new Card(null, Rank.JOKER_B);
+    Card trumpJoker = new Card(Suit.CLUBS, Rank.JOKER_B);
+    Card hidden = new Card(Suit.HEARTS, Rank.KING);
+    Card revealed = hidden.copy();
+    revealed.setVisibility(CardVisibility.VISIBLE_TO_SELF);
+    GameStateResponse before = state(1, seats(cards(joker), cards()), List.of(hidden));
+    GameStateResponse after = state(2, seats(cards(trumpJoker), cards()), List.of(revealed));
+
+    GameStateDelta delta = GameStateDelta.between(before, after);
+
+    assertEquals(Map.of(PlayerPos.P1, List.of(trumpJoker)), delta.getHands());
+    assertEquals(List.of(revealed), delta.getKitty());
+  }
+
+  @Test
+  void testSeatChangeResendsAllPlayers() {
+    List<PlayerView> before = seats(cards(), cards());
+    List<PlayerView> after =
+        List.of(before.get(0), new PlayerView("player3", PlayerPos.P2, Team.B, false, cards()));
+
+    GameStateDelta delta = GameStateDelta.between(state(1, before, null), state(2, after, null));
+
+    assertEquals(after, delta.getPlayers());
+    assertNull(delta.getHands());
+  }
+}
@@ -0,0 +1,64 @@
+// src/test/java/com/bidwhist/metrics/GameMetricsTest.java
+
+package com.bidwhist.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.dto.StartGameRequest;
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.service.DeckService;
+import com.bidwhist.service.GameService;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GameMetricsTest {
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.removeRegistry(registry);
+    registry.close();
+  }
+
+  @Test
+  void testGameGaugesTrackLiveGames() {
+    GameService gameService = new GameService(new DeckService());
+    new GameMetrics(gameService).bindTo(registry);
+
+    assertEquals(0, registry.get(GameMetrics.ACTIVE_GAMES).gauge().value());
+
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "metrics-game"));
+
+    assertEquals(1, registry.get(GameMetrics.ACTIVE_GAMES).gauge().value());
+    double phased = 0;
+    for (GamePhase phase : GamePhase.values()) {
+      phased += registry.get(GameMetrics.GAMES_BY_PHASE).tag("phase", phase.name()).gauge().value();
+    }
+    assertEquals(1, phased);
+    assertTrue(registry.get(GameMetrics.ANIMATION_QUEUE).tag("seat", "P1").gauge().value() >= 0);
+  }
+
+  @Test
+  void testEngineMetricsReachGlobalRegistry() {
+    EngineMetrics.recordAIDecision(Difficulty.HARD, 1_000_000L);
+    EngineMetrics.recordTrick();
+    EngineMetrics.recordHand();
+
+    assertEquals(
+        1, registry.get(EngineMetrics.AI_DECISION).tag("difficulty", "HARD").timer().count());
+    assertEquals(1, registry.get(EngineMetrics.TRICKS).counter().count());
+    assertEquals(1, registry.get(EngineMetrics.HANDS).counter().count());
+  }
+}
@@ -0,0 +1,102 @@
+// src/test/java/com/bidwhist/model/AnimationQueueTest.java
+
+package com.bidwhist.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.dto.Animation;
+import com.bidwhist.dto.AnimationType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AnimationQueueTest {
+
+  private long nextId = 0;
+
+  private Animation animation(AnimationType type) {
+    Animation animation = new Animation(type, 0);
+    animation.setId(++nextId);
+    return animation;
+  }
+
+  private static List<Long> ids(AnimationQueue queue) {
+    return queue.toList().stream().map(Animation::getId).toList();
+  }
+
+  @Test
+  void testAckById() {
+    AnimationQueue queue = new AnimationQueue(8);
+    for (int i = 0; i < 5; i++) {
+      queue.offer(animation(AnimationType.PLAY));
+    }
+
+    assertTrue(queue.ack(1));
+    assertTrue(queue.ack(4));
+    assertFalse(queue.ack(4));
+    assertFalse(queue.ack(99));
+    assertEquals(List.of(2L, 3L, 5L), ids(queue));
+  }
+
+  @Test
+  void testFullQueueDropsOldest() {
+    AnimationQueue queue = new AnimationQueue(3);
+    assertEquals(4, queue.capacity());
+
+    for (int i = 0; i < 6; i++) {
+      queue.offer(animation(AnimationType.PLAY));
+    }
+    assertEquals(List.of(3L, 4L, 5L, 6L), ids(queue));
+
+    queue.ack(3);
+    queue.offer(animation(AnimationType.COLLECT));
+    assertEquals(List.of(4L, 5L, 6L, 7L), ids(queue));
+  }
+
+  @Test
+  void testConsecutiveCardUpdatesCoalesceBehindHead() {
+    AnimationQueue queue = new AnimationQueue();
+    queue.offer(animation(AnimationType.UPDATE_CARDS));
+    assertTrue(queue.offer(animation(AnimationType.UPDATE_CARDS)));
+    assertFalse(queue.offer(animation(AnimationType.UPDATE_CARDS)));
+    queue.offer(animation(AnimationType.PLAY));
+    assertTrue(queue.offer(animation(AnimationType.UPDATE_CARDS)));
+
+    assertEquals(List.of(1L, 2L, 4L, 5L), ids(queue));
+  }
+
+  @Test
+  void testAckThroughDropsEarlierEntries() {
+    AnimationQueue queue = new AnimationQueue(4);
+    for (int i = 0; i < 6; i++) {
+      queue.offer(animation(AnimationType.PLAY));
+    }
+
+    assertEquals(0, queue.ackThrough(2));
+    assertEquals(2, queue.ackThrough(4));
+    assertEquals(0, queue.ackThrough(4));
+    assertEquals(List.of(5L, 6L), ids(queue));
+
+    queue.offer(animation(AnimationType.COLLECT));
+    assertEquals(3, queue.ackThrough(Long.MAX_VALUE));
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  void testGameSkipsAISeats() {
+    GameState game = new GameState("gameId");
+    game.getPlayers().add(new Player("human", false, PlayerPos.P1, Team.A));
+    game.getPlayers().add(new Player("AI 1", true, PlayerPos.P2, Team.B));
+
+    game.addAnimation(new Animation(AnimationType.CLEAR, 0));
+    game.addAnimation(new Animation(AnimationType.HIDE_HANDS, 0));
+
+    assertEquals(2, game.getAnimationQueue(PlayerPos.P1).size());
+    assertTrue(game.getAnimationQueue(PlayerPos.P2).isEmpty());
+    assertEquals(2, game.getAnimationQueue(PlayerPos.P3).size());
+
+    assertTrue(game.ackAnimation(PlayerPos.P1, 1));
+    assertEquals(2L, game.getAnimationQueue(PlayerPos.P1).toList().get(0).getId());
+  }
+}
@@ -0,0 +1,133 @@
+// src/test/java/com/bidwhist/persistence/GameCommandLogTest.java
+
+package com.bidwhist.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.dto.BidRequest;
+import com.bidwhist.dto.StartGameRequest;
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.PlayerPos;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GameCommandLogTest {
+
+  @TempDir Path dir;
+
+  private GameCommandLog newLog() {
+    return new GameCommandLog(dir, 10, GameCommandLog.DEFAULT_SEGMENT_BYTES);
+  }
+
+  @Test
+  void testEntriesRoundTripThroughTheLog() {
+    GameCommandLog log = newLog();
+    log.open(Map.of());
+    log.append(
+        LogEntryType.SOLO_START, "g1", 42L, new StartGameRequest("p1", Difficulty.EASY, "g1"));
+    log.append(LogEntryType.BID, "g1", new BidRequest("g1", PlayerPos.P1, 4, false));
+    log.close();
+
+    List<LogEntry> history = newLog().readGames().get("g1");
+
+    assertEquals(2, history.size());
+    assertEquals(42L, history.get(0).seed());
+    StartGameRequest start = GameCommandLog.requestOf(history.get(0), StartGameRequest.class);
+    assertEquals("p1", start.getPlayerName());
+    assertEquals(Difficulty.EASY, start.getDifficulty());
+    BidRequest bid = GameCommandLog.requestOf(history.get(1), BidRequest.class);
+    assertEquals(4, bid.getValue());
+    assertEquals(PlayerPos.P1, bid.getPlayer());
+  }
+
+  @Test
+  void testTornTailIsIgnored() throws IOException {
+    GameCommandLog log = newLog();
+    log.open(Map.of());
+    log.append(
+        LogEntryType.SOLO_START, "g1", 1L, new StartGameRequest("p1", Difficulty.EASY, "g1"));
+    log.close();
+
+    Path segment = onlySegment();
+    Files.write(segment, new byte[] {0, 0, 1, 0, 7, 7}, StandardOpenOption.APPEND);
+
+    Map<String, List<LogEntry>> games = newLog().readGames();
+    assertEquals(1, games.get("g1").size());
+  }
+
+  @Test
+  void testOpenCompactsAwayEndedGames() throws IOException {
+    GameCommandLog log = newLog();
+    log.open(Map.of());
+    log.append(
+        LogEntryType.SOLO_START, "kept", 1L, new StartGameRequest("p1", Difficulty.EASY, "kept"));
+    log.append(
+        LogEntryType.SOLO_START, "gone", 2L, new StartGameRequest("p2", Difficulty.EASY, "gone"));
+    log.append(LogEntryType.END, "gone", null);
+    log.close();
+
+    GameCommandLog reopened = newLog();
+    Map<String, List<LogEntry>> games = reopened.readGames();
+    assertEquals(List.of("kept"), List.copyOf(games.keySet()));
+
+    reopened.open(games);
+    reopened.close();
+
+    List<LogEntry> entries = GameCommandLog.readSegment(onlySegment());
+    assertEquals(LogEntryType.CHECKPOINT, entries.get(0).type());
+    assertEquals(2, entries.size());
+    assertFalse(newLog().readGames().containsKey("gone"));
+    assertTrue(newLog().readGames().containsKey("kept"));
+  }
+
+  @Test
+  void testSoloStartReplacesEarlierGameWithSameId() {
+    StartGameRequest request = new StartGameRequest("p1", Difficulty.EASY, "g1");
+    GameCommandLog log = newLog();
+    log.open(Map.of());
+    log.append(LogEntryType.SOLO_START, "g1", 1L, request);
+    log.append(LogEntryType.BID, "g1", new BidRequest("g1", PlayerPos.P1, 4, false));
+    log.append(LogEntryType.SOLO_START, "g1", 2L, request);
+    log.close();
+
+    List<LogEntry> history = newLog().readGames().get("g1");
+    assertEquals(1, history.size());
+    assertEquals(2L, history.get(0).seed());
+  }
+
+  @Test
+  void testLiveHistoryLargerThanASegmentIsNotCompactedAgainAndAgain() throws Exception {
+    GameCommandLog log = new GameCommandLog(dir, 10, 256);
+    log.open(Map.of());
+    log.append(
+        LogEntryType.SOLO_START, "g1", 1L, new StartGameRequest("p1", Difficulty.EASY, "g1"));
+    for (int i = 0; i < 20; i++) {
+      log.append(LogEntryType.BID, "g1", new BidRequest("g1", PlayerPos.P1, 4, false));
+    }
+    Thread.sleep(200);
+    Path compacted = onlySegment();
+    assertTrue(Files.size(compacted) > 256);
+
+    Thread.sleep(200);
+    assertEquals(compacted, onlySegment());
+    log.close();
+    assertEquals(21, newLog().readGames().get("g1").size());
+  }
+
+  private Path onlySegment() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      List<Path> segments = files.toList();
+      assertEquals(1, segments.size());
+      return segments.get(0);
+    }
+  }
+}
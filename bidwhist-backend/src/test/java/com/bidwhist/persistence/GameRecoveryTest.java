@@ -0,0 +1,128 @@
+// src/test/java/com/bidwhist/persistence/GameRecoveryTest.java
+
+package com.bidwhist.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.dto.BidRequest;
+import com.bidwhist.dto.JoinGameRequest;
+import com.bidwhist.dto.QuitGameRequest;
+import com.bidwhist.dto.StartGameRequest;
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.GamePhase;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.Player;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.service.AIMoveService;
+import com.bidwhist.service.AITurnScheduler;
+import com.bidwhist.service.DeckService;
+import com.bidwhist.service.GameEventService;
+import com.bidwhist.service.GameLaneExecutor;
+import com.bidwhist.service.GameRegistry;
+import com.bidwhist.service.GameService;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GameRecoveryTest {
+
+  @TempDir Path dir;
+
+  private GameCommandLog commandLog;
+
+  private GameService startServer() {
+    commandLog = new GameCommandLog(dir, 10, GameCommandLog.DEFAULT_SEGMENT_BYTES);
+    GameService gameService =
+        new GameService(
+            new DeckService(),
+            new GameEventService(),
+            new GameLaneExecutor(1),
+            new GameRegistry(),
+            commandLog,
+            AITurnScheduler.inline(),
+            AIMoveService.inline());
+    new GameRecovery(commandLog, gameService).recover();
+    return gameService;
+  }
+
+  @Test
+  void testRestartReplaysGameToSameState() {
+    GameService before = startServer();
+    before.createMutliplayerGame(new StartGameRequest("room", "alice", 1));
+    before.joinGame(new JoinGameRequest("bob", "room"));
+    before.joinGame(new JoinGameRequest("carol", "room"));
+    before.joinGame(new JoinGameRequest("dave", "room"));
+    GameState original = before.getGameById("room");
+    PlayerPos bidder = PlayerPos.values()[original.getBidTurnIndex()];
+    before.submitBid(new BidRequest("room", bidder, 4, false));
+    commandLog.close();
+
+    GameService after = startServer();
+    GameState restored = after.getGameById("room");
+
+    assertEquals(GamePhase.BID, restored.getPhase());
+    assertEquals(original.getBids().size(), restored.getBids().size());
+    assertEquals(original.getBidTurnIndex(), restored.getBidTurnIndex());
+    assertEquals(original.getKitty(), restored.getKitty());
+    for (int i = 0; i < 4; i++) {
+      Player was = original.getPlayers().get(i);
+      Player is = restored.getPlayers().get(i);
+      assertEquals(was.getName(), is.getName());
+      assertEquals(was.getHand().getCards(), is.getHand().getCards());
+    }
+    commandLog.close();
+  }
+
+  @Test
+  void testRestartReplaysLoggedAIDecisions() {
+    GameService before = startServer();
+    before.startSoloGame(new StartGameRequest("alice", Difficulty.EXPERT, "solo"));
+    before.submitBid(new BidRequest("solo", PlayerPos.P1, 0, false));
+    GameState original = before.getGameById("solo");
+    assertEquals(GamePhase.PLAY, original.getPhase());
+    commandLog.close();
+
+    Set<LogEntryType> logged =
+        new GameCommandLog(dir, 10, GameCommandLog.DEFAULT_SEGMENT_BYTES)
+            .readGames().get("solo").stream().map(LogEntry::type).collect(Collectors.toSet());
+    assertTrue(
+        logged.containsAll(
+            List.of(LogEntryType.AI_BID, LogEntryType.AI_KITTY, LogEntryType.AI_PLAY)));
+
+    GameService after = startServer();
+    GameState restored = after.getGameById("solo");
+
+    assertEquals(GamePhase.PLAY, restored.getPhase());
+    assertEquals(original.getWinningBid().getPlayer(), restored.getWinningBid().getPlayer());
+    assertEquals(original.getCurrentTurnIndex(), restored.getCurrentTurnIndex());
+    assertEquals(original.getCurrentTrick().size(), restored.getCurrentTrick().size());
+    for (int i = 0; i < original.getCurrentTrick().size(); i++) {
+      assertEquals(
+          original.getCurrentTrick().get(i).getCard(), restored.getCurrentTrick().get(i).getCard());
+    }
+    for (int i = 0; i < 4; i++) {
+      assertEquals(
+          original.getPlayers().get(i).getHand().getCards(),
+          restored.getPlayers().get(i).getHand().getCards());
+    }
+    commandLog.close();
+  }
+
+  @Test
+  void testQuitGameIsNotRestored() {
+    GameService before = startServer();
+    before.createMutliplayerGame(new StartGameRequest("room", "alice", 1));
+    before.quitMyGame(new QuitGameRequest("room", PlayerPos.P1, "multiplayer"));
+    commandLog.close();
+
+    GameService after = startServer();
+
+    assertThrows(IllegalStateException.class, () -> after.getGameById("room"));
+    commandLog.close();
+  }
+}
@@ -0,0 +1,150 @@
+// src/test/java/com/bidwhist/service/AIMoveServiceTest.java
+
+package com.bidwhist.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class AIMoveServiceTest {
+
+  private static final Card ACE = new Card(Suit.SPADES, Rank.ACE);
+
+  @Test
+  void testDecidesOnThePool() throws Exception {
+    AIMoveService moves = new AIMoveService(1, 1000, 4);
+    AtomicReference<Thread> decider = new AtomicReference<>();
+
+    Card card =
+        moves
+            .decide(
+                "gameId",
+                () -> {
+                  decider.set(Thread.currentThread());
+                  return ACE;
+                })
+            .get(5, TimeUnit.SECONDS);
+
+    assertEquals(ACE, card);
+    assertNotEquals(Thread.currentThread(), decider.get());
+    assertTrue(decider.get().getName().startsWith("ai-move-"));
+    moves.shutdown();
+  }
+
+  @Test
+  void testMissedDeadlineCompletesWithNullAndInterruptsTheSearch() throws Exception {
+    AIMoveService moves = new AIMoveService(1, 20, 4);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    CompletableFuture<Card> decision =
+        moves.decide(
+            "gameId",
+            () -> {
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return ACE;
+            });
+
+    assertNull(decision.get(5, TimeUnit.SECONDS));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    assertEquals(0, moves.inFlightGames());
+    moves.shutdown();
+  }
+
+  @Test
+  void testCancelledDecisionNeverDeliversACard() throws Exception {
+    AIMoveService moves = new AIMoveService(1, 5000, 4);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean delivered = new AtomicBoolean();
+
+    CompletableFuture<Card> decision =
+        moves.decide(
+            "gameId",
+            () -> {
+              started.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return ACE;
+            });
+    decision.thenAccept(card -> delivered.set(true));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    moves.cancel("gameId");
+    release.countDown();
+
+    assertThrows(CancellationException.class, decision::join);
+    assertEquals(0, moves.inFlightGames());
+    Thread.sleep(50);
+    assertFalse(delivered.get());
+    moves.shutdown();
+  }
+
+  @Test
+  void testSaturatedPoolFallsBackAtOnce() throws Exception {
+    AIMoveService moves = new AIMoveService(1, 5000, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<Card> blocked =
+        () -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return ACE;
+        };
+
+    moves.decide("running", blocked);
+    moves.decide("queued", blocked);
+    CompletableFuture<Card> refused = moves.decide("refused", () -> ACE);
+
+    assertTrue(refused.isDone());
+    assertNull(refused.join());
+    release.countDown();
+    moves.shutdown();
+  }
+
+  @Test
+  void testInlineDecidesOnTheCaller() {
+    AtomicReference<Thread> decider = new AtomicReference<>();
+
+    CompletableFuture<Card> decision =
+        AIMoveService.inline()
+            .decide(
+                "gameId",
+                () -> {
+                  decider.set(Thread.currentThread());
+                  return ACE;
+                });
+
+    assertTrue(decision.isDone());
+    assertEquals(ACE, decision.join());
+    assertEquals(Thread.currentThread(), decider.get());
+  }
+
+  @Test
+  void testRejectsZeroDeadline() {
+    assertThrows(IllegalArgumentException.class, () -> new AIMoveService(1, 0, 4));
+  }
+}
@@ -0,0 +1,98 @@
+// src/test/java/com/bidwhist/service/AITurnSchedulerTest.java
+
+package com.bidwhist.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class AITurnSchedulerTest {
+
+  @Test
+  void testStepsRunOffTheCallerUntilNoTurnRemains() throws InterruptedException {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    AITurnScheduler scheduler = new AITurnScheduler(lanes, 5);
+    AtomicInteger turns = new AtomicInteger();
+    AtomicReference<Thread> stepThread = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(3);
+
+    lanes.run(
+        "gameId",
+        () ->
+            scheduler.schedule(
+                "gameId",
+                () -> {
+                  stepThread.set(Thread.currentThread());
+                  done.countDown();
+                  return turns.incrementAndGet() < 3;
+                }));
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    Thread.sleep(50);
+    assertEquals(3, turns.get());
+    assertNotEquals(Thread.currentThread(), stepThread.get());
+    assertEquals(0, scheduler.pendingGames());
+    scheduler.shutdown();
+    lanes.shutdown();
+  }
+
+  @Test
+  void testGameKeepsOnePendingStep() throws InterruptedException {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    AITurnScheduler scheduler = new AITurnScheduler(lanes, 20);
+    AtomicInteger turns = new AtomicInteger();
+
+    lanes.run(
+        "gameId",
+        () -> {
+          scheduler.schedule("gameId", () -> turns.incrementAndGet() < 0);
+          scheduler.schedule("gameId", () -> turns.incrementAndGet() < 0);
+        });
+    assertEquals(1, scheduler.pendingGames());
+
+    Thread.sleep(200);
+    assertEquals(1, turns.get());
+    scheduler.shutdown();
+    lanes.shutdown();
+  }
+
+  @Test
+  void testCancelDropsPendingStep() throws InterruptedException {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    AITurnScheduler scheduler = new AITurnScheduler(lanes, 50);
+    AtomicInteger turns = new AtomicInteger();
+
+    lanes.run("gameId", () -> scheduler.schedule("gameId", () -> turns.incrementAndGet() < 3));
+    scheduler.cancel("gameId");
+
+    Thread.sleep(200);
+    assertEquals(0, turns.get());
+    assertEquals(0, scheduler.pendingGames());
+    scheduler.shutdown();
+    lanes.shutdown();
+  }
+
+  @Test
+  void testInlineSchedulerRunsEveryTurnBeforeReturning() {
+    AITurnScheduler scheduler = AITurnScheduler.inline();
+    AtomicInteger turns = new AtomicInteger();
+
+    scheduler.schedule("gameId", () -> turns.incrementAndGet() < 4);
+
+    assertEquals(4, turns.get());
+    assertEquals(0, scheduler.pendingGames());
+  }
+
+  @Test
+  void testRejectsNegativePace() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new AITurnScheduler(new GameLaneExecutor(1), -1));
+  }
+}
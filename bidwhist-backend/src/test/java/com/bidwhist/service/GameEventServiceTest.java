@@ -0,0 +1,65 @@
+// src/test/java/com/bidwhist/service/GameEventServiceTest.java
+
+package com.bidwhist.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayerPos;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class GameEventServiceTest {
+
+  @Test
+  void testPublishStateSkipsGamesWithoutSubscribers() {
+    GameEventService events = new GameEventService();
+    GameState game = new GameState("idle");
+    List<PlayerPos> built = new ArrayList<>();
+
+    events.publishState(game, pos -> built.add(pos));
+
+    assertFalse(events.hasSubscribers("idle"));
+    assertTrue(built.isEmpty());
+  }
+
+  @Test
+  void testPublishStateBuildsOneViewPerSubscribedSeat() {
+    GameEventService events = new GameEventService();
+    GameState game = new GameState("live");
+    events.subscribe("live", PlayerPos.P1, null);
+    events.subscribe("live", PlayerPos.P1, null);
+    events.subscribe("live", PlayerPos.P3, null);
+    List<PlayerPos> built = new ArrayList<>();
+
+    events.publishState(game, pos -> built.add(pos));
+
+    assertTrue(events.hasSubscribers("live"));
+    assertEquals(List.of(PlayerPos.P1, PlayerPos.P3), built);
+  }
+
+  @Test
+  void testCloseGameDropsSubscribers() {
+    GameEventService events = new GameEventService();
+    events.subscribe("closing", PlayerPos.P2, null);
+
+    events.closeGame("closing");
+
+    assertFalse(events.hasSubscribers("closing"));
+  }
+
+  @Test
+  void testSubscribeAfterCloseOpensAFreshList() {
+    GameEventService events = new GameEventService();
+    events.subscribe("reopened", PlayerPos.P2, null);
+    events.closeGame("reopened");
+
+    events.subscribe("reopened", PlayerPos.P4, null);
+
+    assertTrue(events.hasSubscribers("reopened"));
+    events.shutdown();
+  }
+}
@@ -0,0 +1,168 @@
+// src/test/java/com/bidwhist/service/GameLaneExecutorTest.java
+
+package com.bidwhist.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+public class GameLaneExecutorTest {
+
+  @Test
+  void testConcurrentWritesToOneGameAreSerialized() throws InterruptedException {
+    GameLaneExecutor lanes = new GameLaneExecutor(4);
+    List<Integer> unsafeList = new ArrayList<>();
+    int threads = 8;
+    int writesPerThread = 500;
+
+    ExecutorService callers = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int t = 0; t < threads; t++) {
+      callers.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              return;
+            }
+            for (int i = 0; i < writesPerThread; i++) {
+              lanes.run("gameId", () -> unsafeList.add(1));
+            }
+          });
+    }
+    start.countDown();
+    callers.shutdown();
+    callers.awaitTermination(30, TimeUnit.SECONDS);
+
+    assertEquals(threads * writesPerThread, unsafeList.size());
+    lanes.shutdown();
+  }
+
+  @Test
+  void testExceptionsAreRethrownUnchanged() {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            lanes.execute(
+                "gameId",
+                () -> {
+                  throw new IllegalStateException("Not in PLAY phase");
+                }));
+    assertEquals(2, lanes.execute("gameId", () -> 2));
+    lanes.shutdown();
+  }
+
+  @Test
+  void testNestedCallOnSameLaneRunsInline() {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    int result = lanes.execute("gameId", () -> lanes.execute("gameId", () -> 7) + 1);
+    assertEquals(8, result);
+    lanes.shutdown();
+  }
+
+  @Test
+  void testCallOnAnotherLaneKeepsTheOuterLane() {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    int result =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () ->
+                lanes.execute(
+                    "outer",
+                    () -> lanes.execute("inner", () -> 7) + lanes.execute("outer", () -> 1)));
+    assertEquals(8, result);
+    lanes.shutdown();
+  }
+
+  @Test
+  void testSubmitCompletesAsynchronously() throws Exception {
+    GameLaneExecutor lanes = new GameLaneExecutor(2);
+    assertEquals("done", lanes.submit("gameId", () -> "done").get(5, TimeUnit.SECONDS));
+    assertThrows(IllegalArgumentException.class, () -> lanes.execute(null, () -> 1));
+    lanes.shutdown();
+  }
+
+  @Test
+  void testLaneTasksLogWithGameId() {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+
+    String seen = lanes.execute("game-42", () -> MDC.get(LogContext.GAME_ID));
+
+    assertEquals("game-42", seen);
+    assertNull(MDC.get(LogContext.GAME_ID));
+  }
+
+  @Test
+  void testRemovingABusyLaneKeepsOneDrainer() throws Exception {
+    GameLaneExecutor lanes = new GameLaneExecutor(4);
+    AtomicInteger active = new AtomicInteger();
+    AtomicBoolean overlapped = new AtomicBoolean();
+    CountDownLatch removed = new CountDownLatch(1);
+    Runnable exclusive =
+        () -> {
+          if (active.incrementAndGet() > 1) {
+            overlapped.set(true);
+          }
+          try {
+            Thread.sleep(2);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          active.decrementAndGet();
+        };
+
+    lanes.submit(
+        "gameId",
+        () -> {
+          lanes.remove("gameId");
+          removed.countDown();
+          exclusive.run();
+          exclusive.run();
+          return null;
+        });
+    assertTrue(removed.await(5, TimeUnit.SECONDS));
+    List<CompletableFuture<Object>> later = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      later.add(
+          lanes.submit(
+              "gameId",
+              () -> {
+                exclusive.run();
+                return null;
+              }));
+    }
+    CompletableFuture.allOf(later.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    assertFalse(overlapped.get());
+    lanes.shutdown();
+  }
+
+  @Test
+  void testRemovedLaneLeavesOnceIdle() throws Exception {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+
+    lanes.run("gameId", () -> lanes.remove("gameId"));
+    lanes.run("otherId", () -> {});
+    lanes.remove("otherId");
+
+    assertEquals(0, lanes.laneCount());
+    lanes.shutdown();
+  }
+}
@@ -0,0 +1,102 @@
+// src/test/java/com/bidwhist/service/GameRegistryTest.java
+
+package com.bidwhist.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.dto.StartGameRequest;
+import com.bidwhist.model.Difficulty;
+import com.bidwhist.model.GameState;
+import com.bidwhist.persistence.GameCommandLog;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class GameRegistryTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private void advanceMillis(long millis) {
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  @Test
+  void testCapacityRefusesNewGamesOnly() {
+    GameRegistry registry = new GameRegistry(2, 1000, now::get);
+    registry.put(new GameState("a"));
+    registry.put(new GameState("b"));
+
+    assertThrows(GameCapacityException.class, () -> registry.checkCapacity("c"));
+    assertDoesNotThrow(() -> registry.checkCapacity("a"));
+
+    registry.remove("b");
+    assertDoesNotThrow(() -> registry.checkCapacity("c"));
+  }
+
+  @Test
+  void testIdleGamesAreFoundAfterTtl() {
+    GameRegistry registry = new GameRegistry(10, 1000, now::get);
+    registry.put(new GameState("old"));
+    advanceMillis(600);
+    registry.put(new GameState("new"));
+
+    advanceMillis(500);
+    assertEquals(List.of("old"), registry.idleGameIds());
+
+    assertTrue(registry.removeIfIdle("old"));
+    assertFalse(registry.removeIfIdle("new"));
+    assertNull(registry.get("old"));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  void testLookupKeepsGameAlive() {
+    GameRegistry registry = new GameRegistry(10, 1000, now::get);
+    GameState game = new GameState("g");
+    registry.put(game);
+
+    advanceMillis(900);
+    assertSame(game, registry.get("g"));
+    advanceMillis(900);
+
+    assertTrue(registry.idleGameIds().isEmpty());
+    assertFalse(registry.removeIfIdle("g"));
+
+    registry.games().forEach(GameState::getGameId);
+    advanceMillis(200);
+    assertEquals(List.of("g"), registry.idleGameIds());
+  }
+
+  @Test
+  void testServiceEvictsIdleGamesAndRefusesOverCapacity() {
+    GameRegistry registry = new GameRegistry(1, 1000, now::get);
+    GameService gameService =
+        new GameService(
+            new DeckService(),
+            new GameEventService(),
+            new GameLaneExecutor(1),
+            registry,
+            GameCommandLog.disabled(),
+            AITurnScheduler.inline(),
+            AIMoveService.inline());
+
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "first"));
+    assertThrows(
+        GameCapacityException.class,
+        () -> gameService.createMutliplayerGame(new StartGameRequest("second", "player2", 1)));
+
+    advanceMillis(1000);
+    gameService.evictIdleGames();
+
+    assertThrows(IllegalStateException.class, () -> gameService.getGameById("first"));
+    assertDoesNotThrow(
+        () -> gameService.createMutliplayerGame(new StartGameRequest("second", "player2", 1)));
+  }
+}
@@ -3,18 +3,31 @@
 package com.bidwhist.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.bidwhist.bidding.BidType;
 import com.bidwhist.bidding.FinalBid;
 import com.bidwhist.bidding.InitialBid;
+import com.bidwhist.dto.AckAnimationsRequest;
+import com.bidwhist.dto.Animation;
+import com.bidwhist.dto.BatchRequest;
+import com.bidwhist.dto.BatchResponse;
 import com.bidwhist.dto.BidRequest;
+import com.bidwhist.dto.CardVisibility;
 import com.bidwhist.dto.FinalBidRequest;
+import com.bidwhist.dto.GameCommand;
+import com.bidwhist.dto.GameStateDelta;
 import com.bidwhist.dto.GameStateResponse;
 import com.bidwhist.dto.JoinGameRequest;
 import com.bidwhist.dto.KittyRequest;
+import com.bidwhist.dto.PlayRequest;
+import com.bidwhist.dto.PollRequest;
+import com.bidwhist.dto.QuitGameRequest;
 import com.bidwhist.dto.StartGameRequest;
 import com.bidwhist.model.Card;
 import com.bidwhist.model.Difficulty;
@@ -25,9 +38,12 @@ import com.bidwhist.model.PlayerPos;
 import com.bidwhist.model.Rank;
 import com.bidwhist.model.RoomStatus;
 import com.bidwhist.model.Suit;
+import com.bidwhist.persistence.GameCommandLog;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 public class GameServiceTest {
@@ -230,4 +246,245 @@ public class GameServiceTest {
         });
   }
   ;
+
+  @Test
+  void testPollingServesVersionedSnapshot() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.createMutliplayerGame(new StartGameRequest("gameId", "player1", 1));
+    GameStateResponse first =
+        gameService.updateState(new PollRequest("gameId", PlayerPos.P1, null)).orElseThrow();
+    assertTrue(first.getVersion() > 0);
+    assertTrue(
+        gameService.updateState(new PollRequest("gameId", PlayerPos.P1, first.getVersion()))
+            .isEmpty());
+
+    gameService.joinGame(new JoinGameRequest("player2", "gameId"));
+    GameStateResponse second =
+        gameService
+            .updateState(new PollRequest("gameId", PlayerPos.P1, first.getVersion()))
+            .orElseThrow();
+    assertTrue(second.getVersion() > first.getVersion());
+    assertTrue(second.getLobbySize() == 2);
+  }
+
+  @Test
+  void testSnapshotHoldsViewsForHumanSeatsOnly() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+
+    assertEquals(Set.of(PlayerPos.P1), game.getSnapshot().states().keySet());
+    assertEquals(Set.of(PlayerPos.P1), game.getSnapshot().hands().keySet());
+    assertEquals(game.getPhase(), game.getSnapshot().phase());
+    assertEquals(
+        PlayerPos.P2,
+        gameService
+            .updateState(new PollRequest("gameId", PlayerPos.P2, null))
+            .orElseThrow()
+            .getPlayerPosition());
+  }
+
+  @Test
+  void testPublishedViewsHoldCopiesOfCards() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+    Card live = game.getPlayers().get(0).getHand().getCards().get(0);
+    Card published =
+        game.getSnapshot().stateFor(PlayerPos.P1).getPlayers().get(0).getHand().get(0);
+    assertEquals(live, published);
+
+    live.setVisibility(CardVisibility.VISIBLE_TO_ALL);
+
+    assertNotSame(live, published);
+    assertEquals(CardVisibility.HIDDEN, published.getVisibility());
+  }
+
+  @Test
+  void testStateDeltaSendsOnlyChangedFields() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.createMutliplayerGame(new StartGameRequest("gameId", "player1", 1));
+    GameStateDelta full =
+        gameService.stateDelta(new PollRequest("gameId", PlayerPos.P1, null)).orElseThrow();
+    assertTrue(full.isFull());
+    assertEquals("gameId", full.getGameId());
+    assertTrue(
+        gameService.stateDelta(new PollRequest("gameId", PlayerPos.P1, full.getVersion()))
+            .isEmpty());
+
+    gameService.joinGame(new JoinGameRequest("player2", "gameId"));
+    GameStateDelta delta =
+        gameService
+            .stateDelta(new PollRequest("gameId", PlayerPos.P1, full.getVersion()))
+            .orElseThrow();
+    assertFalse(delta.isFull());
+    assertEquals(full.getVersion(), delta.getBaseVersion());
+    assertEquals(2, delta.getLobbySize());
+    assertNull(delta.getGameId());
+
+    GameStateDelta unknown =
+        gameService.stateDelta(new PollRequest("gameId", PlayerPos.P1, -5L)).orElseThrow();
+    assertTrue(unknown.isFull());
+  }
+
+  @Test
+  void testAckAnimationsClearsQueueUpToId() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+    List<Animation> queued = game.getAnimationQueue(PlayerPos.P1).toList();
+    assertTrue(queued.size() > 1);
+    assertTrue(game.getAnimationQueue(PlayerPos.P2).isEmpty());
+
+    long firstId = queued.get(0).getId();
+    gameService.ackAnimations(new AckAnimationsRequest("gameId", PlayerPos.P1, firstId));
+    assertEquals(queued.size() - 1, game.getAnimationQueue(PlayerPos.P1).size());
+
+    long lastId = queued.get(queued.size() - 1).getId();
+    gameService.ackAnimations(new AckAnimationsRequest("gameId", PlayerPos.P1, lastId));
+    assertTrue(game.getAnimationQueue(PlayerPos.P1).isEmpty());
+    assertTrue(
+        gameService
+            .updateState(new PollRequest("gameId", PlayerPos.P1, null))
+            .orElseThrow()
+            .getAnimationQueue()
+            .isEmpty());
+  }
+
+  @Test
+  void testBatchPlaysAcksAndFetchesCardsInOneCall() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+    game.setWinningBidStats(
+        new FinalBid(PlayerPos.P1, 4, false, false, BidType.UPTOWN, Suit.SPADES));
+    game.getDeck().assignTrumpSuitToJokers(Suit.SPADES);
+    game.setPhase(GamePhase.PLAY);
+    game.setCurrentTurnIndex(PlayerPos.P1.ordinal());
+
+    List<Animation> queued = game.getAnimationQueue(PlayerPos.P1).toList();
+    long lastQueued = queued.get(queued.size() - 1).getId();
+    // Jokers have no suit until trump is assigned, so lead a natural card
+    Card lead =
+        game.getPlayers().get(0).getHand().getCards().stream()
+            .filter(card -> card.getSuit() != null)
+            .findFirst()
+            .orElseThrow();
+    int handSize = game.getPlayers().get(0).getHand().getCards().size();
+
+    BatchResponse response =
+        gameService.runBatch(
+            new BatchRequest(
+                "gameId",
+                PlayerPos.P1,
+                List.of(
+                    GameCommand.ackAnimations(lastQueued),
+                    GameCommand.play(lead),
+                    GameCommand.fetchCards())));
+
+    assertEquals(1, game.getCompletedTricks().size());
+    assertEquals(handSize - 1, game.getPlayers().get(0).getHand().getCards().size());
+    assertTrue(
+        response.getState().getAnimationQueue().stream()
+            .allMatch(animation -> animation.getId() > lastQueued));
+    assertEquals(response.getState(), game.getSnapshot().stateFor(PlayerPos.P1));
+    assertEquals(handSize - 1, response.getHand().getPlayers().get(0).getHand().size());
+  }
+
+  @Test
+  void testPlayReturnsBeforeScheduledAITurns() throws InterruptedException {
+    GameLaneExecutor lanes = new GameLaneExecutor(1);
+    AITurnScheduler aiTurns = new AITurnScheduler(lanes, 200);
+    GameService gameService =
+        new GameService(
+            new DeckService(),
+            new GameEventService(),
+            lanes,
+            new GameRegistry(),
+            GameCommandLog.disabled(),
+            aiTurns,
+            new AIMoveService(1, AIMoveService.DEFAULT_DEADLINE_MS, 16));
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+    lanes.run(
+        "gameId",
+        () -> {
+          game.setWinningBidStats(
+              new FinalBid(PlayerPos.P1, 4, false, false, BidType.UPTOWN, Suit.SPADES));
+          game.getDeck().assignTrumpSuitToJokers(Suit.SPADES);
+          game.setPhase(GamePhase.PLAY);
+          game.setCurrentTurnIndex(PlayerPos.P1.ordinal());
+        });
+    Card lead =
+        game.getPlayers().get(0).getHand().getCards().stream()
+            .filter(card -> card.getSuit() != null)
+            .findFirst()
+            .orElseThrow();
+
+    GameStateResponse response =
+        gameService.playCard(new PlayRequest("gameId", PlayerPos.P1, lead));
+
+    // The human's play is answered before any AI has played
+    assertEquals(1, lanes.execute("gameId", () -> game.getCurrentTrick().size()));
+    assertEquals(1, aiTurns.pendingGames());
+    long version = response.getVersion();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (lanes.execute("gameId", () -> game.getCompletedTricks().isEmpty())
+        && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertEquals(1, lanes.execute("gameId", () -> game.getCompletedTricks().size()));
+    assertTrue(game.getSnapshot().version() >= version + 3);
+
+    gameService.quitMyGame(new QuitGameRequest("gameId", PlayerPos.P1, "solo"));
+    assertEquals(0, aiTurns.pendingGames());
+    aiTurns.shutdown();
+    lanes.shutdown();
+  }
+
+  @Test
+  void testBatchRejectsASecondPlay() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+    game.setPhase(GamePhase.PLAY);
+    game.setCurrentTurnIndex(PlayerPos.P1.ordinal());
+    List<Card> hand = game.getPlayers().get(0).getHand().getCards();
+    int handSize = hand.size();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            gameService.runBatch(
+                new BatchRequest(
+                    "gameId",
+                    PlayerPos.P1,
+                    List.of(GameCommand.play(hand.get(0)), GameCommand.play(hand.get(1))))));
+
+    assertEquals(handSize, hand.size());
+    assertTrue(game.getCurrentTrick().isEmpty());
+  }
+
+  @Test
+  void testBatchPublishesEarlierCommandsWhenOneFails() {
+    GameService gameService = new GameService(new DeckService());
+    gameService.startSoloGame(new StartGameRequest("player1", Difficulty.EASY, "gameId"));
+    GameState game = gameService.getGameById("gameId");
+    List<Animation> queued = game.getAnimationQueue(PlayerPos.P1).toList();
+    long lastQueued = queued.get(queued.size() - 1).getId();
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            gameService.runBatch(
+                new BatchRequest(
+                    "gameId",
+                    PlayerPos.P1,
+                    List.of(
+                        GameCommand.ackAnimations(lastQueued),
+                        GameCommand.play(new Card(Suit.HEARTS, Rank.TWO))))));
+
+    assertTrue(game.getSnapshot().stateFor(PlayerPos.P1).getAnimationQueue().isEmpty());
+  }
 }
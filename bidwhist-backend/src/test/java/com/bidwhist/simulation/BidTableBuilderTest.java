@@ -0,0 +1,31 @@
+// src/test/java/com/bidwhist/simulation/BidTableBuilderTest.java
+
+package com.bidwhist.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class BidTableBuilderTest {
+
+  @Test
+  void testEveryContractOfADealIsTallied() {
+    BidTableBuilder.Tally tally = BidTableBuilder.dealTally(5L);
+
+    assertEquals(32, Arrays.stream(tally.samples).sum());
+    double tricks = Arrays.stream(tally.tricks).sum();
+    assertTrue(tricks >= 0 && tricks <= 32 * 12);
+  }
+
+  @Test
+  void testSameSeedBuildsSameTable() {
+    BidTableBuilder.Tally first = BidTableBuilder.simulate(2, 9L, 1);
+    BidTableBuilder.Tally second = BidTableBuilder.simulate(2, 9L, 1);
+
+    assertArrayEquals(first.samples, second.samples);
+    assertArrayEquals(first.tricks, second.tricks);
+  }
+}
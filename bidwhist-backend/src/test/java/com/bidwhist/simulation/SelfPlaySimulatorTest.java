@@ -0,0 +1,52 @@
+// src/test/java/com/bidwhist/simulation/SelfPlaySimulatorTest.java
+
+package com.bidwhist.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.model.Difficulty;
+import org.junit.jupiter.api.Test;
+
+public class SelfPlaySimulatorTest {
+
+  @Test
+  void testGamePlaysToAWinner() {
+    GameOutcome outcome = SelfPlaySimulator.playGame(7L, Difficulty.HARD, Difficulty.MEDIUM);
+
+    assertNotNull(outcome.winner());
+    assertTrue(outcome.hands() > 0);
+    assertEquals(outcome.hands(), outcome.bids()[0] + outcome.bids()[1]);
+  }
+
+  @Test
+  void testSameSeedReplaysSameGame() {
+    GameOutcome first = SelfPlaySimulator.playGame(11L, Difficulty.HARD, Difficulty.EASY);
+    GameOutcome second = SelfPlaySimulator.playGame(11L, Difficulty.HARD, Difficulty.EASY);
+
+    assertEquals(first.winner(), second.winner());
+    assertEquals(first.hands(), second.hands());
+    assertArrayEquals(first.bidsMade(), second.bidsMade());
+  }
+
+  @Test
+  void testParallelRunReportsEveryGame() {
+    SimulationReport report =
+        new SelfPlaySimulator(4).run(24, 3L, Difficulty.HARD, Difficulty.EASY);
+
+    assertEquals(24, report.getGames());
+    assertEquals(24, report.getGamesPlayed(Difficulty.HARD));
+    assertEquals(24, report.getGamesPlayed(Difficulty.EASY));
+    assertEquals(
+        24 - report.getUnfinished(),
+        report.getWins(Difficulty.HARD) + report.getWins(Difficulty.EASY));
+    assertEquals(
+        report.getHands(), report.getBids(Difficulty.HARD) + report.getBids(Difficulty.EASY));
+
+    SimulationReport again = new SelfPlaySimulator(2).run(24, 3L, Difficulty.HARD, Difficulty.EASY);
+    assertEquals(report.getHands(), again.getHands());
+    assertEquals(report.getWins(Difficulty.HARD), again.getWins(Difficulty.HARD));
+  }
+}
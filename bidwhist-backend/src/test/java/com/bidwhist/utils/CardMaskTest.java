@@ -0,0 +1,85 @@
+// src/test/java/com/bidwhist/utils/CardMaskTest.java
+
+package com.bidwhist.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Hand;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import com.bidwhist.testUtils.TestCardUtil;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class CardMaskTest {
+
+  @Test
+  void testEveryCardHasUniqueIdAndRoundTrips() {
+    Set<Integer> ids = new HashSet<>();
+    for (Card card : TestCardUtil.getAllCards().values()) {
+      int id = CardMask.idOf(card);
+      assertTrue(ids.add(id));
+      assertEquals(card, CardMask.toCard(id));
+    }
+    assertEquals(CardMask.DECK_SIZE, ids.size());
+    assertEquals(CardMask.FULL_DECK, CardMask.maskOf(TestCardUtil.getAllCards().values()));
+  }
+
+  @Test
+  void testHandAdapterRoundTrips() {
+    Hand hand = new Hand();
+    hand.addCards(
+        new ArrayList<>(
+            List.of(
+                new Card(Suit.HEARTS, Rank.ACE),
+                new Card(Suit.CLUBS, Rank.TWO),
+                new Card(null, Rank.JOKER_B))));
+
+    long mask = hand.toMask();
+    assertEquals(3, CardMask.size(mask));
+    assertTrue(CardMask.contains(mask, new Card(Suit.CLUBS, Rank.TWO)));
+
+    List<Card> decoded = CardMask.toCards(mask, Suit.SPADES);
+    assertEquals(3, decoded.size());
+    assertEquals(Suit.SPADES, decoded.get(2).getSuit());
+    assertEquals(Rank.JOKER_B, decoded.get(2).getRank());
+  }
+
+  @Test
+  void testLegalMovesFollowLeadSuitWithJokersAsTrump() {
+    long hand =
+        CardMask.maskOf(
+            List.of(
+                new Card(Suit.SPADES, Rank.KING),
+                new Card(Suit.HEARTS, Rank.THREE),
+                new Card(null, Rank.JOKER_S)));
+
+    long hearts = CardMask.legalMoves(hand, Suit.HEARTS, Suit.SPADES);
+    assertEquals(1, CardMask.size(hearts));
+
+    long spades = CardMask.legalMoves(hand, Suit.SPADES, Suit.SPADES);
+    assertEquals(2, CardMask.size(spades));
+    assertTrue(CardMask.contains(spades, CardMask.JOKER_S));
+
+    assertEquals(hand, CardMask.legalMoves(hand, Suit.CLUBS, Suit.SPADES));
+    assertTrue(CardMask.isVoid(hand, Suit.DIAMONDS, null));
+    assertEquals(1, CardMask.countSuit(hand, Suit.SPADES, null));
+  }
+
+  @Test
+  void testVoidTrackingExcludesSuits() {
+    int voids = CardMask.markVoid(0, Suit.HEARTS);
+    assertTrue(CardMask.isMarkedVoid(voids, Suit.HEARTS));
+    assertFalse(CardMask.isMarkedVoid(voids, Suit.CLUBS));
+
+    long possible = CardMask.excludeVoids(CardMask.FULL_DECK, voids, null);
+    assertEquals(CardMask.DECK_SIZE - 13, CardMask.size(possible));
+    assertEquals(0, possible & CardMask.suitMask(Suit.HEARTS));
+  }
+}
@@ -0,0 +1,74 @@
+// src/test/java/com/bidwhist/utils/CardOrderingTest.java
+
+package com.bidwhist.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import org.junit.jupiter.api.Test;
+
+public class CardOrderingTest {
+
+  @Test
+  void testRankComparatorsAreCachedPerMode() {
+    assertSame(
+        Rank.rankComparator(BidType.UPTOWN, false), Rank.rankComparator(BidType.UPTOWN, false));
+    assertSame(
+        Rank.rankComparator(BidType.DOWNTOWN, true), Rank.rankComparator(BidType.NO_TRUMP, true));
+  }
+
+  @Test
+  void testWeightTableMatchesBidRules() {
+    int uptown = Rank.modeIndex(BidType.UPTOWN, false);
+    int downtown = Rank.modeIndex(BidType.DOWNTOWN, false);
+    int noUptown = Rank.modeIndex(BidType.UPTOWN, true);
+
+    assertTrue(Rank.weight(Rank.ACE, uptown) > Rank.weight(Rank.KING, uptown));
+    assertTrue(Rank.weight(Rank.JOKER_B, uptown) > Rank.weight(Rank.JOKER_S, uptown));
+    assertTrue(Rank.weight(Rank.TWO, downtown) > Rank.weight(Rank.KING, downtown));
+    assertTrue(Rank.weight(Rank.ACE, downtown) > Rank.weight(Rank.TWO, downtown));
+    assertTrue(Rank.weight(Rank.JOKER_B, noUptown) < Rank.weight(Rank.TWO, noUptown));
+  }
+
+  @Test
+  void testSuitedTrickKeysOrderJokerTrumpLeadOffSuit() {
+    int mode = Rank.modeIndex(BidType.UPTOWN, false);
+    Suit lead = Suit.HEARTS;
+    Suit trump = Suit.SPADES;
+
+    int joker = CardOrdering.trickKey(new Card(trump, Rank.JOKER_S), lead, trump, mode);
+    int lowTrump = CardOrdering.trickKey(new Card(trump, Rank.TWO), lead, trump, mode);
+    int aceLead = CardOrdering.trickKey(new Card(lead, Rank.ACE), lead, trump, mode);
+    int aceOff = CardOrdering.trickKey(new Card(Suit.CLUBS, Rank.ACE), lead, trump, mode);
+
+    assertTrue(joker > lowTrump);
+    assertTrue(lowTrump > aceLead);
+    assertTrue(aceLead > aceOff);
+  }
+
+  @Test
+  void testNoBidKeysOnlyLetLeadSuitWin() {
+    int mode = Rank.modeIndex(BidType.DOWNTOWN, true);
+    Suit lead = Suit.DIAMONDS;
+
+    assertEquals(
+        CardOrdering.INELIGIBLE,
+        CardOrdering.trickKey(new Card(null, Rank.JOKER_B), lead, null, mode));
+    assertEquals(
+        CardOrdering.INELIGIBLE,
+        CardOrdering.trickKey(new Card(Suit.CLUBS, Rank.ACE), lead, null, mode));
+    assertTrue(
+        CardOrdering.trickKey(new Card(lead, Rank.TWO), lead, null, mode)
+            > CardOrdering.trickKey(new Card(lead, Rank.KING), lead, null, mode));
+
+    int id = CardMask.idOf(new Card(lead, Rank.ACE));
+    assertEquals(
+        CardOrdering.trickKey(new Card(lead, Rank.ACE), lead, null, mode),
+        CardOrdering.trickKey(id, lead, null, mode));
+  }
+}
@@ -3,6 +3,7 @@
 package com.bidwhist.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.bidwhist.bidding.BidType;
 import com.bidwhist.bidding.FinalBid;
@@ -18,6 +19,7 @@ import com.bidwhist.model.Suit;
 import com.bidwhist.model.Team;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -116,4 +118,36 @@ class GameplayUtilsTest {
     assertEquals(-10, game.getTeamBScore());
     assertEquals(GamePhase.END, game.getPhase()); // still playing
   }
+
+  @Test
+  void testSameSeedDealsSameHands() {
+    GameState replay = new GameState("replay");
+    replay.setShuffleSeed(1234L);
+    game.setShuffleSeed(1234L);
+    for (Player player : List.of(p1, p2, p3, p4)) {
+      replay.addPlayer(
+          new Player(player.getName(), player.isAI(), player.getPosition(), player.getTeam()));
+    }
+
+    for (int hand = 0; hand < 3; hand++) {
+      GameplayUtils.shuffleDeck(game);
+      GameplayUtils.shuffleDeck(replay);
+      assertEquals(game.getShuffledDeck(), replay.getShuffledDeck());
+    }
+    assertEquals(1234L, replay.getShuffleSeed());
+  }
+
+  @Test
+  void testSeededShuffleIsPermutationAndVariesBySeed() {
+    game.setShuffleSeed(1L);
+    GameplayUtils.shuffleDeck(game);
+    List<Card> first = List.copyOf(game.getShuffledDeck());
+
+    game.setShuffleSeed(2L);
+    GameplayUtils.shuffleDeck(game);
+
+    assertEquals(54, new HashSet<>(first).size());
+    assertEquals(new HashSet<>(first), new HashSet<>(game.getShuffledDeck()));
+    assertNotEquals(first, game.getShuffledDeck());
+  }
 }
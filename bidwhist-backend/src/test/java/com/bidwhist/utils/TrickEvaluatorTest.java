@@ -0,0 +1,83 @@
+// src/test/java/com/bidwhist/utils/TrickEvaluatorTest.java
+
+package com.bidwhist.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bidwhist.bidding.BidType;
+import com.bidwhist.bidding.FinalBid;
+import com.bidwhist.model.Card;
+import com.bidwhist.model.GameState;
+import com.bidwhist.model.PlayedCard;
+import com.bidwhist.model.PlayerPos;
+import com.bidwhist.model.Rank;
+import com.bidwhist.model.Suit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TrickEvaluatorTest {
+
+  @Test
+  void testJokerBeatsTrumpInSuitedBid() {
+    GameState game = new GameState("gameId");
+    game.setBidType(BidType.UPTOWN);
+    game.setTrumpSuit(Suit.HEARTS);
+
+    List<PlayedCard> trick =
+        List.of(
+            new PlayedCard(PlayerPos.P1, new Card(Suit.SPADES, Rank.ACE)),
+            new PlayedCard(PlayerPos.P2, new Card(Suit.HEARTS, Rank.ACE)),
+            new PlayedCard(PlayerPos.P3, new Card(Suit.HEARTS, Rank.JOKER_S)),
+            new PlayedCard(PlayerPos.P4, new Card(Suit.HEARTS, Rank.JOKER_B)));
+
+    assertEquals(PlayerPos.P4, TrickEvaluator.determineWinner(game, trick).getPlayer());
+  }
+
+  @Test
+  void testEvaluationHasNoSideEffects() {
+    GameState game = new GameState("gameId");
+    game.setBidType(BidType.UPTOWN);
+    game.setTrumpSuit(Suit.HEARTS);
+
+    List<PlayedCard> trick =
+        List.of(
+            new PlayedCard(PlayerPos.P1, new Card(Suit.SPADES, Rank.FOUR)),
+            new PlayedCard(PlayerPos.P2, new Card(Suit.CLUBS, Rank.THREE)));
+
+    TrickEvaluator.determineWinner(game, trick);
+    assertTrue(HandUtils.getVoidMask(game, PlayerPos.P2) == 0);
+
+    HandUtils.recordSuitVoids(game, trick);
+    assertTrue(CardMask.isMarkedVoid(HandUtils.getVoidMask(game, PlayerPos.P2), Suit.SPADES));
+  }
+
+  @Test
+  void testNoBidWithoutEligibleCardThrows() {
+    GameState game = new GameState("gameId");
+    game.setBidType(BidType.DOWNTOWN);
+    game.setWinningBid(new FinalBid(PlayerPos.P1, 4, true, false, BidType.DOWNTOWN, null));
+
+    List<PlayedCard> trick = List.of(new PlayedCard(PlayerPos.P1, new Card(null, Rank.JOKER_B)));
+    assertThrows(IllegalStateException.class, () -> TrickEvaluator.determineWinner(game, trick));
+  }
+
+  @Test
+  void testIdTrickMatchesCardTrick() {
+    int mode = Rank.modeIndex(BidType.DOWNTOWN, false);
+    Card[] cards = {
+      new Card(Suit.DIAMONDS, Rank.KING),
+      new Card(Suit.DIAMONDS, Rank.TWO),
+      new Card(Suit.DIAMONDS, Rank.ACE),
+      new Card(Suit.CLUBS, Rank.TWO)
+    };
+    int[] ids = new int[4];
+    for (int i = 0; i < cards.length; i++) {
+      ids[i] = CardMask.idOf(cards[i]);
+    }
+
+    assertEquals(2, TrickEvaluator.winnerIndex(ids, 4, Suit.DIAMONDS, Suit.SPADES, mode));
+    assertEquals(1, TrickEvaluator.winnerIndex(ids, 2, Suit.DIAMONDS, Suit.SPADES, mode));
+  }
+}
@@ -1,6 +1,6 @@
 // src/App.jsx
 
-import React, { useEffect, useCallback } from 'react';
+import React, { useEffect, useCallback, useRef } from 'react';
 import './css/index.css';
 import './css/Card.css';
 import './css/Animations.css';
@@ -15,6 +15,7 @@ import { usePositionContext } from './context/PositionContext.jsx';
 import { useAlert } from './context/AlertContext.jsx';
 import { useThrowAlert } from './hooks/useThrowAlert.js';
 import HamburgerMenu from './components/HamburgerMenu.jsx';
+import { applyDelta, subscribeToGameEvents, withAnimation } from './utils/GameEvents.js';
 
 /*
  * Includes handling game start, updating game state from the backend, and rendering
@@ -176,34 +177,84 @@ function App() {
     }
   }, [gameId, viewerPosition]);
 
+  // Latest context callbacks for the event stream, which outlives individual renders
+  const streamHandlers = useRef({});
+  streamHandlers.current = { updateFromResponse, queueAnimationFromResponse, key };
+
   /*
-   * Polls the game state from the backend every 2 seconds.
+   * Follows the game over the backend's event stream for this seat: a full state on
+   * connect, then deltas and animations as they happen. Polls the game state every
+   * 2 seconds only while the stream is down, and stops once it reconnects.
    */
   useEffect(() => {
-    if (!playerName || !gameId) return;
+    if (!playerName || !gameId || !viewerPosition) return;
+
+    let state = null;
+    let pollInterval = null;
 
-    const interval = setInterval(async () => {
+    const apply = (data) => {
+      const { updateFromResponse, queueAnimationFromResponse, key } = streamHandlers.current;
+      state = data;
+      updateFromResponse(data);
+      queueAnimationFromResponse(data, key);
+    };
+
+    const poll = async () => {
       try {
         const res = await fetch(`${API}/game/state`, {
           method: 'POST',
           headers: { 'Content-Type': 'application/json' },
           body: JSON.stringify({ player: viewerPosition, gameId }),
         });
-
-        const data = await res.json();
-        const positions = Object.keys(backendPositions);
-        const viewerIndex = positions.indexOf(viewerPosition);
-
-        updateFromResponse(data);
-        queueAnimationFromResponse(data, key);
-        setMyTurn(currentTurnIndex === viewerIndex && phase === 'PLAY');
+        apply(await res.json());
       } catch (err) {
         console.error('Polling failed:', err);
       }
-    }, 2000);
+    };
+
+    const stopPolling = () => {
+      clearInterval(pollInterval);
+      pollInterval = null;
+    };
 
-    return () => clearInterval(interval);
-  }, [viewerPosition, currentTurnIndex, phase, gameId]);
+    const close = subscribeToGameEvents(API, gameId, viewerPosition, {
+      onState: (data) => {
+        stopPolling();
+        apply(data);
+      },
+      onDelta: (delta) => {
+        const merged = applyDelta(state, delta);
+        if (merged) {
+          apply(merged);
+        } else {
+          poll(); // missed a version; resync from the full state
+        }
+      },
+      onAnimation: (animation) => {
+        if (!state) return;
+        const { queueAnimationFromResponse, key } = streamHandlers.current;
+        state = withAnimation(state, animation);
+        queueAnimationFromResponse({ animationQueue: state.animationQueue }, key);
+      },
+      onError: () => {
+        console.warn('[App] Event stream failed; polling until it reconnects.');
+        if (!pollInterval) pollInterval = setInterval(poll, 2000);
+      },
+    });
+
+    return () => {
+      close();
+      stopPolling();
+    };
+  }, [playerName, viewerPosition, gameId]);
+
+  /*
+   * Marks whether it is the viewer's turn to play a card.
+   */
+  useEffect(() => {
+    const viewerIndex = Object.keys(backendPositions).indexOf(viewerPosition);
+    setMyTurn(currentTurnIndex === viewerIndex && phase === 'PLAY');
+  }, [backendPositions, viewerPosition, currentTurnIndex, phase]);
 
   /*
    * Updates which screen is shown based on the game mode and lobby size.
@@ -50,6 +50,7 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
     setShowFinalizeBid,
     setShowFinalScore,
     animationQueue,
+    queueAnimationFromResponse,
     setMyTurn,
     setTeamATricks,
     setTeamBTricks,
@@ -82,6 +83,9 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
 
   const [isOver, setIsOver] = useState(false); // Tracks if drag is over drop zone
   const [lastAnimation, setLastAnimation] = useState(null); // Prevents duplicate animation runs
+  const shownThrough = useRef(null); // Id of the last animation that finished running
+  const ackedThrough = useRef(null); // Id the backend was last told we are done through
+  const animationChain = useRef(Promise.resolve()); // Keeps animation runs one after another
   const [playAnimations, setPlayAnimations] = useState([]); // Currently running card play animations
   const [playedCardPosition, setPlayedCardPositions] = useState({}); // Positional cache of dropped cards
 
@@ -91,22 +95,74 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
   const savedMode = JSON.parse(localStorage.getItem('mode'));
   const API = import.meta.env.VITE_API_URL; // Server endpoint
 
-  /* Handles queued game animations like DEAL, PLAY, COLLECT, etc. */
+  /* Starts over when the viewer moves to another game */
+  useEffect(() => {
+    setLastAnimation(null);
+    shownThrough.current = null;
+    ackedThrough.current = null;
+  }, [gameId]);
+
+  /* Returns the ACK_ANIMATIONS command for animations shown but not yet acknowledged */
+  const pendingAck = () => {
+    const upTo = shownThrough.current;
+    if (upTo == null || upTo === ackedThrough.current) return null;
+    ackedThrough.current = upTo;
+    return { type: 'ACK_ANIMATIONS', upTo };
+  };
+
+  /* Tells the backend, in one call, that every animation shown so far has finished */
+  const ackAnimations = async () => {
+    const ack = pendingAck();
+    if (!ack) return;
+
+    const res = await fetch(`${API}/game/ack-animations`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ gameId, player: viewerPosition, upTo: ack.upTo }),
+    });
+    if (!res.ok) {
+      let data;
+      try {
+        data = await res.json();
+      } catch (e) {
+        data = { message: 'Something went wrong' };
+      }
+      throwAlert(data, 'error');
+    }
+  };
+
+  /* Applies a hand/kitty view from the backend to every seat */
+  const applyCards = (data) => {
+    data.players.forEach(({ position, hand }) => {
+      const direction = positionToDirection[position];
+      console.log(`[UPDATE_CARDS] setting hand for ${direction}:`, hand);
+      setHandFor(direction, hand);
+    });
+
+    setKitty(data.kitty);
+  };
+
+  /*
+   * Handles queued game animations like DEAL, PLAY, COLLECT, etc.
+   * Runs every animation not yet shown, in order, then acknowledges them all at once.
+   * A poll that brings newer animations mid-run queues them behind the current run.
+   */
   useEffect(() => {
     if (!animationQueue || animationQueue.length === 0) return;
 
-    const animation = animationQueue[0];
+    const pending = animationQueue.filter(
+      (anim) => anim && (lastAnimation == null || anim.id > lastAnimation)
+    );
+    if (pending.length === 0) return;
 
-    const thisTurn = animation?.currentTurnIndex !== undefined ? animation.currentTurnIndex : null;
+    setLastAnimation(pending[pending.length - 1].id);
 
     const positions = Object.keys(backendPositions);
     const viewerIndex = positions.indexOf(viewerPosition);
 
-    if (!animation || animation.id === lastAnimation) return;
+    const runAnimation = async (animation) => {
+      const thisTurn = animation.currentTurnIndex !== undefined ? animation.currentTurnIndex : null;
 
-    setLastAnimation(animation.id);
-
-    const runAnimation = async () => {
       if (animation.type === 'DEAL') {
         const requiredRefs = [
           'hand-south',
@@ -118,12 +174,9 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
           'play-north',
           'play-east',
         ];
-        const refsReady = requiredRefs.every((dir) => get(dir)?.current);
-
-        if (!refsReady) {
-          console.log('Refs not ready, retrying runAnimation in 50ms...');
-          setTimeout(runAnimation, 50);
-          return;
+        while (!requiredRefs.every((dir) => get(dir)?.current)) {
+          console.log('Refs not ready, retrying DEAL in 50ms...');
+          await delay(50);
         }
 
         const cards = players.flatMap((p) =>
@@ -159,8 +212,13 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
       if (animation.type === 'PLAY') {
         const { card, player } = animation;
         const direction = positionToDirection[player];
-        const fromRef = get(`zone-${direction}`);
-        const toRef = get(`play-${direction}`);
+        let fromRef = get(`zone-${direction}`);
+        let toRef = get(`play-${direction}`);
+        for (let retry = 0; retry < 10 && (!fromRef?.current || !toRef?.current); retry++) {
+          await delay(100);
+          fromRef = get(`zone-${direction}`);
+          toRef = get(`play-${direction}`);
+        }
 
         console.log('PLAY animation triggered');
         console.log('→ direction:', direction);
@@ -169,9 +227,6 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
 
         if (!fromRef?.current || !toRef?.current) {
           console.warn('Missing refs for PLAY animation', { fromRef, toRef });
-          setTimeout(() => {
-            animationQueue.unshift(animation); // retry animation
-          }, 100);
           return;
         }
 
@@ -245,25 +300,21 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
           setTeamBTricks((prev) => prev + 1);
         }
 
-        /* after animation completes, clear board state */
-        setTimeout(
-          () => {
-            setAnimatedCards([]);
-            setPlayedCardsByDirection({
-              north: null,
-              south: null,
-              east: null,
-              west: null,
-            });
-            if (
-              animation.currentTurnIndex === viewerIndex &&
-              animationQueue.some((anim) => anim.type === 'SHOW_WINNER')
-            ) {
-              throwAlert('Your turn', 'yourTurn');
-            }
-          },
-          cardList.length * 150 + 300
-        );
+        /* after animation completes, clear board state before the next trick is shown */
+        await delay(cardList.length * 150 + 300);
+        setAnimatedCards([]);
+        setPlayedCardsByDirection({
+          north: null,
+          south: null,
+          east: null,
+          west: null,
+        });
+        if (
+          animation.currentTurnIndex === viewerIndex &&
+          animationQueue.some((anim) => anim.type === 'SHOW_WINNER')
+        ) {
+          throwAlert('Your turn', 'yourTurn');
+        }
       }
 
       if (animation.type === 'CLEAR') {
@@ -292,13 +343,7 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
             return;
           }
 
-          data.players.forEach(({ position, hand }) => {
-            const direction = positionToDirection[position];
-            console.log(`[UPDATE_CARDS] setting hand for ${direction}:`, hand);
-            setHandFor(direction, hand);
-          });
-
-          setKitty(data.kitty);
+          applyCards(data);
         } catch (err) {
           console.error('[CardPlayZone] Error updating card data:', err);
         }
@@ -313,29 +358,19 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
       if (animation.type === 'QUIT_GAME') {
         throwAlert(animation, 'persist');
       }
+    };
 
-      /* Notify backend that the animation has finished */
-      const res2 = await fetch(`${API}/game/pop-animation`, {
-        method: 'POST',
-        headers: { 'Content-Type': 'application/json' },
-        body: JSON.stringify({
-          gameId,
-          player: viewerPosition,
-          animationId: animation.id,
-        }),
-      });
-      if (!res2.ok) {
-        let data;
-        try {
-          data = await res2.json();
-        } catch (e) {
-          data = { message: 'Something went wrong' };
-        }
-        throwAlert(data, 'error');
+    const runAnimations = async () => {
+      for (const animation of pending) {
+        await runAnimation(animation);
+        shownThrough.current = animation.id;
       }
+      await ackAnimations();
     };
 
-    runAnimation();
+    animationChain.current = animationChain.current
+      .then(runAnimations)
+      .catch((err) => console.error('[CardPlayZone] Animation run failed:', err));
   }, [animationQueue, lastAnimation, players, viewerPosition, backendPositions, deckPosition]);
 
   /* Tracks and updates the screen position of each played card */
@@ -403,17 +438,26 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
     setShowFinalizeBid(bidsComplete && iWonBid);
   }, [bids, winningPlayerName, bidWinnerPos, playerName]);
 
-  /* handleDrop: Processes a card being dropped into play by the player */
+  /*
+   * handleDrop: Processes a card being dropped into play by the player.
+   * One /batch call acknowledges finished animations, plays the card and fetches the
+   * updated hands, then applies the returned state without waiting for the next poll.
+   */
   const handleDrop = async (e) => {
     e.preventDefault();
     const rawData = e.dataTransfer.getData('application/json');
     if (!rawData || !isOver) return;
     const card = JSON.parse(rawData);
 
-    const res3 = await fetch(`${API}/game/play`, {
+    const commands = [];
+    const ack = pendingAck();
+    if (ack) commands.push(ack);
+    commands.push({ type: 'PLAY', card }, { type: 'FETCH_CARDS' });
+
+    const res3 = await fetch(`${API}/game/batch`, {
       method: 'POST',
       headers: { 'Content-Type': 'application/json' },
-      body: JSON.stringify({ gameId, player: viewerPosition, card }),
+      body: JSON.stringify({ gameId, player: viewerPosition, commands }),
     });
 
     const data = await res3.json();
@@ -423,6 +467,12 @@ export default function CardPlayZone({ dropZoneRef, yourTrickRef, theirTrickRef,
       return;
     }
 
+    updateFromResponse(data.state);
+    queueAnimationFromResponse(data.state, key);
+    if (data.hand) {
+      applyCards(data.hand);
+    }
+
     if (positionToDirection[viewerPosition] === 'south') {
       setPlayedCard(card);
       onCardPlayed?.(card);
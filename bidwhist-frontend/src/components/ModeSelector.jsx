@@ -164,6 +164,7 @@ function ModeSelector({ onStartGame }) {
               <option value="EASY">Easy</option>
               <option value="MEDIUM">Medium</option>
               <option value="HARD">Hard</option>
+              <option value="EXPERT">Expert</option>
             </select>
             <button className="index-button" onClick={handleStart}>
               Start Game
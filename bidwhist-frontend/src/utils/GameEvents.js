@@ -0,0 +1,74 @@
+// src/utils/GameEvents.js
+
+const DELTA_META_KEYS = ['version', 'baseVersion', 'full', 'cleared', 'hands', 'newBids'];
+
+/**
+ * Applies a state delta from the backend to the last full state the client holds.
+ *
+ * @param {Object|null} state - The current full game state, or null if none yet
+ * @param {Object} delta - A GameStateDelta received from the backend
+ * @returns {Object|null} The merged state, or null if the delta does not apply to this state
+ */
+export function applyDelta(state, delta) {
+  if (!delta.full && (!state || state.version !== delta.baseVersion)) {
+    return null;
+  }
+
+  const merged = delta.full ? {} : { ...state };
+  for (const [field, value] of Object.entries(delta)) {
+    if (!DELTA_META_KEYS.includes(field)) {
+      merged[field] = value;
+    }
+  }
+  // Full states omit null fields, so a cleared field is dropped to match one
+  for (const field of delta.cleared ?? []) {
+    delete merged[field];
+  }
+  if (delta.newBids) {
+    merged.bids = [...(merged.bids ?? []), ...delta.newBids];
+  }
+  if (delta.hands && merged.players) {
+    merged.players = merged.players.map((p) =>
+      p.position in delta.hands ? { ...p, hand: delta.hands[p.position] } : p,
+    );
+  }
+
+  merged.version = delta.version;
+  return merged;
+}
+
+/**
+ * Adds a pushed animation to the state's animation queue unless it is already queued.
+ *
+ * @param {Object} state - The current full game state
+ * @param {Object} animation - An animation received from the backend
+ * @returns {Object} The state with the animation queued
+ */
+export function withAnimation(state, animation) {
+  const queue = state.animationQueue ?? [];
+  if (queue.some((a) => a.id === animation.id)) {
+    return state;
+  }
+  return { ...state, animationQueue: [...queue, animation] };
+}
+
+/**
+ * Subscribes to the backend's event stream for one seat of a game.
+ *
+ * @param {string} api - The backend base URL
+ * @param {string} gameId - The game to follow
+ * @param {string} player - The backend position of the viewer (e.g., 'P1')
+ * @param {Object} handlers - onState, onDelta, onAnimation and onError callbacks
+ * @returns {Function} Closes the stream
+ */
+export function subscribeToGameEvents(api, gameId, player, handlers) {
+  const params = new URLSearchParams({ gameId, player });
+  const source = new EventSource(`${api}/game/events?${params}`);
+
+  source.addEventListener('state', (e) => handlers.onState(JSON.parse(e.data)));
+  source.addEventListener('delta', (e) => handlers.onDelta(JSON.parse(e.data)));
+  source.addEventListener('animation', (e) => handlers.onAnimation(JSON.parse(e.data)));
+  source.onerror = () => handlers.onError(source);
+
+  return () => source.close();
+}
@@ -0,0 +1,55 @@
+// src/utils/__tests__/GameEvents.test.js
+
+import { describe, it, expect } from 'vitest';
+import { applyDelta, withAnimation } from '../GameEvents';
+
+describe('applyDelta', () => {
+  const state = {
+    version: 3,
+    phase: 'BID',
+    trumpSuit: 'HEARTS',
+    bids: [{ player: 'P1', value: 4 }],
+    players: [
+      { position: 'P1', name: 'Alice', hand: [{ rank: 'ACE', suit: 'SPADES' }] },
+      { position: 'P2', name: 'Bob', hand: [] },
+    ],
+  };
+
+  it('replaces the state with a full delta', () => {
+    const result = applyDelta(null, { version: 1, full: true, phase: 'SHUFFLE' });
+    expect(result).toEqual({ version: 1, phase: 'SHUFFLE' });
+  });
+
+  it('merges changed, cleared and appended fields', () => {
+    const result = applyDelta(state, {
+      version: 4,
+      baseVersion: 3,
+      phase: 'KITTY',
+      cleared: ['trumpSuit'],
+      newBids: [{ player: 'P2', value: 5 }],
+      hands: { P1: [] },
+    });
+
+    expect(result.version).toBe(4);
+    expect(result.phase).toBe('KITTY');
+    expect('trumpSuit' in result).toBe(false);
+    expect(result.bids).toHaveLength(2);
+    expect(result.players[0].hand).toEqual([]);
+    expect(result.players[1]).toBe(state.players[1]);
+    expect(state.phase).toBe('BID');
+  });
+
+  it('rejects a delta based on another version', () => {
+    expect(applyDelta(state, { version: 6, baseVersion: 5, phase: 'PLAY' })).toBeNull();
+  });
+});
+
+describe('withAnimation', () => {
+  it('queues a new animation once', () => {
+    const state = { animationQueue: [{ id: 1 }] };
+    const queued = withAnimation(state, { id: 2 });
+
+    expect(queued.animationQueue.map((a) => a.id)).toEqual([1, 2]);
+    expect(withAnimation(queued, { id: 2 })).toBe(queued);
+  });
+});